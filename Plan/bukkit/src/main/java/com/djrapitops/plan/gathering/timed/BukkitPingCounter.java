@@ -24,7 +24,6 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -65,7 +64,7 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
 
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingHistory> playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -149,12 +148,12 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingHistory>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingHistory> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingHistory history = entry.getValue();
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
                 int ping = getPing(player);
@@ -162,10 +161,10 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
+                history.add(time, ping);
+                if (history.isFull()) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, history.toPing(serverInfo.getServerUUID()))
                     );
                     history.clear();
                 }
@@ -176,7 +175,7 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.put(uuid, new PingHistory());
     }
 
     public void removePlayer(Player player) {
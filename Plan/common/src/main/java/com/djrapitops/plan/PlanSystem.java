@@ -231,9 +231,9 @@ public class PlanSystem implements SubSystem {
                 listenerSystem,
                 importSystem,
                 exportSystem,
+                webServerSystem,
                 processing,
                 databaseSystem,
-                webServerSystem,
                 serverInfo,
                 localeSystem,
                 configSystem,
@@ -22,6 +22,7 @@ import com.djrapitops.plan.commands.use.ColorScheme;
 import com.djrapitops.plan.commands.use.MessageBuilder;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.webserver.cache.PrecomputedPlayerJSON;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.BaseUser;
 import com.djrapitops.plan.identification.Identifiers;
@@ -57,6 +58,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -77,6 +79,7 @@ public class DatabaseCommands {
     private final PluginStatusCommands statusCommands;
     private final ErrorLogger errorLogger;
     private final Processing processing;
+    private final PrecomputedPlayerJSON precomputedPlayerJSON;
 
     private final Formatter<Long> timestamp;
     private final Formatter<Long> clock;
@@ -96,7 +99,8 @@ public class DatabaseCommands {
             Identifiers identifiers,
             PluginStatusCommands statusCommands,
             ErrorLogger errorLogger,
-            Processing processing
+            Processing processing,
+            PrecomputedPlayerJSON precomputedPlayerJSON
     ) {
         this.locale = locale;
         this.confirmation = confirmation;
@@ -114,6 +118,7 @@ public class DatabaseCommands {
         this.timestamp = formatters.iso8601NoClockLong();
         clock = formatters.clockLong();
         this.processing = processing;
+        this.precomputedPlayerJSON = precomputedPlayerJSON;
     }
 
     public void onBackup(CMDSender sender, @Untrusted Arguments arguments) {
@@ -140,7 +145,7 @@ public class DatabaseCommands {
             sender.send(locale.getString(CommandLang.DB_BACKUP_CREATE, fileName, dbName));
             toDB = sqliteFactory.usingFileCalled(fileName);
             toDB.init();
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, BackupCopyTransaction.DEFAULT_CHUNK_SIZE, progressReporter(sender))).get();
         } catch (DBOpException | ExecutionException e) {
             errorLogger.error(e, ErrorContext.builder().related(sender, arguments).build());
         } catch (InterruptedException e) {
@@ -153,6 +158,10 @@ public class DatabaseCommands {
         }
     }
 
+    private BiConsumer<Long, Long> progressReporter(CMDSender sender) {
+        return (copied, total) -> sender.send(locale.getString(CommandLang.PROGRESS, copied, total));
+    }
+
     public void onRestore(CMDSender sender, @Untrusted Arguments arguments) {
         @Untrusted String backupDbName = arguments.get(0)
                 .orElseThrow(() -> new IllegalArgumentException(locale.getString(CommandLang.FAIL_REQ_ARGS, 1, "<" + locale.getString(HelpLang.ARG_BACKUP_FILE) + ">")));
@@ -199,7 +208,7 @@ public class DatabaseCommands {
             fromDB.init();
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getType().getName()));
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, BackupCopyTransaction.DEFAULT_CHUNK_SIZE, progressReporter(sender))).get();
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -242,7 +251,7 @@ public class DatabaseCommands {
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getName()));
 
-            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase)).get();
+            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase, BackupCopyTransaction.DEFAULT_CHUNK_SIZE, progressReporter(sender))).get();
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
 
@@ -284,6 +293,7 @@ public class DatabaseCommands {
             fromDatabase.executeTransaction(new RemoveEverythingTransaction())
                     .get(); // Wait for completion
             queryService.dataCleared();
+            precomputedPlayerJSON.removeAll();
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
 
             // Reload plugin to register the server into the database
@@ -359,6 +369,7 @@ public class DatabaseCommands {
             queryService.playerRemoved(playerToRemove);
             database.executeTransaction(new RemovePlayerTransaction(playerToRemove))
                     .get(); // Wait for completion
+            precomputedPlayerJSON.remove(playerToRemove);
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
@@ -437,6 +448,7 @@ public class DatabaseCommands {
             int move = 0;
 
             List<Transaction> transactions = new ArrayList<>();
+            Set<UUID> changedPlayers = new HashSet<>();
 
             for (BaseUser user : baseUsersByUUID.values()) {
                 String playerName = user.getName();
@@ -445,11 +457,16 @@ public class DatabaseCommands {
 
                 if (actualUUID == null) {
                     offlineOnlyUsers++;
-                    if (removeOfflinePlayers) transactions.add(new RemovePlayerTransaction(recordedUUID));
+                    if (removeOfflinePlayers) {
+                        transactions.add(new RemovePlayerTransaction(recordedUUID));
+                        changedPlayers.add(recordedUUID);
+                    }
                 }
                 if (actualUUID == null || recordedUUID.equals(actualUUID)) {
                     continue;
                 }
+                changedPlayers.add(recordedUUID);
+                changedPlayers.add(actualUUID);
                 BaseUser alreadyExistingProfile = baseUsersByUUID.get(actualUUID);
                 if (alreadyExistingProfile == null) {
                     move++;
@@ -472,6 +489,7 @@ public class DatabaseCommands {
             confirmation.confirm(sender, prompt, choice -> {
                 if (Boolean.TRUE.equals(choice)) {
                     transactions.forEach(dbSystem.getDatabase()::executeTransaction);
+                    changedPlayers.forEach(precomputedPlayerJSON::remove);
                     dbSystem.getDatabase().executeTransaction(new Transaction() {
                         @Override
                         protected void performOperations() {
@@ -26,6 +26,8 @@ import com.djrapitops.plan.settings.locale.lang.CommandLang;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.TransactionQueueMetrics;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
@@ -35,6 +37,9 @@ import net.playeranalytics.plugin.PluginInformation;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @Singleton
 public class PluginStatusCommands {
@@ -110,17 +115,25 @@ public class PluginStatusCommands {
         String proxyAvailable = database.query(ServerQueries.fetchProxyServers()).isEmpty() ? no : yes;
 
 
-        String[] messages = {
+        List<String> messages = new ArrayList<>(Arrays.asList(
                 locale.getString(CommandLang.HEADER_INFO),
                 "",
                 locale.getString(CommandLang.INFO_VERSION, pluginInformation.getVersion()),
                 locale.getString(CommandLang.INFO_UPDATE, updateAvailable),
-                locale.getString(CommandLang.INFO_DATABASE, database.getType().getName() + " (" + database.getState().name() + ")"),
-                locale.getString(CommandLang.INFO_PROXY_CONNECTION, proxyAvailable),
-                locale.getString(CommandLang.INFO_SERVER_UUID, serverInfo.getServerUUID()),
-                "",
-                ">"
-        };
-        sender.send(messages);
+                locale.getString(CommandLang.INFO_DATABASE, database.getType().getName() + " (" + database.getState().name() + ")")
+        ));
+        if (database instanceof SQLDB) {
+            SQLDB sqldb = (SQLDB) database;
+            TransactionQueueMetrics queueMetrics = sqldb.getTransactionQueueMetrics();
+            messages.add(locale.getString(CommandLang.INFO_DATABASE_QUEUE,
+                    sqldb.getTransactionQueueSize(),
+                    String.format("%.1f", queueMetrics.getAverageBatchSize()),
+                    queueMetrics.getAverageCommitLatencyMs()));
+        }
+        messages.add(locale.getString(CommandLang.INFO_PROXY_CONNECTION, proxyAvailable));
+        messages.add(locale.getString(CommandLang.INFO_SERVER_UUID, serverInfo.getServerUUID()));
+        messages.add("");
+        messages.add(">");
+        sender.send(messages.toArray(new String[0]));
     }
 }
@@ -18,6 +18,7 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.RetentionData;
+import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.datatransfer.ServerDto;
 import com.djrapitops.plan.delivery.domain.mutators.PlayerKillMutator;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
@@ -26,6 +27,7 @@ import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
 import com.djrapitops.plan.extension.implementation.results.ExtensionTabData;
+import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionQueryResultTableDataQuery;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerTableDataQuery;
 import com.djrapitops.plan.gathering.ServerUptimeCalculator;
 import com.djrapitops.plan.gathering.cache.SessionCache;
@@ -43,11 +45,13 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.TablePlayersPage;
 import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Maps;
@@ -56,6 +60,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -118,6 +123,18 @@ public class JSONFactory {
 
         Database database = dbSystem.getDatabase();
 
+        return new PlayersTableJSONCreator(
+                database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
+                networkPlayersTableExtensionData(serverUUID -> new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers)),
+                openPlayerLinksInNewTab,
+                formatters, locale,
+                true // players page
+        );
+    }
+
+    private Map<UUID, ExtensionTabData> networkPlayersTableExtensionData(Function<ServerUUID, Query<Map<UUID, ExtensionTabData>>> extensionDataQuery) {
+        Database database = dbSystem.getDatabase();
+
         List<ServerUUID> mainServerUUIDs = database.query(ServerQueries.fetchProxyServers())
                 .stream()
                 .map(Server::getUuid)
@@ -127,7 +144,7 @@ public class JSONFactory {
         Map<UUID, ExtensionTabData> allPluginData = new HashMap<>();
 
         for (ServerUUID serverUUID : mainServerUUIDs) {
-            Map<UUID, ExtensionTabData> pluginData = database.query(new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers));
+            Map<UUID, ExtensionTabData> pluginData = database.query(extensionDataQuery.apply(serverUUID));
             for (Map.Entry<UUID, ExtensionTabData> entry : pluginData.entrySet()) {
                 UUID playerUUID = entry.getKey();
                 ExtensionTabData dataFromServer = entry.getValue();
@@ -139,15 +156,81 @@ public class JSONFactory {
                 }
             }
         }
+        return allPluginData;
+    }
 
+    /**
+     * Create /server page players table json, writing rows as they are read from the database.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Json of {@link com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto}.
+     */
+    public String serverPlayerListJSON(ServerUUID serverUUID) {
+        Integer xMostRecentPlayers = config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE);
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
-        return new PlayersTableJSONCreator(
-                database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
-                allPluginData,
-                openPlayerLinksInNewTab,
-                formatters, locale,
-                true // players page
-        );
+        Database database = dbSystem.getDatabase();
+        ServerTablePlayersQuery query = new ServerTablePlayersQuery(serverUUID, System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers);
+        return new PlayerListJSONWriter(database.query(new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers)))
+                .write(consumer -> database.query(query.forEachPlayer(consumer)));
+    }
+
+    /**
+     * Create /players page players table json, writing rows as they are read from the database.
+     *
+     * @return Json of {@link com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto}.
+     */
+    public String networkPlayerListJSON() {
+        Integer xMostRecentPlayers = config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE);
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+
+        Database database = dbSystem.getDatabase();
+        NetworkTablePlayersQuery query = new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers);
+        return new PlayerListJSONWriter(networkPlayersTableExtensionData(serverUUID -> new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers)))
+                .write(consumer -> database.query(query.forEachPlayer(consumer)));
+    }
+
+    /**
+     * Create a page of /server page players table json.
+     *
+     * @param serverUUID UUID of the server.
+     * @param page       Which players to include.
+     * @return Json of {@link com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto} with page information.
+     */
+    public String serverPlayerListPageJSON(ServerUUID serverUUID, TablePlayersPage page) {
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+
+        Database database = dbSystem.getDatabase();
+        ServerTablePlayersQuery query = new ServerTablePlayersQuery(serverUUID, System.currentTimeMillis(), playtimeThreshold, page);
+        List<TablePlayer> players = database.query(query);
+        Set<Integer> userIds = database.query(UserIdentifierQueries.fetchUserIds(getPlayerUUIDs(players)));
+        Map<UUID, ExtensionTabData> extensionData = userIds.isEmpty() ? Collections.emptyMap()
+                : database.query(new ExtensionQueryResultTableDataQuery(serverUUID, userIds));
+        return new PlayerListJSONWriter(extensionData)
+                .writePage(players::forEach, page, database.query(query.countPlayers()));
+    }
+
+    /**
+     * Create a page of /players page players table json.
+     *
+     * @param page Which players to include.
+     * @return Json of {@link com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto} with page information.
+     */
+    public String networkPlayerListPageJSON(TablePlayersPage page) {
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+
+        Database database = dbSystem.getDatabase();
+        NetworkTablePlayersQuery query = new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, page);
+        List<TablePlayer> players = database.query(query);
+        Set<Integer> userIds = database.query(UserIdentifierQueries.fetchUserIds(getPlayerUUIDs(players)));
+        Map<UUID, ExtensionTabData> extensionData = userIds.isEmpty() ? Collections.emptyMap()
+                : networkPlayersTableExtensionData(serverUUID -> new ExtensionQueryResultTableDataQuery(serverUUID, userIds));
+        return new PlayerListJSONWriter(extensionData)
+                .writePage(players::forEach, page, database.query(query.countPlayers()));
+    }
+
+    private static List<UUID> getPlayerUUIDs(List<TablePlayer> players) {
+        return players.stream().map(TablePlayer::getPlayerUUID).collect(Collectors.toList());
     }
 
     public List<RetentionData> playerRetentionAsJSONMap(ServerUUID serverUUID) {
@@ -19,6 +19,7 @@ package com.djrapitops.plan.delivery.rendering.json;
 import com.djrapitops.plan.delivery.domain.auth.WebPermission;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.datatransfer.extension.ExtensionsDto;
+import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.mutators.*;
 import com.djrapitops.plan.delivery.formatting.Formatter;
@@ -52,6 +53,8 @@ import com.djrapitops.plan.utilities.java.Maps;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -90,8 +93,10 @@ public class PlayerJSONCreator {
     public Map<String, Object> createJSONAsMap(UUID playerUUID, Predicate<WebPermission> hasPermission) {
         Database db = dbSystem.getDatabase();
 
+        CompletableFuture<PlayerContainer> loadingPlayer = new PlayerContainerQuery(playerUUID)
+                .executeAsync(db, getNeededKeys(hasPermission));
         Map<ServerUUID, String> serverNames = db.query(ServerQueries.fetchServerNames());
-        PlayerContainer player = db.query(new PlayerContainerQuery(playerUUID));
+        PlayerContainer player = waitFor(loadingPlayer);
         SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
 
         PingMutator.forContainer(player).addPingToSessions(sessionsMutator.all());
@@ -151,6 +156,35 @@ public class PlayerJSONCreator {
         return data;
     }
 
+    private List<Key<?>> getNeededKeys(Predicate<WebPermission> hasPermission) {
+        List<Key<?>> keys = new ArrayList<>();
+        keys.add(PlayerKeys.NAME);
+        keys.add(PlayerKeys.SESSIONS);
+        keys.add(PlayerKeys.PING);
+        if (hasPermission.test(WebPermission.PAGE_PLAYER_OVERVIEW)) {
+            keys.add(PlayerKeys.NICKNAMES);
+            keys.add(PlayerKeys.GEO_INFO);
+            keys.add(PlayerKeys.PLAYER_KILL_COUNT);
+        }
+        if (hasPermission.test(WebPermission.PAGE_PLAYER_SESSIONS)) {
+            keys.add(PlayerKeys.WORLD_TIMES);
+        }
+        if (hasPermission.test(WebPermission.PAGE_PLAYER_VERSUS)) {
+            keys.add(PlayerKeys.PLAYER_KILLS);
+            keys.add(PlayerKeys.PLAYER_DEATHS_KILLS);
+        }
+        return keys;
+    }
+
+    private static PlayerContainer waitFor(CompletableFuture<PlayerContainer> loadingPlayer) {
+        try {
+            return loadingPlayer.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
     private Map<String, Object> createPingGraphJson(PlayerContainer player) {
         PingGraph pingGraph = graphs.line().pingGraph(player.getUnsafe(PlayerKeys.PING));
         return Maps.builder(String.class, Object.class)
@@ -0,0 +1,152 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto;
+import com.djrapitops.plan.delivery.domain.datatransfer.extension.ExtensionDescriptionDto;
+import com.djrapitops.plan.delivery.domain.datatransfer.extension.ExtensionTabDataDto;
+import com.djrapitops.plan.delivery.domain.datatransfer.extension.ExtensionValueDataDto;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.extension.implementation.results.ExtensionDescription;
+import com.djrapitops.plan.extension.implementation.results.ExtensionTabData;
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.TablePlayersPage;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Writes players table json as the players are read from the database.
+ * <p>
+ * Produces the same json as {@link PlayerListDto}, but rows are written one at a time instead of
+ * holding a list of {@link TablePlayer}s and their {@link com.djrapitops.plan.delivery.domain.datatransfer.TablePlayerDto}s
+ * in memory before serialization.
+ *
+ * @author AuroraLS3
+ */
+public class PlayerListJSONWriter {
+
+    private final Gson gson;
+    private final Map<UUID, ExtensionTabData> extensionData;
+    private final List<ExtensionDescription> extensionDescriptions;
+
+    public PlayerListJSONWriter(Map<UUID, ExtensionTabData> extensionData) {
+        this.gson = new Gson();
+        this.extensionData = extensionData;
+        this.extensionDescriptions = PlayersTableJSONCreator.getSortedExtensionDescriptions(extensionData);
+    }
+
+    /**
+     * Write the players table json.
+     *
+     * @param playerSource Function that gives every player of the table to the given consumer, in order.
+     *                     For example {@code consumer -> db.query(query.forEachPlayer(consumer))}
+     * @return The json.
+     */
+    public String write(Consumer<Consumer<TablePlayer>> playerSource) {
+        return write(playerSource, null, 0);
+    }
+
+    /**
+     * Write a page of the players table json.
+     * <p>
+     * In addition to the players the json contains {@code page}, {@code pageSize} and {@code totalPlayers}.
+     *
+     * @param playerSource Function that gives every player of the page to the given consumer, in order.
+     * @param page         The page that the players are from.
+     * @param totalPlayers Number of players on all pages.
+     * @return The json.
+     */
+    public String writePage(Consumer<Consumer<TablePlayer>> playerSource, TablePlayersPage page, int totalPlayers) {
+        return write(playerSource, page, totalPlayers);
+    }
+
+    private String write(Consumer<Consumer<TablePlayer>> playerSource, TablePlayersPage page, int totalPlayers) {
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = gson.newJsonWriter(out)) {
+            writer.beginObject();
+            writer.name("players").beginArray();
+            playerSource.accept(player -> writePlayer(writer, player));
+            writer.endArray();
+            writer.name("extensionDescriptors").beginArray();
+            for (ExtensionDescription description : extensionDescriptions) {
+                gson.toJson(new ExtensionDescriptionDto(description), ExtensionDescriptionDto.class, writer);
+            }
+            writer.endArray();
+            if (page != null) {
+                writer.name("page").value(page.getLimit() > 0 ? page.getOffset() / page.getLimit() : 0);
+                writer.name("pageSize").value(page.getLimit());
+                writer.name("totalPlayers").value(totalPlayers);
+            }
+            writer.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private void writePlayer(JsonWriter writer, TablePlayer player) {
+        try {
+            UUID playerUUID = player.getPlayerUUID();
+            writer.beginObject();
+            writer.name("playerUUID").value(playerUUID.toString());
+            writer.name("playerName").value(player.getName().orElseGet(playerUUID::toString));
+            writer.name("activityIndex").value(player.getCurrentActivityIndex().map(ActivityIndex::getValue).orElse(0.0));
+            Optional<Long> activePlaytime = player.getActivePlaytime();
+            if (activePlaytime.isPresent()) writer.name("playtimeActive").value(activePlaytime.get());
+            writer.name("sessionCount").value(player.getSessionCount().orElse(0));
+            Optional<Long> lastSeen = player.getLastSeen();
+            if (lastSeen.isPresent()) writer.name("lastSeen").value(lastSeen.get());
+            Optional<Long> registered = player.getRegistered();
+            if (registered.isPresent()) writer.name("registered").value(registered.get());
+            Optional<String> country = player.getGeolocation();
+            if (country.isPresent()) writer.name("country").value(country.get());
+            Ping ping = player.getPing();
+            if (ping != null) {
+                writer.name("pingAverage").value(ping.getAverage());
+                writer.name("pingMax").value(ping.getMax());
+                writer.name("pingMin").value(ping.getMin());
+            }
+            writer.name("extensionValues");
+            writeExtensionValues(writer, extensionData.get(playerUUID));
+            writer.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeExtensionValues(JsonWriter writer, ExtensionTabData tabData) throws IOException {
+        writer.beginObject();
+        if (tabData != null) {
+            for (ExtensionDescription description : tabData.getDescriptions()) {
+                String name = description.getName();
+                Optional<ExtensionValueDataDto> value = ExtensionTabDataDto.mapToValue(tabData, name);
+                if (value.isPresent()) {
+                    writer.name(name);
+                    gson.toJson(value.get(), ExtensionValueDataDto.class, writer);
+                }
+            }
+        }
+        writer.endObject();
+    }
+}
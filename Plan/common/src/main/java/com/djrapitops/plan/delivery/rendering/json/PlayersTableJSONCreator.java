@@ -87,9 +87,7 @@ public class PlayersTableJSONCreator {
         this.locale = locale;
         this.playersPage = playersPage;
 
-        extensionDescriptions = new ArrayList<>();
-        addExtensionDescriptions(extensionData);
-        extensionDescriptions.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
+        extensionDescriptions = getSortedExtensionDescriptions(extensionData);
 
         // Settings
         this.openPlayerPageInNewTab = openPlayerPageInNewTab;
@@ -103,7 +101,8 @@ public class PlayersTableJSONCreator {
         this.decimalFormatter = formatters.decimals();
     }
 
-    private void addExtensionDescriptions(Map<UUID, ExtensionTabData> extensionData) {
+    static List<ExtensionDescription> getSortedExtensionDescriptions(Map<UUID, ExtensionTabData> extensionData) {
+        List<ExtensionDescription> extensionDescriptions = new ArrayList<>();
         Set<String> foundDescriptions = new HashSet<>();
         for (ExtensionTabData tabData : extensionData.values()) {
             for (ExtensionDescription description : tabData.getDescriptions()) {
@@ -113,6 +112,8 @@ public class PlayersTableJSONCreator {
                 }
             }
         }
+        extensionDescriptions.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
+        return extensionDescriptions;
     }
 
     /**
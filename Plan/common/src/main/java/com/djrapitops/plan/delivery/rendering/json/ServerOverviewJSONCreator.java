@@ -31,7 +31,7 @@ import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryFanOut;
 import com.djrapitops.plan.storage.database.queries.ServerAggregateQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
@@ -43,9 +43,11 @@ import com.djrapitops.plan.utilities.analysis.Percentage;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Server Overview tab.
@@ -98,23 +100,29 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
     }
 
     private Map<String, Object> createLast7DaysMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
+        Supplier<Integer> uniquePlayers = queries.submit(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> uniquePlayersDay = queries.submit(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID));
+        Supplier<Integer> newPlayers = queries.submit(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> retainedPlayers = queries.submit(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        Supplier<List<TPS>> tpsData = queries.submit(TPSQueries.fetchTPSDataOfServer(weekAgo, now, serverUUID));
+
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        sevenDays.put("unique_players_day", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID)));
+        sevenDays.put("unique_players", uniquePlayers.get());
+        sevenDays.put("unique_players_day", uniquePlayersDay.get());
 
-        int new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        int new7d = newPlayers.get();
+        int retained7d = retainedPlayers.get();
         double retentionPercentage7d = Percentage.calculate(retained7d, new7d, -1);
 
         sevenDays.put("new_players", new7d);
         sevenDays.put("new_players_retention", retained7d);
         sevenDays.put("new_players_retention_perc", percentage.apply(retentionPercentage7d));
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(weekAgo, now, serverUUID)));
+        TPSMutator tpsMutator = new TPSMutator(tpsData.get());
         double averageTPS = tpsMutator.averageTPS();
         sevenDays.put("average_tps", averageTPS != -1 ? decimals.apply(averageTPS) : GenericLang.UNAVAILABLE.getKey());
         sevenDays.put("low_tps_spikes", tpsMutator.lowTpsSpikeCount(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
@@ -124,79 +132,110 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
     }
 
     private Map<String, Object> createNumbersMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         long now = System.currentTimeMillis();
         long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        Supplier<Integer> users = queries.submit(ServerAggregateQueries.serverUserCount(serverUUID));
+        Supplier<Integer> regularPlayers = queries.submit(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<Object> onlinePlayers = getOnlinePlayers(serverUUID, queries);
+        Supplier<Optional<DateObj<Integer>>> lastPeakPlayers = queries.submit(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Supplier<Optional<DateObj<Integer>>> allTimePeakPlayers = queries.submit(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Supplier<Long> playtime = queries.submit(SessionQueries.playtime(0L, now, serverUUID));
+        Supplier<Long> sessions = queries.submit(SessionQueries.sessionCount(0L, now, serverUUID));
+        Supplier<Long> playerKills = queries.submit(KillQueries.playerKillCount(0L, now, serverUUID));
+        Supplier<Long> mobKills = queries.submit(KillQueries.mobKillCount(0L, now, serverUUID));
+        Supplier<Long> deaths = queries.submit(KillQueries.deathCount(0L, now, serverUUID));
+
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(ServerAggregateQueries.serverUserCount(serverUUID));
+        Integer userCount = users.get();
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold)));
-        numbers.put("online_players", getOnlinePlayers(serverUUID, db));
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        numbers.put("regular_players", regularPlayers.get());
+        numbers.put("online_players", onlinePlayers.get());
+        Optional<DateObj<Integer>> lastPeak = lastPeakPlayers.get();
+        Optional<DateObj<Integer>> allTimePeak = allTimePeakPlayers.get();
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now, serverUUID));
+        Long totalPlaytime = playtime.get();
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        numbers.put("sessions", db.query(SessionQueries.sessionCount(0L, now, serverUUID)));
-        numbers.put("player_kills", db.query(KillQueries.playerKillCount(0L, now, serverUUID)));
-        numbers.put("mob_kills", db.query(KillQueries.mobKillCount(0L, now, serverUUID)));
-        numbers.put("deaths", db.query(KillQueries.deathCount(0L, now, serverUUID)));
+        numbers.put("sessions", sessions.get());
+        numbers.put("player_kills", playerKills.get());
+        numbers.put("mob_kills", mobKills.get());
+        numbers.put("deaths", deaths.get());
         numbers.put("current_uptime", serverUptimeCalculator.getServerUptimeMillis(serverUUID).map(timeAmount)
                 .orElse(GenericLang.UNAVAILABLE.getKey()));
 
         return numbers;
     }
 
-    private Object getOnlinePlayers(ServerUUID serverUUID, Database db) {
-        return serverUUID.equals(serverInfo.getServerUUID())
-                ? serverSensor.getOnlinePlayerCount()
-                : db.query(TPSQueries.fetchLatestTPSEntryForServer(serverUUID))
+    private Supplier<Object> getOnlinePlayers(ServerUUID serverUUID, QueryFanOut queries) {
+        if (serverUUID.equals(serverInfo.getServerUUID())) {
+            int onlinePlayerCount = serverSensor.getOnlinePlayerCount();
+            return () -> onlinePlayerCount;
+        }
+        Supplier<Optional<TPS>> latestTPS = queries.submit(TPSQueries.fetchLatestTPSEntryForServer(serverUUID));
+        return () -> latestTPS.get()
                 .map(TPS::getPlayers).map(Object::toString)
                 .orElse(GenericLang.UNKNOWN.getKey());
     }
 
     private Map<String, Object> createWeeksMap(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         long now = System.currentTimeMillis();
         long oneWeekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long twoWeeksAgo = now - TimeUnit.DAYS.toMillis(14L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        Supplier<Integer> uniqueBeforeCount = queries.submit(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Integer> uniqueAfterCount = queries.submit(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        Supplier<Integer> newBeforeCount = queries.submit(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Integer> newAfterCount = queries.submit(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        Supplier<Integer> regularBeforeCount = queries.submit(ActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
+        Supplier<Integer> regularAfterCount = queries.submit(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<Long> playtimeBeforeSum = queries.submit(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> playtimeAfterSum = queries.submit(SessionQueries.playtime(oneWeekAgo, now, serverUUID));
+        Supplier<Long> sessionsBeforeCount = queries.submit(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> sessionsAfterCount = queries.submit(SessionQueries.sessionCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> pksBeforeCount = queries.submit(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> pksAfterCount = queries.submit(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> mkBeforeCount = queries.submit(KillQueries.mobKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> mkAfterCount = queries.submit(KillQueries.mobKillCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> deathsBeforeCount = queries.submit(KillQueries.deathCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> deathsAfterCount = queries.submit(KillQueries.deathCount(oneWeekAgo, now, serverUUID));
+
         Map<String, Object> weeks = new HashMap<>();
 
         weeks.put("start", day.apply(twoWeeksAgo));
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        Integer uniqueBefore = uniqueBeforeCount.get();
+        Integer uniqueAfter = uniqueAfterCount.get();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        Integer newBefore = newBeforeCount.get();
+        Integer newAfter = newAfterCount.get();
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(ActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
-        int regularAfter = db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        int regularBefore = regularBeforeCount.get();
+        int regularAfter = regularAfterCount.get();
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now, serverUUID));
+        Long playtimeBefore = playtimeBeforeSum.get();
+        Long playtimeAfter = playtimeAfterSum.get();
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -204,29 +243,29 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now, serverUUID));
+        Long sessionsBefore = sessionsBeforeCount.get();
+        Long sessionsAfter = sessionsAfterCount.get();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
         weeks.put("sessions_trend", sessionsTrend);
 
-        Long pksBefore = db.query(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long pksAfter = db.query(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+        Long pksBefore = pksBeforeCount.get();
+        Long pksAfter = pksAfterCount.get();
         Trend pksTrend = new Trend(pksBefore, pksAfter, false);
         weeks.put("player_kills_before", pksBefore);
         weeks.put("player_kills_after", pksAfter);
         weeks.put("player_kills_trend", pksTrend);
 
-        Long mkBefore = db.query(KillQueries.mobKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long mkAfter = db.query(KillQueries.mobKillCount(oneWeekAgo, now, serverUUID));
+        Long mkBefore = mkBeforeCount.get();
+        Long mkAfter = mkAfterCount.get();
         Trend mkTrend = new Trend(mkBefore, mkAfter, false);
         weeks.put("mob_kills_before", mkBefore);
         weeks.put("mob_kills_after", mkAfter);
         weeks.put("mob_kills_trend", mkTrend);
 
-        Long deathsBefore = db.query(KillQueries.deathCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long deathsAfter = db.query(KillQueries.deathCount(oneWeekAgo, now, serverUUID));
+        Long deathsBefore = deathsBeforeCount.get();
+        Long deathsAfter = deathsAfterCount.get();
         Trend deathTrend = new Trend(deathsBefore, deathsAfter, true);
         weeks.put("deaths_before", deathsBefore);
         weeks.put("deaths_after", deathsAfter);
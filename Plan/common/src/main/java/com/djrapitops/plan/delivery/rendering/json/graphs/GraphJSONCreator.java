@@ -27,6 +27,7 @@ import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
 import com.djrapitops.plan.delivery.domain.mutators.PingMutator;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.rendering.json.graphs.bar.BarGraph;
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.ColumnarGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraphFactory;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.PingGraph;
@@ -36,8 +37,8 @@ import com.djrapitops.plan.delivery.rendering.json.graphs.pie.PieSlice;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
 import com.djrapitops.plan.delivery.rendering.json.graphs.special.WorldMap;
 import com.djrapitops.plan.delivery.rendering.json.graphs.stack.StackGraph;
-import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
@@ -51,6 +52,7 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryFanOut;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
@@ -66,6 +68,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -129,18 +132,38 @@ public class GraphJSONCreator {
     }
 
     public Map<String, Object> optimizedPerformanceGraphJSON(ServerUUID serverUUID) {
+        return optimizedPerformanceGraphJSON(serverUUID, false);
+    }
+
+    /**
+     * Same data as {@link #optimizedPerformanceGraphJSON(ServerUUID)}, but values are in {@link ColumnarGraph} format under "columnar".
+     *
+     * @param serverUUID Server to get data for
+     * @return Map that is serialized to json
+     */
+    public Map<String, Object> columnarPerformanceGraphJSON(ServerUUID serverUUID) {
+        return optimizedPerformanceGraphJSON(serverUUID, true);
+    }
+
+    private Map<String, Object> optimizedPerformanceGraphJSON(ServerUUID serverUUID, boolean columnar) {
         long now = System.currentTimeMillis();
         long twoMonthsAgo = now - TimeUnit.DAYS.toMillis(60);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30);
 
-        long lowestResolution = TimeUnit.MINUTES.toMillis(20);
+        // Whole hours are read from pre-aggregated rollup rows instead of raw TPS data
+        long lowestResolution = TimeUnit.HOURS.toMillis(1);
         long lowResolution = TimeUnit.MINUTES.toMillis(5);
-        Database db = dbSystem.getDatabase();
-        TPSMutator lowestResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServerInResolution(0, twoMonthsAgo, lowestResolution, serverUUID)));
-        TPSMutator lowResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServerInResolution(twoMonthsAgo, monthAgo, lowResolution, serverUUID)));
-        TPSMutator highResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID)));
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
+        Supplier<List<TPS>> lowestResolutionTPS = queries.submit(TPSQueries.fetchTPSDataOfServerInResolution(0, twoMonthsAgo, lowestResolution, serverUUID));
+        Supplier<List<TPS>> lowResolutionTPS = queries.submit(TPSQueries.fetchTPSDataOfServerInResolution(twoMonthsAgo, monthAgo, lowResolution, serverUUID));
+        Supplier<List<TPS>> highResolutionTPS = queries.submit(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
+        Supplier<Optional<Server>> server = queries.submit(ServerQueries.fetchServerMatchingIdentifier(serverUUID));
+
+        TPSMutator lowestResolutionData = new TPSMutator(lowestResolutionTPS.get());
+        TPSMutator lowResolutionData = new TPSMutator(lowResolutionTPS.get());
+        TPSMutator highResolutionData = new TPSMutator(highResolutionTPS.get());
 
-        String serverName = db.query(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
+        String serverName = server.get()
                 .map(Server::getIdentifiableName)
                 .orElse(serverUUID.toString());
 
@@ -166,9 +189,10 @@ public class GraphJSONCreator {
                 null
         )));
 
+        String[] keys = {"date", "playersOnline", "tps", "cpu", "ram", "entities", "chunks", "disk"};
         return Maps.builder(String.class, Object.class)
-                .put("keys", new String[]{"date", "playersOnline", "tps", "cpu", "ram", "entities", "chunks", "disk"})
-                .put("values", values)
+                .put("keys", keys)
+                .put(columnar ? "columnar" : "values", columnar ? ColumnarGraph.fromRows(keys, values) : values)
                 .put("colors", Maps.builder(String.class, Object.class)
                         .put("playersOnline", theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE))
                         .put("cpu", theme.getValue(ThemeVal.GRAPH_CPU))
@@ -191,48 +215,66 @@ public class GraphJSONCreator {
     }
 
     public String playersOnlineGraph(ServerUUID serverUUID) {
+        List<Point> points = playersOnlinePoints(serverUUID);
+        return "{\"playersOnline\":" + graphs.line().lineGraph(points).toHighChartsSeries() +
+                ",\"color\":\"" + theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE) + "\"}";
+    }
+
+    private List<Point> playersOnlinePoints(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
 
-        List<Point> points = Lists.map(
+        return Lists.map(
                 db.query(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, serverUUID)),
                 Point::fromDateObj
         );
-        return "{\"playersOnline\":" + graphs.line().lineGraph(points).toHighChartsSeries() +
-                ",\"color\":\"" + theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE) + "\"}";
+    }
+
+    /**
+     * Same data as {@link #playersOnlineGraph(ServerUUID)}, but points are in {@link ColumnarGraph} format under "columnar".
+     *
+     * @param serverUUID Server to get data for
+     * @return Map that is serialized to json
+     */
+    public Map<String, Object> columnarPlayersOnlineGraph(ServerUUID serverUUID) {
+        List<Point> points = playersOnlinePoints(serverUUID);
+        return Maps.builder(String.class, Object.class)
+                .put("columnar", ColumnarGraph.fromPoints("playersOnline", graphs.line().lineGraph(points).getPoints()))
+                .put("color", theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE))
+                .build();
     }
 
     public String uniqueAndNewGraphJSON(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDay = queries.submit(
                 PlayerCountQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDay = queries.submit(
                 PlayerCountQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDay.get(), newPerDay.get(), TimeUnit.DAYS.toMillis(1L));
     }
 
     public String hourlyUniqueAndNewGraphJSON(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDay = queries.submit(
                 PlayerCountQueries.hourlyUniquePlayerCounts(weekAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDay = queries.submit(
                 PlayerCountQueries.newPlayerCounts(weekAgo, now, timeZoneOffset, serverUUID)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDay.get(), newPerDay.get(), TimeUnit.HOURS.toMillis(1L));
     }
 
     public String createUniqueAndNewJSON(LineGraphFactory lineGraphs, NavigableMap<Long, Integer> uniquePerDay, NavigableMap<Long, Integer> newPerDay, long gapFillPeriod) {
@@ -252,87 +294,87 @@ public class GraphJSONCreator {
     }
 
     public String uniqueAndNewGraphJSON() {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDay = queries.submit(
                 PlayerCountQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDay = queries.submit(
                 PlayerCountQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDay.get(), newPerDay.get(), TimeUnit.DAYS.toMillis(1L));
     }
 
     public String hourlyUniqueAndNewGraphJSON() {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDay = queries.submit(
                 PlayerCountQueries.hourlyUniquePlayerCounts(weekAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDay = queries.submit(
                 PlayerCountQueries.hourlyNewPlayerCounts(weekAgo, now, timeZoneOffset)
         );
 
-        return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
+        return createUniqueAndNewJSON(lineGraphs, uniquePerDay.get(), newPerDay.get(), TimeUnit.HOURS.toMillis(1L));
     }
 
     public String serverCalendarJSON(ServerUUID serverUUID) {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         long now = System.currentTimeMillis();
         long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDay = queries.submit(
                 PlayerCountQueries.uniquePlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDay = queries.submit(
                 PlayerCountQueries.newPlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Long> playtimePerDay = db.query(
+        Supplier<NavigableMap<Long, Long>> playtimePerDay = queries.submit(
                 SessionQueries.playtimePerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
-        NavigableMap<Long, Integer> sessionsPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> sessionsPerDay = queries.submit(
                 SessionQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
         return "{\"data\":" +
                 graphs.calendar().serverCalendar(
-                        uniquePerDay,
-                        newPerDay,
-                        playtimePerDay,
-                        sessionsPerDay
+                        uniquePerDay.get(),
+                        newPerDay.get(),
+                        playtimePerDay.get(),
+                        sessionsPerDay.get()
                 ).toCalendarSeries() +
                 ",\"firstDay\":" + 1 + '}';
     }
 
     public String networkCalendarJSON() {
-        Database db = dbSystem.getDatabase();
+        QueryFanOut queries = dbSystem.getDatabase().fanOut();
         long now = System.currentTimeMillis();
         long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
-        NavigableMap<Long, Integer> uniquePerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> uniquePerDay = queries.submit(
                 PlayerCountQueries.uniquePlayerCounts(twoYearsAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> newPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> newPerDay = queries.submit(
                 PlayerCountQueries.newPlayerCounts(twoYearsAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Long> playtimePerDay = db.query(
+        Supplier<NavigableMap<Long, Long>> playtimePerDay = queries.submit(
                 SessionQueries.playtimePerDay(twoYearsAgo, now, timeZoneOffset)
         );
-        NavigableMap<Long, Integer> sessionsPerDay = db.query(
+        Supplier<NavigableMap<Long, Integer>> sessionsPerDay = queries.submit(
                 SessionQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset)
         );
         return "{\"data\":" +
                 graphs.calendar().serverCalendar(
-                        uniquePerDay,
-                        newPerDay,
-                        playtimePerDay,
-                        sessionsPerDay
+                        uniquePerDay.get(),
+                        newPerDay.get(),
+                        playtimePerDay.get(),
+                        sessionsPerDay.get()
                 ).toCalendarSeries() +
                 ",\"firstDay\":" + 1 + '}';
     }
@@ -353,10 +395,11 @@ public class GraphJSONCreator {
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
-        DateMap<Map<String, Integer>> activityData = new DateMap<>();
+        List<Long> dates = new ArrayList<>();
         for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
+            dates.add(time);
         }
+        DateMap<Map<String, Integer>> activityData = db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, serverUUID, threshold));
 
         return createActivityGraphJSON(activityData);
     }
@@ -378,10 +421,11 @@ public class GraphJSONCreator {
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
-        DateMap<Map<String, Integer>> activityData = new DateMap<>();
+        List<Long> dates = new ArrayList<>();
         for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold)));
+            dates.add(time);
         }
+        DateMap<Map<String, Integer>> activityData = db.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, threshold));
 
         return createActivityGraphJSON(activityData);
     }
@@ -436,11 +480,12 @@ public class GraphJSONCreator {
     public Map<String, Object> punchCardJSONAsMap(ServerUUID serverUUID) {
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        List<FinishedSession> sessions = dbSystem.getDatabase().query(
-                SessionQueries.fetchServerSessionsWithoutKillOrWorldData(monthAgo, now, serverUUID)
+        int timeZoneOffset = config.getTimeZone().getOffset(now);
+        int[][] sessionCounts = dbSystem.getDatabase().query(
+                SessionQueries.sessionCountPerDayOfWeekAndHour(monthAgo, now, timeZoneOffset, serverUUID)
         );
         return Maps.builder(String.class, Object.class)
-                .put("punchCard", graphs.special().punchCard(sessions).getDots())
+                .put("punchCard", graphs.special().punchCard(sessionCounts).getDots())
                 .put("color", theme.getValue(ThemeVal.GRAPH_PUNCHCARD))
                 .build();
     }
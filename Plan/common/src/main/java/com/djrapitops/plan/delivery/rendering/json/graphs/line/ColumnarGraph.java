@@ -0,0 +1,153 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs.line;
+
+import java.util.*;
+
+/**
+ * Compact column based representation of line graph data, smaller on the wire than arrays of [date, value] points.
+ * <p>
+ * Dates are delta encoded against a fixed step: {@code date[0] = start}, {@code date[i] = date[i-1] + step + dateDeltas[i]}.
+ * The step is the most common distance between two dates, so most deltas are 0.
+ * Each series has its own value array in the same order as the dates, null for missing values.
+ *
+ * @author AuroraLS3
+ */
+public class ColumnarGraph {
+
+    private final long start;
+    private final long step;
+    private final long[] dateDeltas;
+    private final Map<String, Number[]> series;
+
+    private ColumnarGraph(long start, long step, long[] dateDeltas, Map<String, Number[]> series) {
+        this.start = start;
+        this.step = step;
+        this.dateDeltas = dateDeltas;
+        this.series = series;
+    }
+
+    /**
+     * Create from rows of values, for example from {@link com.djrapitops.plan.delivery.domain.mutators.TPSMutator#toArrays(LineGraph.GapStrategy)}.
+     *
+     * @param keys Names of the values in each row, the first value of a row is the date.
+     * @param rows Rows of values, missing values at the end of a row are treated as null.
+     * @return Columnar representation.
+     */
+    public static ColumnarGraph fromRows(String[] keys, List<Number[]> rows) {
+        int size = rows.size();
+        long[] dates = new long[size];
+        Map<String, Number[]> series = new LinkedHashMap<>();
+        for (int column = 1; column < keys.length; column++) {
+            series.put(keys[column], new Number[size]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            Number[] row = rows.get(i);
+            dates[i] = row[0].longValue();
+            for (int column = 1; column < keys.length && column < row.length; column++) {
+                series.get(keys[column])[i] = compact(row[column]);
+            }
+        }
+        return fromDates(dates, series);
+    }
+
+    /**
+     * Create from points of a single series.
+     *
+     * @param seriesName Name of the series.
+     * @param points     Points of the series, in date order.
+     * @return Columnar representation.
+     */
+    public static ColumnarGraph fromPoints(String seriesName, List<Point> points) {
+        int size = points.size();
+        long[] dates = new long[size];
+        Number[] values = new Number[size];
+        for (int i = 0; i < size; i++) {
+            Point point = points.get(i);
+            dates[i] = (long) point.getX();
+            values[i] = compact(point.getY());
+        }
+        return fromDates(dates, Collections.singletonMap(seriesName, values));
+    }
+
+    private static ColumnarGraph fromDates(long[] dates, Map<String, Number[]> series) {
+        if (dates.length == 0) return new ColumnarGraph(0L, 0L, dates, series);
+
+        long step = findMostCommonStep(dates);
+        long[] dateDeltas = new long[dates.length];
+        for (int i = 1; i < dates.length; i++) {
+            dateDeltas[i] = dates[i] - dates[i - 1] - step;
+        }
+        return new ColumnarGraph(dates[0], step, dateDeltas, series);
+    }
+
+    private static long findMostCommonStep(long[] dates) {
+        Map<Long, Integer> stepCounts = new HashMap<>();
+        long mostCommon = 0L;
+        int highestCount = 0;
+        for (int i = 1; i < dates.length; i++) {
+            long step = dates[i] - dates[i - 1];
+            int count = stepCounts.merge(step, 1, Integer::sum);
+            if (count > highestCount) {
+                highestCount = count;
+                mostCommon = step;
+            }
+        }
+        return mostCommon;
+    }
+
+    // Whole numbers are written without the decimal part
+    private static Number compact(Number value) {
+        if (value instanceof Double) {
+            double asDouble = value.doubleValue();
+            if (!Double.isInfinite(asDouble) && asDouble == Math.rint(asDouble)) return (long) asDouble;
+        }
+        return value;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getStep() {
+        return step;
+    }
+
+    public long[] getDateDeltas() {
+        return dateDeltas;
+    }
+
+    public Map<String, Number[]> getSeries() {
+        return series;
+    }
+
+    /**
+     * Decode the dates.
+     *
+     * @return Epoch ms dates in the same order as the values of each series.
+     */
+    public long[] getDates() {
+        long[] dates = new long[dateDeltas.length];
+        long date = start - step;
+        for (int i = 0; i < dateDeltas.length; i++) {
+            date += step + dateDeltas[i];
+            dates[i] = date;
+        }
+        return dates;
+    }
+}
@@ -27,8 +27,7 @@ import java.util.*;
  */
 public class PunchCard {
 
-    private final SessionsMutator sessions;
-    private final TimeZone timeZone;
+    private final int[][] dayHourMatrix;
 
     /**
      * Constructor for the graph.
@@ -37,15 +36,23 @@ public class PunchCard {
      * @param timeZone TimeZone to use for the hour grouping.
      */
     PunchCard(SessionsMutator sessions, TimeZone timeZone) {
-        this.sessions = sessions;
-        this.timeZone = timeZone;
+        this(turnIntoMatrix(sessions.toSessionStarts(), timeZone));
+    }
+
+    /**
+     * Constructor for the graph from already counted sessions.
+     *
+     * @param dayHourMatrix Session counts, [Day of Week (0 = Monday, 6 = Sunday)][Hour of Day (0 = 0 AM, 23 = 11 PM)]
+     */
+    PunchCard(int[][] dayHourMatrix) {
+        this.dayHourMatrix = dayHourMatrix;
     }
 
     /*
      * First number signifies the Day of Week. (0 = Monday, 6 = Sunday)
      * Second number signifies the Hour of Day. (0 = 0 AM, 23 = 11 PM)
      */
-    private int[][] getDaysAndHours(Collection<Long> sessionStarts) {
+    private static int[][] getDaysAndHours(Collection<Long> sessionStarts, TimeZone timeZone) {
         return sessionStarts.stream().map((Long start) -> {
             Calendar day = Calendar.getInstance(timeZone);
             day.setTimeInMillis(start);
@@ -61,8 +68,8 @@ public class PunchCard {
         }).toArray(int[][]::new);
     }
 
-    private int[][] turnIntoMatrix(Collection<Long> sessionStarts) {
-        int[][] daysAndHours = getDaysAndHours(sessionStarts);
+    private static int[][] turnIntoMatrix(Collection<Long> sessionStarts, TimeZone timeZone) {
+        int[][] daysAndHours = getDaysAndHours(sessionStarts, timeZone);
         int[][] matrix = createZeroMatrix();
         for (int[] dayAndHour : daysAndHours) {
             int day = dayAndHour[0];
@@ -75,9 +82,6 @@ public class PunchCard {
     public List<Dot> getDots() {
         List<Dot> dots = new ArrayList<>();
 
-        List<Long> sessionStarts = sessions.toSessionStarts();
-
-        int[][] dayHourMatrix = turnIntoMatrix(sessionStarts);
         int big = findBiggestValue(dayHourMatrix);
         int[][] scaled = scale(dayHourMatrix, big);
 
@@ -94,7 +98,7 @@ public class PunchCard {
         return dots;
     }
 
-    private int[][] createZeroMatrix() {
+    private static int[][] createZeroMatrix() {
         int[][] dataArray = new int[7][24];
         for (int i = 0; i < 7; i++) {
             for (int j = 0; j < 24; j++) {
@@ -17,7 +17,6 @@
 package com.djrapitops.plan.delivery.rendering.json.graphs.special;
 
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
-import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
@@ -29,7 +28,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -55,8 +53,8 @@ public class SpecialGraphFactory {
         this.errorLogger = errorLogger;
     }
 
-    public PunchCard punchCard(List<FinishedSession> sessions) {
-        return punchCard(new SessionsMutator(sessions));
+    public PunchCard punchCard(int[][] sessionCountsByDayOfWeekAndHour) {
+        return new PunchCard(sessionCountsByDayOfWeekAndHour);
     }
 
     public PunchCard punchCard(SessionsMutator sessions) {
@@ -0,0 +1,141 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Radix trie that finds values registered for prefixes of a given target.
+ * <p>
+ * Lookup walks the target once, so it costs about the length of the target
+ * regardless of how many prefixes have been registered.
+ * Not thread safe while values are added, build it fully before publishing it.
+ *
+ * @param <T> Type of the registered values.
+ * @author AuroraLS3
+ */
+class PrefixRoutingTrie<T> {
+
+    private final Node<T> root;
+
+    PrefixRoutingTrie() {
+        root = new Node<>("");
+    }
+
+    /**
+     * Register a value for a prefix.
+     * <p>
+     * Values registered for the same prefix are returned in the order they were added.
+     *
+     * @param prefix Prefix the target needs to start with.
+     * @param value  Value to register.
+     */
+    void put(String prefix, T value) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            char next = prefix.charAt(index);
+            Node<T> child = node.children.get(next);
+            if (child == null) {
+                child = new Node<>(prefix.substring(index));
+                node.children.put(next, child);
+            } else {
+                int common = commonPrefixLength(child.label, prefix, index);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+            }
+            index += child.label.length();
+            node = child;
+        }
+        node.values.add(value);
+    }
+
+    private Node<T> split(Node<T> parent, Node<T> child, int at) {
+        Node<T> middle = new Node<>(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) i++;
+        return i;
+    }
+
+    /**
+     * Find the first value of the longest prefix the target starts with.
+     *
+     * @param target String to match.
+     * @return Value or null if no prefix matches.
+     */
+    T findLongest(String target) {
+        T found = root.values.isEmpty() ? null : root.values.get(0);
+        Node<T> node = root;
+        int index = 0;
+        while (index < target.length()) {
+            Node<T> child = node.children.get(target.charAt(index));
+            if (child == null || !target.startsWith(child.label, index)) break;
+            index += child.label.length();
+            node = child;
+            if (!node.values.isEmpty()) found = node.values.get(0);
+        }
+        return found;
+    }
+
+    /**
+     * Find all values of prefixes the target starts with.
+     *
+     * @param target String to match.
+     * @return Values, longest prefix first. Values of the same prefix in the order they were added.
+     */
+    List<T> findAll(String target) {
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        if (!node.values.isEmpty()) path.add(node);
+        int index = 0;
+        while (index < target.length()) {
+            Node<T> child = node.children.get(target.charAt(index));
+            if (child == null || !target.startsWith(child.label, index)) break;
+            index += child.label.length();
+            node = child;
+            if (!node.values.isEmpty()) path.add(node);
+        }
+
+        List<T> found = new ArrayList<>();
+        for (int i = path.size() - 1; i >= 0; i--) {
+            found.addAll(path.get(i).values);
+        }
+        return found;
+    }
+
+    private static class Node<T> {
+        String label;
+        final Map<Character, Node<T>> children = new HashMap<>();
+        final List<T> values = new ArrayList<>(1);
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
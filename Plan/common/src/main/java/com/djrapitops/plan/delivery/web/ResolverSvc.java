@@ -46,6 +46,7 @@ public class ResolverSvc implements ResolverService {
 
     private final List<Container> basicResolvers;
     private final List<Container> regexResolvers;
+    private volatile RoutingTable routingTable;
 
     @Inject
     public ResolverSvc(PlanConfig config, PluginLogger logger, DBSystem dbSystem) {
@@ -54,6 +55,7 @@ public class ResolverSvc implements ResolverService {
         this.dbSystem = dbSystem;
         basicResolvers = new ArrayList<>();
         regexResolvers = new ArrayList<>();
+        routingTable = new RoutingTable(basicResolvers, regexResolvers);
     }
 
     public void register() {
@@ -62,8 +64,10 @@ public class ResolverSvc implements ResolverService {
 
     @Override
     public void registerResolver(String pluginName, String start, Resolver resolver) {
-        basicResolvers.add(new Container(pluginName, checking -> checking.startsWith(start), resolver, start));
-        Collections.sort(basicResolvers);
+        synchronized (this) {
+            basicResolvers.add(new Container(pluginName, checking -> checking.startsWith(start), resolver, start));
+            routingTable = new RoutingTable(basicResolvers, regexResolvers);
+        }
         Set<String> usedWebPermissions = resolver.usedWebPermissions();
         dbSystem.getDatabase().executeTransaction(new StoreMissingWebPermissionsTransaction(usedWebPermissions));
         if (config.isTrue(PluginSettings.DEV_MODE)) {
@@ -73,8 +77,11 @@ public class ResolverSvc implements ResolverService {
 
     @Override
     public void registerResolverForMatches(String pluginName, Pattern pattern, Resolver resolver) {
-        regexResolvers.add(new Container(pluginName, pattern.asPredicate(), resolver, pattern.pattern()));
-        Collections.sort(regexResolvers);
+        synchronized (this) {
+            regexResolvers.add(new Container(pluginName, pattern.asPredicate(), resolver, pattern.pattern()));
+            Collections.sort(regexResolvers);
+            routingTable = new RoutingTable(basicResolvers, regexResolvers);
+        }
         if (config.isTrue(PluginSettings.DEV_MODE)) {
             logger.info("Registered regex resolver '" + pattern.pattern() + "' for plugin " + pluginName);
         }
@@ -96,42 +103,60 @@ public class ResolverSvc implements ResolverService {
 
     @Override
     public Optional<Resolver> getResolver(String target) {
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.resolver);
-        }
-        for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.resolver);
-        }
-        return Optional.empty();
+        return routingTable.findFirst(target).map(container -> container.resolver);
     }
 
     @Override
     public List<Resolver> getResolvers(@Untrusted String target) {
         boolean devMode = config.isTrue(PluginSettings.DEV_MODE);
-        List<Resolver> resolvers = new ArrayList<>();
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) {
-                if (devMode) logger.info("Match " + target + " - " + container.plugin + " '" + container.sortBy + "'");
-                resolvers.add(container.resolver);
-            }
-        }
-        for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) {
-                if (devMode) logger.info("Match " + target + " - " + container.plugin + " '" + container.sortBy + "'");
-                resolvers.add(container.resolver);
-            }
+        List<Container> matches = routingTable.findAll(target);
+        List<Resolver> resolvers = new ArrayList<>(matches.size());
+        for (Container container : matches) {
+            if (devMode) logger.info("Match " + target + " - " + container.plugin + " '" + container.sortBy + "'");
+            resolvers.add(container.resolver);
         }
         return resolvers;
     }
 
     public Optional<String> getPluginInChargeOf(String target) {
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.plugin);
+        return routingTable.findFirst(target).map(container -> container.plugin);
+    }
+
+    /**
+     * Immutable snapshot of registered resolvers, replaced whenever a resolver is registered.
+     * <p>
+     * Basic resolvers are stored in a radix trie so that lookup cost depends on the length of the target.
+     * Regex resolvers are checked afterwards in their sorted order, since combining extension provided
+     * patterns into a single expression would change which of them match.
+     */
+    private static class RoutingTable {
+        private final PrefixRoutingTrie<Container> basicResolvers;
+        private final Container[] regexResolvers;
+
+        RoutingTable(List<Container> basicResolvers, List<Container> regexResolvers) {
+            this.basicResolvers = new PrefixRoutingTrie<>();
+            for (Container container : basicResolvers) {
+                this.basicResolvers.put(container.sortBy, container);
+            }
+            this.regexResolvers = regexResolvers.toArray(new Container[0]);
         }
-        for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.plugin);
+
+        Optional<Container> findFirst(String target) {
+            Container found = basicResolvers.findLongest(target);
+            if (found != null) return Optional.of(found);
+            for (Container container : regexResolvers) {
+                if (container.matcher.test(target)) return Optional.of(container);
+            }
+            return Optional.empty();
+        }
+
+        List<Container> findAll(String target) {
+            List<Container> found = basicResolvers.findAll(target);
+            for (Container container : regexResolvers) {
+                if (container.matcher.test(target)) found.add(container);
+            }
+            return found;
         }
-        return Optional.empty();
     }
 
     private static class Container implements Comparable<Container> {
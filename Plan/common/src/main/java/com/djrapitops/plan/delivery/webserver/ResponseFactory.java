@@ -30,9 +30,12 @@ import com.djrapitops.plan.delivery.web.resolver.ResponseBuilder;
 import com.djrapitops.plan.delivery.web.resolver.exception.NotFoundException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resource.WebResource;
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContentCache;
+import com.djrapitops.plan.delivery.webserver.cache.MemoryCacheBudget;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.ErrorPageLang;
 import com.djrapitops.plan.settings.theme.Theme;
@@ -45,6 +48,8 @@ import com.djrapitops.plan.storage.file.Resource;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Maps;
 import com.djrapitops.plan.utilities.java.UnaryChain;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import dagger.Lazy;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
@@ -54,9 +59,12 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Factory for creating different {@link Response} objects.
@@ -76,6 +84,10 @@ public class ResponseFactory {
     private final Theme theme;
     private final Lazy<Addresses> addresses;
     private final Formatter<Long> httpLastModifiedFormatter;
+    private final PlanConfig config;
+    private final CompressedContentCache compressedContentCache;
+
+    private Cache<String, byte[]> staticContentCache;
 
     @Inject
     public ResponseFactory(
@@ -86,8 +98,11 @@ public class ResponseFactory {
             DBSystem dbSystem,
             Formatters formatters,
             Theme theme,
-            Lazy<Addresses> addresses
+            Lazy<Addresses> addresses,
+            CompressedContentCache compressedContentCache
     ) {
+        this.config = config;
+        this.compressedContentCache = compressedContentCache;
         this.files = files;
         this.publicHtmlFiles = publicHtmlFiles;
         this.pageFactory = pageFactory;
@@ -108,10 +123,47 @@ public class ResponseFactory {
                 .asWebResource();
     }
 
-    private static Response browserCachedNotChangedResponse() {
+    private Cache<String, byte[]> getStaticContentCache() {
+        if (staticContentCache == null) {
+            long maxBytes = MemoryCacheBudget.STATIC_BUNDLES.getMaxBytes(config);
+            staticContentCache = Caffeine.newBuilder()
+                    .expireAfterWrite(config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE), TimeUnit.MILLISECONDS)
+                    .maximumWeight(maxBytes)
+                    .weigher((String key, byte[] bytes) -> bytes.length)
+                    .build();
+        }
+        return staticContentCache;
+    }
+
+    /**
+     * Get contents of a static bundle file, built and compressed only once per version of the file.
+     *
+     * @param fileName       Name of the file.
+     * @param resource       Resource of the file, used for last modified date.
+     * @param contentCreator Function that builds the contents from the resource.
+     * @return Contents as bytes.
+     */
+    private byte[] getStaticContent(@Untrusted String fileName, WebResource resource, Supplier<byte[]> contentCreator) {
+        Optional<Long> lastModified = resource.getLastModified();
+        if (!fileName.contains(STATIC_BUNDLE_FOLDER) || lastModified.isEmpty()) {
+            return contentCreator.get();
+        }
+        // Address is part of the key since it is replaced into the contents of some files.
+        String key = fileName + '-' + lastModified.get() + '-' + getBasePath() + '-' + getAccessAddress();
+        return getStaticContentCache().get(key, k -> compressedContentCache.precompress(contentCreator.get()));
+    }
+
+    /**
+     * @param etag     ETag of the unchanged content
+     * @param mimeType Content type of the unchanged content, decides if the ETag is the one of gzipped content
+     * @return 304 response
+     */
+    private static Response browserCachedNotChangedResponse(long etag, String mimeType) {
         return Response.builder()
                 .setStatus(304)
+                .setMimeType(mimeType)
                 .setContent(new byte[0])
+                .setHeader(HttpHeader.ETAG.asString(), etag)
                 .build();
     }
 
@@ -124,7 +176,7 @@ public class ResponseFactory {
         Optional<Long> etag = Identifiers.getEtag(request);
 
         if (etag.isPresent() && modified == etag.get()) {
-            return browserCachedNotChangedResponse();
+            return browserCachedNotChangedResponse(modified, MimeType.HTML);
         }
 
         return Response.builder()
@@ -178,11 +230,11 @@ public class ResponseFactory {
                 .build();
     }
 
-    private Response getCachedOrNew(long modified, String fileName, Function<String, Response> newResponseFunction) {
+    private Response getCachedOrNew(long modified, String fileName, String mimeType, Function<String, Response> newResponseFunction) {
         WebResource resource = getPublicOrJarResource(fileName);
         Optional<Long> lastModified = resource.getLastModified();
         if (lastModified.isPresent() && modified == lastModified.get()) {
-            return browserCachedNotChangedResponse();
+            return browserCachedNotChangedResponse(modified, mimeType);
         } else {
             return newResponseFunction.apply(fileName);
         }
@@ -223,21 +275,22 @@ public class ResponseFactory {
     }
 
     public Response javaScriptResponse(long modified, @Untrusted String fileName) {
-        return getCachedOrNew(modified, fileName, this::javaScriptResponse);
+        return getCachedOrNew(modified, fileName, MimeType.JS + "; charset=utf-8", this::javaScriptResponse);
     }
 
     public Response javaScriptResponse(@Untrusted String fileName) {
         try {
             WebResource resource = getPublicOrJarResource(fileName);
-            String content = UnaryChain.of(resource.asString())
+            byte[] content = getStaticContent(fileName, resource, () -> UnaryChain.of(resource.asString())
                     .chain(this::replaceMainAddressPlaceholder)
                     .chain(theme::replaceThemeColors)
                     .chain(contents -> StringUtils.replace(contents,
                             ".p=\"/\"",
                             ".p=\"" + getBasePath() + "/\""))
-                    .apply();
+                    .apply()
+                    .getBytes(StandardCharsets.UTF_8));
             ResponseBuilder responseBuilder = Response.builder()
-                    .setMimeType(MimeType.JS)
+                    .setMimeType(MimeType.JS + "; charset=utf-8")
                     .setContent(content)
                     .setStatus(200);
 
@@ -260,26 +313,30 @@ public class ResponseFactory {
         return addresses.get().getBasePath(address);
     }
 
-    private String replaceMainAddressPlaceholder(String resource) {
-        String address = addresses.get().getAccessAddress()
+    private String getAccessAddress() {
+        return addresses.get().getAccessAddress()
                 .orElseGet(addresses.get()::getFallbackLocalhostAddress);
-        return StringUtils.replace(resource, "PLAN_BASE_ADDRESS", address);
+    }
+
+    private String replaceMainAddressPlaceholder(String resource) {
+        return StringUtils.replace(resource, "PLAN_BASE_ADDRESS", getAccessAddress());
     }
 
     public Response cssResponse(long modified, @Untrusted String fileName) {
-        return getCachedOrNew(modified, fileName, this::cssResponse);
+        return getCachedOrNew(modified, fileName, MimeType.CSS + "; charset=utf-8", this::cssResponse);
     }
 
     public Response cssResponse(@Untrusted String fileName) {
         try {
             WebResource resource = getPublicOrJarResource(fileName);
-            String content = UnaryChain.of(resource.asString())
+            byte[] content = getStaticContent(fileName, resource, () -> UnaryChain.of(resource.asString())
                     .chain(theme::replaceThemeColors)
                     .chain(contents -> StringUtils.replace(contents, "/static", getBasePath() + "/static"))
-                    .apply();
+                    .apply()
+                    .getBytes(StandardCharsets.UTF_8));
 
             ResponseBuilder responseBuilder = Response.builder()
-                    .setMimeType(MimeType.CSS)
+                    .setMimeType(MimeType.CSS + "; charset=utf-8")
                     .setContent(content)
                     .setStatus(200);
 
@@ -297,7 +354,7 @@ public class ResponseFactory {
     }
 
     public Response imageResponse(long modified, @Untrusted String fileName) {
-        return getCachedOrNew(modified, fileName, this::imageResponse);
+        return getCachedOrNew(modified, fileName, MimeType.IMAGE, this::imageResponse);
     }
 
     public Response imageResponse(@Untrusted String fileName) {
@@ -321,22 +378,25 @@ public class ResponseFactory {
     }
 
     public Response fontResponse(long modified, @Untrusted String fileName) {
-        return getCachedOrNew(modified, fileName, this::fontResponse);
+        return getCachedOrNew(modified, fileName, getFontMimeType(fileName), this::fontResponse);
     }
 
-    public Response fontResponse(@Untrusted String fileName) {
-        String type;
+    private static String getFontMimeType(@Untrusted String fileName) {
         if (fileName.endsWith(".woff")) {
-            type = MimeType.FONT_WOFF;
+            return MimeType.FONT_WOFF;
         } else if (fileName.endsWith(".woff2")) {
-            type = MimeType.FONT_WOFF2;
+            return MimeType.FONT_WOFF2;
         } else if (fileName.endsWith(".eot")) {
-            type = MimeType.FONT_EOT;
+            return MimeType.FONT_EOT;
         } else if (fileName.endsWith(".ttf")) {
-            type = MimeType.FONT_TTF;
+            return MimeType.FONT_TTF;
         } else {
-            type = MimeType.FONT_BYTESTREAM;
+            return MimeType.FONT_BYTESTREAM;
         }
+    }
+
+    public Response fontResponse(@Untrusted String fileName) {
+        String type = getFontMimeType(fileName);
         try {
             WebResource resource = getPublicOrJarResource(fileName);
             ResponseBuilder responseBuilder = Response.builder()
@@ -364,7 +424,7 @@ public class ResponseFactory {
 
         Optional<Long> lastModified = resource.getLastModified();
         if (lastModified.isPresent() && modified == lastModified.get()) {
-            return browserCachedNotChangedResponse();
+            return browserCachedNotChangedResponse(modified, mimeType);
         } else {
             return publicHtmlResourceResponse(fileName, mimeType);
         }
@@ -377,7 +437,7 @@ public class ResponseFactory {
                     .orElse(null);
             if (resource == null) return null;
 
-            byte[] content = resource.asBytes();
+            byte[] content = getStaticContent(fileName, resource, resource::asBytes);
             ResponseBuilder responseBuilder = Response.builder()
                     .setMimeType(mimeType)
                     .setContent(content)
@@ -18,6 +18,7 @@ package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.SubSystem;
 import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieStore;
+import com.djrapitops.plan.delivery.webserver.http.AccessLogger;
 import com.djrapitops.plan.delivery.webserver.http.WebServer;
 import com.djrapitops.plan.storage.file.PublicHtmlFiles;
 import net.playeranalytics.plugin.server.PluginLogger;
@@ -37,6 +38,7 @@ public class WebServerSystem implements SubSystem {
     private final ActiveCookieStore activeCookieStore;
     private final PublicHtmlFiles publicHtmlFiles;
     private final WebServer webServer;
+    private final AccessLogger accessLogger;
     private final PluginLogger logger;
 
     @Inject
@@ -45,11 +47,13 @@ public class WebServerSystem implements SubSystem {
             ActiveCookieStore activeCookieStore,
             PublicHtmlFiles publicHtmlFiles,
             WebServer webServer,
+            AccessLogger accessLogger,
             PluginLogger logger) {
         this.addresses = addresses;
         this.activeCookieStore = activeCookieStore;
         this.publicHtmlFiles = publicHtmlFiles;
         this.webServer = webServer;
+        this.accessLogger = accessLogger;
         this.logger = logger;
     }
 
@@ -66,6 +70,8 @@ public class WebServerSystem implements SubSystem {
     @Override
     public void disable() {
         webServer.disable();
+        // Requests that have not been stored yet, the database is disabled after the webserver.
+        accessLogger.flush();
         activeCookieStore.disable();
     }
 
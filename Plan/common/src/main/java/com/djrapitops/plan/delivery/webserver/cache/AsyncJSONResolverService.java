@@ -22,32 +22,46 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.settings.config.paths.key.TimeSetting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Service for resolving json asynchronously in order to move database queries off server thread.
+ * <p>
+ * Only one update per identifier is processed at a time, concurrent requests for the same identifier wait for the same
+ * update. Json that is older than the refresh barrier can still be served for a configurable time per {@link DataID}
+ * while it is updated in the background, and json that is requested often is updated before it goes stale.
  *
  * @author AuroraLS3
  */
 @Singleton
 public class AsyncJSONResolverService {
 
+    private static final int HOT_REQUEST_THRESHOLD = 3;
+    private static final String STALE_JSON_OVERRIDE_PATH = "Webserver.Cache.Serve_stale_json_for.";
+    // Bounds bookkeeping of identifiers, json variants (like table pages) add identifiers at runtime.
+    private static final int MAX_TRACKED_IDENTIFIERS = 1000;
+
     private final PlanConfig config;
     private final Processing processing;
     private final JSONStorage jsonStorage;
-    private final Map<String, Future<JSONStorage.StoredJSON>> currentlyProcessing;
-    private final Map<String, Long> previousUpdates;
-    private final ReentrantLock accessLock; // Access lock prevents double processing same resource
+    private final Map<String, CompletableFuture<JSONStorage.StoredJSON>> currentlyProcessing;
+    private final Cache<String, Long> previousUpdates;
+    private final Cache<String, RequestCount> requestCounts;
+    private final Map<DataID, Long> staleWhileRevalidateWindows;
     private final Formatter<Long> httpLastModifiedFormatter;
 
     @Inject
@@ -62,8 +76,16 @@ public class AsyncJSONResolverService {
         this.jsonStorage = jsonStorage;
 
         currentlyProcessing = new ConcurrentHashMap<>();
-        previousUpdates = new ConcurrentHashMap<>();
-        accessLock = new ReentrantLock();
+        // Forgetting an identifier only allows an extra update or resets its request rate.
+        previousUpdates = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_IDENTIFIERS)
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .build();
+        requestCounts = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_IDENTIFIERS)
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .build();
+        staleWhileRevalidateWindows = new ConcurrentHashMap<>();
 
         httpLastModifiedFormatter = formatters.httpLastModifiedLong();
     }
@@ -73,30 +95,65 @@ public class AsyncJSONResolverService {
     ) {
         String identifier = dataID.of(serverUUID);
         Supplier<T> jsonCreator = () -> creator.apply(serverUUID);
-        return getStoredOrCreateJSON(newerThanTimestamp, identifier, jsonCreator);
+        return getStoredOrCreateJSON(newerThanTimestamp, dataID, identifier, jsonCreator);
     }
 
 
+    /**
+     * Resolve json that has multiple variants, such as pages of a table.
+     *
+     * @param newerThanTimestamp Timestamp the json should be newer than, if given.
+     * @param dataID             ID of the json.
+     * @param serverUUID         Server the json is for, null for network.
+     * @param variant            Distinguishes the variant from others of the same data. Has to be safe to use in a file name.
+     * @param jsonCreator        Creates the json if it is not stored.
+     * @param <T>                Type of the object that is turned into json.
+     * @return Stored json.
+     */
+    public <T> JSONStorage.StoredJSON resolve(
+            Optional<Long> newerThanTimestamp, DataID dataID, ServerUUID serverUUID, String variant, Supplier<T> jsonCreator
+    ) {
+        String identifier = dataID.of(serverUUID) + '-' + variant;
+        return getStoredOrCreateJSON(newerThanTimestamp, dataID, identifier, jsonCreator);
+    }
+
     public <T> JSONStorage.StoredJSON resolve(
             Optional<Long> newerThanTimestamp, DataID dataID, Supplier<T> jsonCreator
     ) {
         String identifier = dataID.name();
-        return getStoredOrCreateJSON(newerThanTimestamp, identifier, jsonCreator);
+        return getStoredOrCreateJSON(newerThanTimestamp, dataID, identifier, jsonCreator);
     }
 
     private <T> JSONStorage.StoredJSON getStoredOrCreateJSON(
-            Optional<Long> givenTimestamp, String identifier, Supplier<T> jsonCreator
+            Optional<Long> givenTimestamp, DataID dataID, String identifier, Supplier<T> jsonCreator
     ) {
-        JSONStorage.StoredJSON storedJSON = null;
+        long now = System.currentTimeMillis();
+        long updateThreshold = config.get(WebserverSettings.REDUCED_REFRESH_BARRIER);
+        boolean hot = countRequest(identifier, now, updateThreshold);
+
+        JSONStorage.StoredJSON storedJSON;
         Future<JSONStorage.StoredJSON> updatedJSON = null;
         if (givenTimestamp.isPresent()) {
             long timestamp = givenTimestamp.get();
             storedJSON = getNewFromCache(timestamp, identifier);
-            if (storedJSON != null) return storedJSON;
+            if (storedJSON != null) {
+                refreshAheadIfHot(hot, storedJSON, now, updateThreshold, identifier, jsonCreator);
+                return storedJSON;
+            }
 
             // No new enough version, let's refresh and send old version of the file
-            updatedJSON = scheduleJSONForUpdate(timestamp, identifier, jsonCreator);
+            updatedJSON = scheduleJSONForUpdate(timestamp, updateThreshold, identifier, jsonCreator);
             storedJSON = getOldFromCache(timestamp, identifier).orElse(null);
+        } else {
+            storedJSON = getStaleFromCache(now, updateThreshold, dataID, identifier);
+            if (storedJSON != null) {
+                if (now - storedJSON.timestamp > updateThreshold) {
+                    // Serve the stale version while it is being updated
+                    scheduleJSONForUpdate(now, updateThreshold, identifier, jsonCreator);
+                } else {
+                    refreshAheadIfHot(hot, storedJSON, now, updateThreshold, identifier, jsonCreator);
+                }
+            }
         }
 
         if (storedJSON != null) {
@@ -133,36 +190,98 @@ public class AsyncJSONResolverService {
                         .orElse(null));
     }
 
-    private <T> Future<JSONStorage.StoredJSON> scheduleJSONForUpdate(long newerThanTimestamp, String identifier, Supplier<T> jsonCreator) {
-        long updateThreshold = config.get(WebserverSettings.REDUCED_REFRESH_BARRIER);
+    private JSONStorage.StoredJSON getStaleFromCache(long now, long updateThreshold, DataID dataID, String identifier) {
+        long staleWhileRevalidate = getStaleWhileRevalidateWindow(dataID);
+        if (staleWhileRevalidate <= 0) return null;
+        return jsonStorage.fetchJsonMadeAfter(identifier, now - updateThreshold - staleWhileRevalidate).orElse(null);
+    }
 
-        Future<JSONStorage.StoredJSON> updatedJSON;
-        accessLock.lock();
-        try {
-            // Check if the json is already being created
-            updatedJSON = currentlyProcessing.get(identifier);
-            if (updatedJSON == null && previousUpdates.getOrDefault(identifier, 0L) < newerThanTimestamp - updateThreshold) {
-                // Submit a task to refresh the data if the json is old
-                updatedJSON = submitToProcessing(identifier, jsonCreator);
-                currentlyProcessing.put(identifier, updatedJSON);
+    long getStaleWhileRevalidateWindow(DataID dataID) {
+        return staleWhileRevalidateWindows.computeIfAbsent(dataID, this::readStaleWhileRevalidateWindow);
+    }
+
+    private long readStaleWhileRevalidateWindow(DataID dataID) {
+        String path = STALE_JSON_OVERRIDE_PATH + dataID.getBaseDataID().name();
+        if (config.getNode(path).isPresent()) {
+            return config.get(new TimeSetting(path));
+        }
+        return config.get(WebserverSettings.SERVE_STALE_JSON_FOR);
+    }
+
+    private <T> void refreshAheadIfHot(boolean hot, JSONStorage.StoredJSON storedJSON, long now, long updateThreshold, String identifier, Supplier<T> jsonCreator) {
+        // Often requested json is updated when it is 3/4 of the way to becoming stale.
+        if (hot && now - storedJSON.timestamp > updateThreshold * 3 / 4) {
+            scheduleJSONForUpdate(now, updateThreshold * 3 / 4, identifier, jsonCreator);
+        }
+    }
+
+    /**
+     * Count a request towards the request rate of the identifier.
+     *
+     * @return true if the identifier has been requested often during the current refresh period.
+     */
+    private boolean countRequest(String identifier, long now, long updateThreshold) {
+        RequestCount count = requestCounts.asMap().compute(identifier, (id, previous) -> {
+            if (previous == null || now - previous.periodStart > updateThreshold) {
+                return new RequestCount(now, 1);
             }
-        } finally {
-            accessLock.unlock();
+            return new RequestCount(previous.periodStart, previous.count + 1);
+        });
+        return count.count >= HOT_REQUEST_THRESHOLD;
+    }
+
+    private <T> Future<JSONStorage.StoredJSON> scheduleJSONForUpdate(long newerThanTimestamp, long updateThreshold, String identifier, Supplier<T> jsonCreator) {
+        // Check if the json is already being created
+        Future<JSONStorage.StoredJSON> updatedJSON = currentlyProcessing.get(identifier);
+        if (updatedJSON == null && getPreviousUpdate(identifier) < newerThanTimestamp - updateThreshold) {
+            // Submit a task to refresh the data if the json is old
+            updatedJSON = submitToProcessing(identifier, jsonCreator);
         }
         return updatedJSON;
     }
 
-    private <T> Future<JSONStorage.StoredJSON> submitToProcessing(String identifier, Supplier<T> jsonCreator) {
-        return processing.submitNonCritical(() -> {
-            JSONStorage.StoredJSON created = jsonStorage.storeJson(identifier, jsonCreator.get());
-            currentlyProcessing.remove(identifier);
-            jsonStorage.invalidateOlder(identifier, created.timestamp);
-            previousUpdates.put(identifier, created.timestamp);
-            return created;
+    private long getPreviousUpdate(String identifier) {
+        Long previousUpdate = previousUpdates.getIfPresent(identifier);
+        return previousUpdate != null ? previousUpdate : 0L;
+    }
+
+    private <T> CompletableFuture<JSONStorage.StoredJSON> submitToProcessing(String identifier, Supplier<T> jsonCreator) {
+        CompletableFuture<JSONStorage.StoredJSON> updatedJSON = new CompletableFuture<>();
+        CompletableFuture<JSONStorage.StoredJSON> alreadyProcessing = currentlyProcessing.putIfAbsent(identifier, updatedJSON);
+        if (alreadyProcessing != null) return alreadyProcessing;
+
+        Future<JSONStorage.StoredJSON> submitted = processing.submitNonCritical(() -> {
+            try {
+                JSONStorage.StoredJSON created = jsonStorage.storeJson(identifier, jsonCreator.get());
+                jsonStorage.invalidateOlder(identifier, created.timestamp);
+                previousUpdates.put(identifier, created.timestamp);
+                updatedJSON.complete(created);
+                return created;
+            } catch (Throwable e) {
+                updatedJSON.completeExceptionally(e);
+                throw e;
+            } finally {
+                currentlyProcessing.remove(identifier, updatedJSON);
+            }
         });
+        if (submitted == null) {
+            currentlyProcessing.remove(identifier, updatedJSON);
+            updatedJSON.completeExceptionally(new IllegalStateException("Processing is not available to create json for " + identifier));
+        }
+        return updatedJSON;
     }
 
     public Formatter<Long> getHttpLastModifiedFormatter() {
         return httpLastModifiedFormatter;
     }
+
+    private static class RequestCount {
+        private final long periodStart;
+        private final int count;
+
+        private RequestCount(long periodStart, int count) {
+            this.periodStart = periodStart;
+            this.count = count;
+        }
+    }
 }
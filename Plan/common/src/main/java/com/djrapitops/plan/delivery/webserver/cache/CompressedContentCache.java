@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps gzip compressed versions of response content that is served many times.
+ * <p>
+ * Content is keyed by the identity of the raw byte array, so an entry lives only as long as
+ * the raw bytes are held by some other cache (eg. {@link JSONMemoryStorageShim}).
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class CompressedContentCache {
+
+    private final PlanConfig config;
+
+    private Cache<byte[], byte[]> gzipped;
+
+    @Inject
+    public CompressedContentCache(PlanConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Compress given bytes with gzip.
+     *
+     * @param content Raw bytes.
+     * @return gzip compressed bytes.
+     * @throws UncheckedIOException If compression fails.
+     */
+    public static byte[] gzip(byte[] content) {
+        try (ByteArrayOutputStream bufferStream = new ByteArrayOutputStream();
+             GZIPOutputStream gzipStream = new GZIPOutputStream(bufferStream)
+        ) {
+            gzipStream.write(content);
+            gzipStream.finish();
+            gzipStream.flush();
+            return bufferStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Cache<byte[], byte[]> getCache() {
+        if (gzipped == null) {
+            long maxBytes = MemoryCacheBudget.COMPRESSED.getMaxBytes(config);
+            gzipped = Caffeine.newBuilder()
+                    .weakKeys()
+                    .maximumWeight(maxBytes)
+                    .weigher((byte[] raw, byte[] compressed) -> compressed.length)
+                    .build();
+        }
+        return gzipped;
+    }
+
+    /**
+     * Compress content ahead of time so that it does not need to be compressed when it is sent.
+     *
+     * @param content Raw bytes, the same array instance needs to be given to the response.
+     * @return the given bytes.
+     */
+    public byte[] precompress(byte[] content) {
+        getCache().get(content, CompressedContentCache::gzip);
+        return content;
+    }
+
+    /**
+     * Get gzip compressed version of the content.
+     *
+     * @param content Raw bytes.
+     * @return Compressed bytes if the content was precompressed.
+     */
+    public Optional<byte[]> getGzipped(byte[] content) {
+        return Optional.ofNullable(getCache().getIfPresent(content));
+    }
+}
@@ -26,13 +26,16 @@ import com.djrapitops.plan.identification.ServerUUID;
 public enum DataID {
     PLAYERS,
     PLAYERS_V2,
+    PLAYERS_TABLE_PAGE,
     SESSIONS,
     SERVERS,
     KILLS,
     PING_TABLE,
     GRAPH_PERFORMANCE,
     GRAPH_OPTIMIZED_PERFORMANCE,
+    GRAPH_OPTIMIZED_PERFORMANCE_COLUMNAR,
     GRAPH_ONLINE,
+    GRAPH_ONLINE_COLUMNAR,
     GRAPH_ONLINE_PROXIES,
     GRAPH_UNIQUE_NEW,
     GRAPH_HOURLY_UNIQUE_NEW,
@@ -57,8 +60,27 @@ public enum DataID {
     JOIN_ADDRESSES_BY_DAY,
     PLAYER_RETENTION,
     PLAYER_JOIN_ADDRESSES,
+    PLAYER,
     ;
 
+    /**
+     * Get the DataID of the same data in its original format.
+     * <p>
+     * Settings are given with the name of the original format, so they apply to all formats of the data.
+     *
+     * @return DataID this is a different format of, or this DataID.
+     */
+    public DataID getBaseDataID() {
+        switch (this) {
+            case GRAPH_OPTIMIZED_PERFORMANCE_COLUMNAR:
+                return GRAPH_OPTIMIZED_PERFORMANCE;
+            case GRAPH_ONLINE_COLUMNAR:
+                return GRAPH_ONLINE;
+            default:
+                return this;
+        }
+    }
+
     public String of(ServerUUID serverUUID) {
         if (serverUUID == null) return name();
         return name() + '-' + serverUUID;
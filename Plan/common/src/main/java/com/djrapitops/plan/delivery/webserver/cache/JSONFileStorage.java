@@ -34,20 +34,21 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 /**
  * In charge of storing json files on disk for later retrieval.
+ * <p>
+ * Timestamps of the stored files are kept in an in-memory index so that lookups do not need to list the directory.
  *
  * @author AuroraLS3
  */
@@ -59,9 +60,12 @@ public class JSONFileStorage implements JSONStorage {
     private final Path jsonDirectory;
 
     private final ReentrantLockHelper readWriteProtectionLock = new ReentrantLockHelper();
-    private final Pattern timestampRegex = Pattern.compile(".*-(\\d*).json");
+    private final Pattern fileNameRegex = Pattern.compile("(.*)-(\\d+)\\.json");
     private static final String JSON_FILE_EXTENSION = ".json";
 
+    private final Map<String, NavigableSet<Long>> index = new ConcurrentHashMap<>();
+    private volatile boolean indexed = false;
+
     private final Formatter<Long> dateFormatter;
 
     @Inject
@@ -89,12 +93,44 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public StoredJSON storeJson(String identifier, String json, long timestamp) {
-        Path writingTo = jsonDirectory.resolve(identifier + '-' + timestamp + JSON_FILE_EXTENSION);
+        Path writingTo = getFilePath(identifier, timestamp);
         String jsonToWrite = addMissingTimestamp(json, timestamp);
         write(writingTo, jsonToWrite);
+        getTimestamps(identifier).add(timestamp);
         return new StoredJSON(jsonToWrite, timestamp);
     }
 
+    private NavigableSet<Long> getTimestamps(String identifier) {
+        ensureIndexed();
+        return index.computeIfAbsent(identifier, id -> new ConcurrentSkipListSet<>());
+    }
+
+    private void ensureIndexed() {
+        if (indexed) return;
+        synchronized (index) {
+            if (indexed) return;
+            File[] stored = jsonDirectory.toFile().listFiles();
+            if (stored != null) {
+                for (File file : stored) {
+                    Matcher fileNameMatch = fileNameRegex.matcher(file.getName());
+                    if (fileNameMatch.matches()) {
+                        try {
+                            long timestamp = Long.parseLong(fileNameMatch.group(2));
+                            index.computeIfAbsent(fileNameMatch.group(1), id -> new ConcurrentSkipListSet<>()).add(timestamp);
+                        } catch (NumberFormatException e) {
+                            // Ignore this file, malformed timestamp
+                        }
+                    }
+                }
+            }
+            indexed = true;
+        }
+    }
+
+    private Path getFilePath(String identifier, long timestamp) {
+        return jsonDirectory.resolve(identifier + '-' + timestamp + JSON_FILE_EXTENSION);
+    }
+
     private void write(Path writingTo, String jsonToWrite) {
         readWriteProtectionLock.performWriteOperation(() -> {
             try {
@@ -127,35 +163,19 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public Optional<StoredJSON> fetchJSON(String identifier) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
-
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                return Optional.ofNullable(readStoredJSON(file));
-            }
-        }
-        return Optional.empty();
+        return getTimestamp(identifier).flatMap(timestamp -> fetchExactJson(identifier, timestamp));
     }
 
-    private StoredJSON readStoredJSON(File from) {
+    private StoredJSON readStoredJSON(String identifier, long timestamp) {
+        Path from = getFilePath(identifier, timestamp);
         return readWriteProtectionLock.performReadOperation(() -> {
-            Matcher timestampMatch = timestampRegex.matcher(from.getName());
-            if (timestampMatch.find()) {
-                try (Stream<String> lines = Files.lines(from.toPath())) {
-                    long timestamp = Long.parseLong(timestampMatch.group(1));
-                    StringBuilder json = new StringBuilder();
-                    lines.forEach(json::append);
-                    return new StoredJSON(json.toString(), timestamp);
-                } catch (IOException e) {
-                    logger.warn(jsonDirectory.toFile().getAbsolutePath() + " file '" + from.getName() + "' could not be read: " + e.getMessage());
-                } catch (NumberFormatException e) {
-                    logger.warn(jsonDirectory.toFile().getAbsolutePath() + " contained a file '" + from.getName() + "' with improperly formatted -timestamp (could not parse number). This file was not placed there by Plan!");
-                }
-            } else {
-                logger.warn(jsonDirectory.toFile().getAbsolutePath() + " contained a file '" + from.getName() + "' that has no -timestamp. This file was not placed there by Plan!");
+            try {
+                return new StoredJSON(new String(Files.readAllBytes(from), StandardCharsets.UTF_8), timestamp);
+            } catch (NoSuchFileException e) {
+                // Removed outside of Plan
+                getTimestamps(identifier).remove(timestamp);
+            } catch (IOException e) {
+                logger.warn(jsonDirectory.toFile().getAbsolutePath() + " file '" + from.getFileName() + "' could not be read: " + e.getMessage());
             }
             return null;
         });
@@ -163,69 +183,76 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public Optional<StoredJSON> fetchExactJson(String identifier, long timestamp) {
-        File found = jsonDirectory.resolve(identifier + "-" + timestamp + JSON_FILE_EXTENSION).toFile();
-        if (!found.exists()) return Optional.empty();
-        return Optional.ofNullable(readStoredJSON(found));
+        if (!getTimestamps(identifier).contains(timestamp)) return Optional.empty();
+        return Optional.ofNullable(readStoredJSON(identifier, timestamp));
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeBefore(String identifier, long timestamp) {
-        return fetchJSONWithTimestamp(identifier, timestamp, (timestampMatch, time) -> Long.parseLong(timestampMatch.group(1)) < time);
+        return getTimestampMadeBefore(identifier, timestamp)
+                .flatMap(found -> fetchExactJson(identifier, found));
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeAfter(String identifier, long timestamp) {
-        return fetchJSONWithTimestamp(identifier, timestamp, (timestampMatch, time) -> Long.parseLong(timestampMatch.group(1)) > time);
+        return getTimestampMadeAfter(identifier, timestamp)
+                .flatMap(found -> fetchExactJson(identifier, found));
     }
 
-    private Optional<StoredJSON> fetchJSONWithTimestamp(String identifier, long timestamp, BiPredicate<Matcher, Long> timestampComparator) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
+    /**
+     * Find the latest timestamp of stored json that was made before given time.
+     *
+     * @param identifier Identifier of the json
+     * @param timestamp  Epoch ms
+     * @return Timestamp of the stored json if one exists.
+     */
+    public Optional<Long> getTimestampMadeBefore(String identifier, long timestamp) {
+        return Optional.ofNullable(getTimestamps(identifier).lower(timestamp));
+    }
 
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            try {
-                String fileName = file.getName();
-                if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                    Matcher timestampMatch = timestampRegex.matcher(fileName);
-                    if (timestampMatch.find() && timestampComparator.test(timestampMatch, timestamp)) {
-                        return Optional.ofNullable(readStoredJSON(file));
-                    }
-                }
-            } catch (NumberFormatException e) {
-                // Ignore this file, malformed timestamp
-            }
-        }
-        return Optional.empty();
+    /**
+     * Find the latest timestamp of stored json that was made after given time.
+     *
+     * @param identifier Identifier of the json
+     * @param timestamp  Epoch ms
+     * @return Timestamp of the stored json if one exists.
+     */
+    public Optional<Long> getTimestampMadeAfter(String identifier, long timestamp) {
+        NavigableSet<Long> timestamps = getTimestamps(identifier);
+        if (timestamps.isEmpty()) return Optional.empty();
+        Long latest = timestamps.last();
+        return latest > timestamp ? Optional.of(latest) : Optional.empty();
+    }
+
+    /**
+     * Get timestamps of stored json that were made before given time.
+     *
+     * @param identifier Identifier of the json
+     * @param timestamp  Epoch ms
+     * @return Timestamps in ascending order.
+     */
+    public List<Long> getTimestampsMadeBefore(String identifier, long timestamp) {
+        return new ArrayList<>(getTimestamps(identifier).headSet(timestamp, false));
     }
 
     @Override
     public void invalidateOlder(String identifier, long timestamp) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return;
+        List<Long> older = getTimestampsMadeBefore(identifier, timestamp);
+        if (older.isEmpty()) return;
 
         List<File> toDelete = new ArrayList<>();
-        for (File file : stored) {
-            if (shouldDeleteFile(identifier, timestamp, file)) {
-                toDelete.add(file);
-            }
+        for (Long olderTimestamp : older) {
+            toDelete.add(getFilePath(identifier, olderTimestamp).toFile());
         }
         deleteFiles(toDelete);
     }
 
-    private boolean shouldDeleteFile(String identifier, long timestamp, File file) {
-        try {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(identifier + '-')) {
-                Matcher timestampMatch = timestampRegex.matcher(fileName);
-                if (timestampMatch.find() && Long.parseLong(timestampMatch.group(1)) < timestamp) {
-                    return true;
-                }
-            }
-        } catch (NumberFormatException e) {
-            // Ignore this file, malformed timestamp
+    @Override
+    public void invalidateOlderStartingWith(String identifierPrefix, long timestamp) {
+        ensureIndexed();
+        for (String identifier : new ArrayList<>(index.keySet())) {
+            if (identifier.startsWith(identifierPrefix)) invalidateOlder(identifier, timestamp);
         }
-        return false;
     }
 
     private void invalidateOlderButIgnore(long timestamp, String... ignoredIdentifiers) {
@@ -246,8 +273,8 @@ public class JSONFileStorage implements JSONStorage {
         try {
             String fileName = file.getName();
             if (fileName.endsWith(JSON_FILE_EXTENSION)) {
-                Matcher timestampMatch = timestampRegex.matcher(fileName);
-                boolean isOlder = timestampMatch.find() && Long.parseLong(timestampMatch.group(1)) < timestamp;
+                Matcher timestampMatch = fileNameRegex.matcher(fileName);
+                boolean isOlder = timestampMatch.matches() && Long.parseLong(timestampMatch.group(2)) < timestamp;
                 if (isOlder) {
                     for (String ignoredIdentifier : ignoredIdentifiers) {
                         if (fileName.startsWith(ignoredIdentifier + "-")) return false;
@@ -264,6 +291,7 @@ public class JSONFileStorage implements JSONStorage {
     private void deleteFiles(List<File> toDelete) {
         readWriteProtectionLock.performWriteOperation(() -> {
             for (File fileToDelete : toDelete) {
+                removeFromIndex(fileToDelete);
                 try {
                     Files.delete(fileToDelete.toPath());
                 } catch (IOException e) {
@@ -274,26 +302,21 @@ public class JSONFileStorage implements JSONStorage {
         });
     }
 
+    private void removeFromIndex(File file) {
+        Matcher fileNameMatch = fileNameRegex.matcher(file.getName());
+        if (!fileNameMatch.matches()) return;
+        try {
+            NavigableSet<Long> timestamps = index.get(fileNameMatch.group(1));
+            if (timestamps != null) timestamps.remove(Long.parseLong(fileNameMatch.group(2)));
+        } catch (NumberFormatException e) {
+            // Ignore this file, malformed timestamp
+        }
+    }
+
     @Override
     public Optional<Long> getTimestamp(String identifier) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
-
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            try {
-                String fileName = file.getName();
-                if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                    Matcher timestampMatch = timestampRegex.matcher(fileName);
-                    if (timestampMatch.find()) {
-                        return Optional.of(Long.parseLong(timestampMatch.group(1)));
-                    }
-                }
-            } catch (NumberFormatException e) {
-                // Ignore this file, malformed timestamp
-            }
-        }
-        return Optional.empty();
+        NavigableSet<Long> timestamps = getTimestamps(identifier);
+        return timestamps.isEmpty() ? Optional.empty() : Optional.of(timestamps.last());
     }
 
     @Singleton
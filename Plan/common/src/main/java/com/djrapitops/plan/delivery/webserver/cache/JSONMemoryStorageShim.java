@@ -21,113 +21,110 @@ import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
-import java.util.*;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Tiered {@link JSONStorage} that keeps recently used json in memory in front of {@link JSONFileStorage}.
+ * <p>
+ * Json is kept as UTF-8 bytes and the memory tier is bounded by the total size of the bytes.
+ * Timestamps are resolved from the index of the file storage, so the memory tier only needs exact lookups.
+ * Json is compressed once when it enters the memory tier, see {@link CompressedContentCache}.
+ *
+ * @author AuroraLS3
+ */
 public class JSONMemoryStorageShim implements JSONStorage {
 
     private final PlanConfig config;
-    private final JSONStorage underlyingStorage;
+    private final JSONFileStorage underlyingStorage;
+    private final CompressedContentCache compressedContentCache;
 
-    private Cache<TimestampedIdentifier, StoredJSON> cache;
+    private Cache<TimestampedIdentifier, byte[]> cache;
 
     public JSONMemoryStorageShim(
             PlanConfig config,
-            JSONStorage underlyingStorage
+            JSONFileStorage underlyingStorage,
+            CompressedContentCache compressedContentCache
     ) {
         this.config = config;
         this.underlyingStorage = underlyingStorage;
+        this.compressedContentCache = compressedContentCache;
     }
 
     @Override
     public void enable() {
+        long maxBytes = MemoryCacheBudget.JSON.getMaxBytes(config);
         cache = Caffeine.newBuilder()
                 .expireAfterWrite(config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE), TimeUnit.MILLISECONDS)
+                .maximumWeight(maxBytes)
+                .weigher((TimestampedIdentifier key, byte[] bytes) -> bytes.length)
                 .build();
     }
 
     @Override
     public StoredJSON storeJson(String identifier, String json, long timestamp) {
         StoredJSON storedJSON = underlyingStorage.storeJson(identifier, json, timestamp);
-        getCache().put(new TimestampedIdentifier(identifier, timestamp), storedJSON);
+        return cache(new TimestampedIdentifier(identifier, timestamp), storedJSON);
+    }
+
+    private StoredJSON cache(TimestampedIdentifier key, StoredJSON storedJSON) {
+        byte[] bytes = compressedContentCache.precompress(storedJSON.getBytes());
+        getCache().put(key, bytes);
         return storedJSON;
     }
 
-    public Cache<TimestampedIdentifier, StoredJSON> getCache() {
+    public Cache<TimestampedIdentifier, byte[]> getCache() {
         if (cache == null) enable();
         return cache;
     }
 
     @Override
     public Optional<StoredJSON> fetchJSON(String identifier) {
-        for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
-            if (entry.getKey().identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(entry.getValue());
-            }
-        }
-        Optional<StoredJSON> found = underlyingStorage.fetchJSON(identifier);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
-        return found;
+        return underlyingStorage.getTimestamp(identifier)
+                .flatMap(timestamp -> fetchExactJson(identifier, timestamp));
     }
 
     @Override
     public Optional<StoredJSON> fetchExactJson(String identifier, long timestamp) {
-        StoredJSON cached = getCache().getIfPresent(new TimestampedIdentifier(identifier, timestamp));
-        if (cached != null) return Optional.of(cached);
+        TimestampedIdentifier key = new TimestampedIdentifier(identifier, timestamp);
+        byte[] cached = getCache().getIfPresent(key);
+        if (cached != null) return Optional.of(new StoredJSON(cached, timestamp));
 
-        Optional<StoredJSON> found = underlyingStorage.fetchExactJson(identifier, timestamp);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, timestamp), storedJSON));
-        return found;
+        return underlyingStorage.fetchExactJson(identifier, timestamp)
+                .map(storedJSON -> cache(key, storedJSON));
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeBefore(String identifier, long timestamp) {
-        for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
-            TimestampedIdentifier key = entry.getKey();
-            if (key.timestamp < timestamp && key.identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(entry.getValue());
-            }
-        }
-
-        Optional<StoredJSON> found = underlyingStorage.fetchJsonMadeBefore(identifier, timestamp);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
-        return found;
+        return underlyingStorage.getTimestampMadeBefore(identifier, timestamp)
+                .flatMap(found -> fetchExactJson(identifier, found));
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeAfter(String identifier, long timestamp) {
-        for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
-            TimestampedIdentifier key = entry.getKey();
-            if (key.timestamp > timestamp && key.identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(entry.getValue());
-            }
-        }
-        Optional<StoredJSON> found = underlyingStorage.fetchJsonMadeAfter(identifier, timestamp);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
-        return found;
+        return underlyingStorage.getTimestampMadeAfter(identifier, timestamp)
+                .flatMap(found -> fetchExactJson(identifier, found));
     }
 
     @Override
     public void invalidateOlder(String identifier, long timestamp) {
-        Set<TimestampedIdentifier> toInvalidate = new HashSet<>();
-        for (TimestampedIdentifier key : getCache().asMap().keySet()) {
-            if (key.timestamp < timestamp && key.identifier.equalsIgnoreCase(identifier)) {
-                toInvalidate.add(key);
-            }
+        for (Long older : underlyingStorage.getTimestampsMadeBefore(identifier, timestamp)) {
+            getCache().invalidate(new TimestampedIdentifier(identifier, older));
         }
-        toInvalidate.forEach(getCache()::invalidate);
 
         underlyingStorage.invalidateOlder(identifier, timestamp);
     }
 
+    @Override
+    public void invalidateOlderStartingWith(String identifierPrefix, long timestamp) {
+        getCache().asMap().keySet().removeIf(key -> key.identifier.startsWith(identifierPrefix) && key.timestamp < timestamp);
+        underlyingStorage.invalidateOlderStartingWith(identifierPrefix, timestamp);
+    }
+
     @Override
     public Optional<Long> getTimestamp(String identifier) {
-        for (TimestampedIdentifier key : getCache().asMap().keySet()) {
-            if (key.identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(key.timestamp);
-            }
-        }
-        return Optional.empty();
+        return underlyingStorage.getTimestamp(identifier);
     }
 
     static class TimestampedIdentifier {
@@ -19,6 +19,7 @@ package com.djrapitops.plan.delivery.webserver.cache;
 import com.djrapitops.plan.SubSystem;
 import com.google.gson.Gson;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -63,21 +64,41 @@ public interface JSONStorage extends SubSystem {
 
     void invalidateOlder(String identifier, long timestamp);
 
+    void invalidateOlderStartingWith(String identifierPrefix, long timestamp);
+
     Optional<Long> getTimestamp(String identifier);
 
     final class StoredJSON {
         public final String json;
         public final long timestamp;
+        private byte[] bytes;
 
         public StoredJSON(String json, long timestamp) {
             this.json = json;
             this.timestamp = timestamp;
         }
 
+        public StoredJSON(byte[] bytes, long timestamp) {
+            this(new String(bytes, StandardCharsets.UTF_8), timestamp);
+            this.bytes = bytes;
+        }
+
         public String getJson() {
             return json;
         }
 
+        /**
+         * Get the json as UTF-8 bytes.
+         * <p>
+         * Same array instance is returned on each call so that precompressed content can be found for it.
+         *
+         * @return UTF-8 bytes of the json.
+         */
+        public byte[] getBytes() {
+            if (bytes == null) bytes = json.getBytes(StandardCharsets.UTF_8);
+            return bytes;
+        }
+
         public long getTimestamp() {
             return timestamp;
         }
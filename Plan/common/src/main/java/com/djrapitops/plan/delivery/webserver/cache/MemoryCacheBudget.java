@@ -0,0 +1,43 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+
+/**
+ * Divides {@link WebserverSettings#MEMORY_CACHE_SIZE} between the caches that keep response content in memory.
+ *
+ * @author AuroraLS3
+ */
+public enum MemoryCacheBudget {
+
+    JSON(50),
+    STATIC_BUNDLES(30),
+    // Compressed content is a fraction of the size of the raw content.
+    COMPRESSED(20);
+
+    private final int percentage;
+
+    MemoryCacheBudget(int percentage) {
+        this.percentage = percentage;
+    }
+
+    public long getMaxBytes(PlanConfig config) {
+        return config.get(WebserverSettings.MEMORY_CACHE_SIZE) * 1024L * 1024L * percentage / 100;
+    }
+}
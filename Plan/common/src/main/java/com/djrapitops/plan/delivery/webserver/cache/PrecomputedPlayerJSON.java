@@ -0,0 +1,169 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.rendering.json.PlayerJSONCreator;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * In charge of player page json that is created when a player leaves the server.
+ * <p>
+ * Player page json is expensive to create for players with many sessions, so when enabled it is created
+ * in the background after the session has been saved and stored until it is replaced on the next leave.
+ * Stored json is only served on the day it was created, if no session has ended or other data of the player
+ * has been stored after it was created, and the player is offline and still in the database.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class PrecomputedPlayerJSON {
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final JSONStorage jsonStorage;
+    private final PlayerJSONCreator jsonCreator;
+
+    // Stored json is only served on the day it was created, so older changes don't matter.
+    private final Cache<UUID, Long> lastChanges;
+
+    @Inject
+    public PrecomputedPlayerJSON(
+            PlanConfig config,
+            DBSystem dbSystem,
+            JSONStorage jsonStorage,
+            PlayerJSONCreator jsonCreator
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.jsonStorage = jsonStorage;
+        this.jsonCreator = jsonCreator;
+
+        lastChanges = Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.DAYS)
+                .build();
+    }
+
+    public static String getIdentifier(UUID playerUUID) {
+        return DataID.PLAYER.name() + '-' + playerUUID;
+    }
+
+    public boolean isEnabled() {
+        return config.isTrue(WebserverSettings.PRECOMPUTE_PLAYER_JSON);
+    }
+
+    /**
+     * Create and store the player page json with all sections.
+     * <p>
+     * Should be called after the session of the player has been stored.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void update(UUID playerUUID) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> json = jsonCreator.createJSONAsMap(playerUUID, permission -> true);
+        String identifier = getIdentifier(playerUUID);
+        jsonStorage.storeJson(identifier, json, now);
+        jsonStorage.invalidateOlder(identifier, now);
+    }
+
+    /**
+     * Remove stored player page json of a player, eg. when the player is removed or combined with another.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void remove(UUID playerUUID) {
+        jsonStorage.invalidateOlder(getIdentifier(playerUUID), Long.MAX_VALUE);
+    }
+
+    /**
+     * Remove stored player page json of a player after other data of the player has been stored.
+     * <p>
+     * Json that was being created while the data was stored is not served either.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void playerDataChanged(UUID playerUUID) {
+        if (!isEnabled()) return;
+        lastChanges.put(playerUUID, System.currentTimeMillis());
+        remove(playerUUID);
+    }
+
+    /**
+     * Remove stored player page json of all players, eg. when the database is cleared.
+     */
+    public void removeAll() {
+        jsonStorage.invalidateOlderStartingWith(DataID.PLAYER.name() + '-', Long.MAX_VALUE);
+    }
+
+    /**
+     * Get stored player page json if it is still up to date.
+     *
+     * @param playerUUID    UUID of the player.
+     * @param hasPermission Permissions of the user viewing the page, stored json contains all sections.
+     * @return Stored json, or empty if it should be created on demand.
+     */
+    public Optional<JSONStorage.StoredJSON> getUpToDate(UUID playerUUID, Predicate<WebPermission> hasPermission) {
+        if (!isEnabled() || !canSeeAllSections(hasPermission)) return Optional.empty();
+        if (SessionCache.getCachedSession(playerUUID).isPresent()) return Optional.empty();
+
+        Long lastChange = lastChanges.getIfPresent(playerUUID);
+        Optional<JSONStorage.StoredJSON> stored = jsonStorage.fetchJSON(getIdentifier(playerUUID))
+                // Activity index and the last 7 and 30 days change as days pass.
+                .filter(json -> json.timestamp >= getStartOfToday())
+                .filter(json -> lastChange == null || json.timestamp > lastChange);
+        if (stored.isEmpty()) return Optional.empty();
+
+        // Sessions on other servers may have ended after the json was created.
+        Optional<Long> lastSeen = dbSystem.getDatabase().query(SessionQueries.lastSeenOfRegisteredPlayer(playerUUID));
+        if (lastSeen.isEmpty()) {
+            // Player has been removed
+            remove(playerUUID);
+            return Optional.empty();
+        }
+        return stored.filter(json -> json.timestamp >= lastSeen.get());
+    }
+
+    private long getStartOfToday() {
+        ZoneId timeZone = config.getTimeZone().toZoneId();
+        return LocalDate.now(timeZone).atStartOfDay(timeZone).toInstant().toEpochMilli();
+    }
+
+    private boolean canSeeAllSections(Predicate<WebPermission> hasPermission) {
+        return hasPermission.test(WebPermission.PAGE_PLAYER_OVERVIEW)
+                && hasPermission.test(WebPermission.PAGE_PLAYER_SESSIONS)
+                && hasPermission.test(WebPermission.PAGE_PLAYER_VERSUS)
+                && hasPermission.test(WebPermission.PAGE_PLAYER_SERVERS)
+                && hasPermission.test(WebPermission.PAGE_PLAYER_PLUGINS);
+    }
+}
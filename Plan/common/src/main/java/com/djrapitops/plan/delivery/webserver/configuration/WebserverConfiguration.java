@@ -57,6 +57,13 @@ public class WebserverConfiguration {
         return config.isTrue(WebserverSettings.LOG_ACCESS_TO_CONSOLE);
     }
 
+    /**
+     * @return 1 to store every successful static asset request to access log, n to store every n:th, 0 to store none.
+     */
+    public int getStaticAssetAccessLogSampling() {
+        return config.get(WebserverSettings.ACCESS_LOG_STATIC_ASSET_SAMPLING);
+    }
+
     public boolean isAuthenticationDisabled() {
         return config.isTrue(WebserverSettings.DISABLED_AUTHENTICATION);
     }
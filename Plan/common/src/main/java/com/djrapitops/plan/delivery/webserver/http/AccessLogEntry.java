@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+/**
+ * Row of the access log waiting to be stored.
+ *
+ * @author AuroraLS3
+ * @see AccessLogger
+ */
+public class AccessLogEntry {
+
+    private final long time;
+    @Untrusted
+    private final String fromIp;
+    @Untrusted
+    private final String requestMethod;
+    @Untrusted
+    private final String requestURI;
+    private final int responseCode;
+
+    public AccessLogEntry(long time, @Untrusted String fromIp, @Untrusted String requestMethod, @Untrusted String requestURI, int responseCode) {
+        this.time = time;
+        this.fromIp = fromIp;
+        this.requestMethod = requestMethod;
+        this.requestURI = requestURI;
+        this.responseCode = responseCode;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    @Untrusted
+    public String getFromIp() {
+        return fromIp;
+    }
+
+    @Untrusted
+    public String getRequestMethod() {
+        return requestMethod;
+    }
+
+    @Untrusted
+    public String getRequestURI() {
+        return requestURI;
+    }
+
+    public int getResponseCode() {
+        return responseCode;
+    }
+}
@@ -16,35 +16,74 @@
  */
 package com.djrapitops.plan.delivery.webserver.http;
 
+import com.djrapitops.plan.TaskSystem;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.delivery.webserver.resolver.StaticResourceResolver;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.StoreRequestTransaction;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.events.StoreAccessLogTransaction;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.PluginLogger;
+import org.apache.commons.lang3.StringUtils;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
+/**
+ * Logs requests to console and stores them in the access log table.
+ * <p>
+ * Requests are buffered and stored in batches, when enough of them have been buffered or by {@link FlushTask},
+ * so that each request does not need its own database transaction.
+ *
+ * @author AuroraLS3
+ */
 @Singleton
 public class AccessLogger {
 
+    static final int BATCH_SIZE = 100;
+    static final int MAX_BUFFERED = 10000;
+    private static final Pattern STATIC_ASSET = Pattern.compile(StaticResourceResolver.PATH_REGEX);
+
     private final WebserverConfiguration webserverConfiguration;
     private final DBSystem dbSystem;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
+    private final Queue<AccessLogEntry> buffer;
+    private final AtomicInteger buffered;
+    private final AtomicLong overflowed;
+    private final AtomicLong staticAssetRequests;
+    private final AtomicBoolean batchFlushing;
+
     @Inject
     public AccessLogger(WebserverConfiguration webserverConfiguration, DBSystem dbSystem, PluginLogger logger, ErrorLogger errorLogger) {
         this.webserverConfiguration = webserverConfiguration;
         this.dbSystem = dbSystem;
         this.logger = logger;
         this.errorLogger = errorLogger;
+
+        buffer = new ConcurrentLinkedQueue<>();
+        buffered = new AtomicInteger();
+        overflowed = new AtomicLong();
+        staticAssetRequests = new AtomicLong();
+        batchFlushing = new AtomicBoolean(false);
     }
 
     public void log(@Untrusted InternalRequest internalRequest, @Untrusted Request request, Response response) {
@@ -74,21 +113,104 @@ public class AccessLogger {
                     break;
             }
         }
+
+        @Untrusted String uri = getRequestURI(internalRequest, request);
+        if (!shouldBeStored(uri, response.getCode())) return;
+
+        String method = internalRequest.getMethod();
+        buffer(new AccessLogEntry(
+                internalRequest.getTimestamp(),
+                internalRequest.getAccessAddress(webserverConfiguration),
+                method != null ? method : "?",
+                uri != null ? StringUtils.truncate(uri, 65000) : "non-HTTP request, missing URI",
+                response.getCode()
+        ));
+    }
+
+    private boolean shouldBeStored(@Untrusted String uri, int code) {
+        boolean successful = code >= 200 && code < 300 || code == 304;
+        if (!successful || uri == null || !STATIC_ASSET.matcher(uri).matches()) return true;
+
+        int sampling = webserverConfiguration.getStaticAssetAccessLogSampling();
+        if (sampling <= 0) return false;
+        return staticAssetRequests.incrementAndGet() % sampling == 0;
+    }
+
+    private void buffer(AccessLogEntry entry) {
+        int count = buffered.incrementAndGet();
+        if (count > MAX_BUFFERED) {
+            buffered.decrementAndGet();
+            overflowed.incrementAndGet();
+            return;
+        }
+        buffer.offer(entry);
+        // Only one request thread flushes at a time, others keep buffering and the next request flushes if needed.
+        if (count >= BATCH_SIZE && batchFlushing.compareAndSet(false, true)) {
+            try {
+                flush();
+            } finally {
+                batchFlushing.set(false);
+            }
+        }
+    }
+
+    /**
+     * Store buffered requests to the database.
+     */
+    public void flush() {
+        long lost = overflowed.getAndSet(0);
+        if (lost > 0) {
+            logger.warn("Access log buffer was full, " + lost + " requests were not stored in the access log.");
+        }
+
+        List<AccessLogEntry> batch = new ArrayList<>();
+        AccessLogEntry entry;
+        while ((entry = buffer.poll()) != null) {
+            buffered.decrementAndGet();
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) return;
+
+        Database database = dbSystem.getDatabase();
+        if (database.getState() == Database.State.CLOSED) return;
         try {
-            dbSystem.getDatabase().executeTransaction(
-                    new StoreRequestTransaction(webserverConfiguration, internalRequest, request, response)
-            );
+            database.executeTransaction(new StoreAccessLogTransaction(batch));
         } catch (CompletionException | DBOpException e) {
             errorLogger.warn(e, ErrorContext.builder()
-                    .related("Logging request failed")
-                    .related(getRequestURI(internalRequest, request))
+                    .related("Logging requests failed")
+                    .related(batch.size() + " requests")
                     .build());
         }
     }
 
+    // VisibleForTesting
+    int getBufferedCount() {
+        return buffered.get();
+    }
+
     @Untrusted
     private String getRequestURI(InternalRequest internalRequest, Request request) {
         return request != null ? request.getPath().asString() + request.getQuery().asString()
                 : internalRequest.getRequestedURIString();
     }
+
+    public static class FlushTask extends TaskSystem.Task {
+        private final AccessLogger accessLogger;
+
+        @Inject
+        public FlushTask(AccessLogger accessLogger) {
+            this.accessLogger = accessLogger;
+        }
+
+        @Override
+        public void register(RunnableFactory runnableFactory) {
+            long period = TimeAmount.toTicks(5, TimeUnit.SECONDS);
+            runnableFactory.create(this).runTaskTimerAsynchronously(period, period);
+        }
+
+        @Override
+        public void run() {
+            accessLogger.flush();
+        }
+    }
 }
@@ -19,6 +19,7 @@ package com.djrapitops.plan.delivery.webserver.http;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.webserver.Addresses;
 import com.djrapitops.plan.delivery.webserver.auth.AuthenticationExtractor;
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContentCache;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
@@ -45,9 +46,10 @@ public class JettyRequestHandler extends AbstractHandler {
     private final PlanConfig config;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
+    private final CompressedContentCache compressedContentCache;
 
     @Inject
-    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger) {
+    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger, CompressedContentCache compressedContentCache) {
         this.webserverConfiguration = webserverConfiguration;
         this.authenticationExtractor = authenticationExtractor;
         this.addresses = addresses;
@@ -55,6 +57,7 @@ public class JettyRequestHandler extends AbstractHandler {
         this.config = config;
         this.logger = logger;
         this.errorLogger = errorLogger;
+        this.compressedContentCache = compressedContentCache;
     }
 
     @Override
@@ -62,7 +65,7 @@ public class JettyRequestHandler extends AbstractHandler {
         try {
             InternalRequest internalRequest = new JettyInternalRequest(baseRequest, servletRequest, webserverConfiguration, authenticationExtractor);
             Response response = requestHandler.getResponse(internalRequest);
-            new JettyResponseSender(response, servletRequest, servletResponse, addresses).send();
+            new JettyResponseSender(response, servletRequest, servletResponse, addresses, compressedContentCache).send();
             baseRequest.setHandled(true);
         } catch (Exception e) {
             if (config.isTrue(PluginSettings.DEV_MODE)) {
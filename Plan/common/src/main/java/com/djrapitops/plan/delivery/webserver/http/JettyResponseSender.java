@@ -19,17 +19,16 @@ package com.djrapitops.plan.delivery.webserver.http;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.webserver.Addresses;
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContentCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpHeader;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
-import java.util.zip.GZIPOutputStream;
 
 public class JettyResponseSender {
 
@@ -37,15 +36,23 @@ public class JettyResponseSender {
     private final HttpServletRequest servletRequest;
     private final HttpServletResponse servletResponse;
     private final Addresses addresses;
+    private final CompressedContentCache compressedContentCache;
 
-    public JettyResponseSender(Response response, HttpServletRequest servletRequest, HttpServletResponse servletResponse, Addresses addresses) {
+    public JettyResponseSender(Response response, HttpServletRequest servletRequest, HttpServletResponse servletResponse, Addresses addresses, CompressedContentCache compressedContentCache) {
         this.response = response;
         this.servletRequest = servletRequest;
         this.servletResponse = servletResponse;
         this.addresses = addresses;
+        this.compressedContentCache = compressedContentCache;
     }
 
     public void send() throws IOException {
+        if (isCompressible()) {
+            response.getHeaders().put(HttpHeader.VARY.asString(), HttpHeader.ACCEPT_ENCODING.asString());
+        }
+        if (response.getCode() == 304) {
+            correctNotModifiedEtag();
+        }
         if ("HEAD".equals(servletRequest.getMethod()) || response.getCode() == 204 || response.getCode() == 304) {
             setResponseHeaders();
             sendHeadResponse();
@@ -57,10 +64,28 @@ public class JettyResponseSender {
         }
     }
 
+    private boolean isCompressible() {
+        String mimeType = response.getHeaders().get(HttpHeader.CONTENT_TYPE.asString());
+        return StringUtils.containsAny(mimeType, MimeType.HTML, MimeType.CSS, MimeType.JS, MimeType.JSON, "text/plain");
+    }
+
     private boolean canGzip() {
         String method = servletRequest.getMethod();
-        String mimeType = response.getHeaders().get(HttpHeader.CONTENT_TYPE.asString());
-        return "GET".equals(method) && StringUtils.containsAny(mimeType, MimeType.HTML, MimeType.CSS, MimeType.JS, MimeType.JSON, "text/plain");
+        return "GET".equals(method) && isCompressible() && acceptsGzip();
+    }
+
+    private boolean acceptsGzip() {
+        String acceptEncoding = servletRequest.getHeader(HttpHeader.ACCEPT_ENCODING.asString());
+        if (acceptEncoding == null) return false;
+        for (String encoding : StringUtils.split(acceptEncoding, ',')) {
+            String[] parts = StringUtils.split(encoding, ';');
+            if (parts.length == 0) continue;
+            String name = parts[0].trim();
+            if (!"gzip".equalsIgnoreCase(name) && !"*".equals(name)) continue;
+            // gzip;q=0 means gzip is not acceptable
+            return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+        }
+        return false;
     }
 
     public void sendHeadResponse() throws IOException {
@@ -75,6 +100,7 @@ public class JettyResponseSender {
     private void setResponseHeaders() {
         Map<String, String> responseHeaders = response.getHeaders();
         correctRedirect(responseHeaders);
+        correctEtag(responseHeaders);
 
         for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
             servletResponse.setHeader(header.getKey(), header.getValue());
@@ -89,6 +115,34 @@ public class JettyResponseSender {
         }
     }
 
+    /**
+     * Sends ETags as strong validators, gzipped content gets a different tag than the raw content.
+     * <p>
+     * {@link com.djrapitops.plan.identification.Identifiers#getEtag} reads either tag back to the same value.
+     */
+    private void correctEtag(Map<String, String> responseHeaders) {
+        correctEtag(responseHeaders, "gzip".equals(responseHeaders.get(HttpHeader.CONTENT_ENCODING.asString())));
+    }
+
+    private void correctEtag(Map<String, String> responseHeaders, boolean gzipped) {
+        String etag = responseHeaders.get(HttpHeader.ETAG.asString());
+        if (etag == null || etag.startsWith("\"") || etag.startsWith("W/")) return;
+
+        responseHeaders.put(HttpHeader.ETAG.asString(), '"' + etag + (gzipped ? "-gzip" : "") + '"');
+    }
+
+    /**
+     * 304 responses need to send the same ETag as the 200 response would, so the tag gets the gzip suffix if the content
+     * would have been gzipped.
+     * <p>
+     * Content type of the 200 response is only used for deciding that, it is not sent with 304.
+     */
+    private void correctNotModifiedEtag() {
+        Map<String, String> responseHeaders = response.getHeaders();
+        correctEtag(responseHeaders, canGzip());
+        responseHeaders.remove(HttpHeader.CONTENT_TYPE.asString());
+    }
+
     private void sendCompressed() throws IOException {
         response.getHeaders().remove(HttpHeader.ACCEPT_RANGES.asString());
         response.getHeaders().put(HttpHeader.CONTENT_ENCODING.asString(), "gzip");
@@ -104,15 +158,10 @@ public class JettyResponseSender {
         }
     }
 
-    private byte[] gzip() throws IOException {
-        try (ByteArrayOutputStream bufferStream = new ByteArrayOutputStream();
-             GZIPOutputStream gzipStream = new GZIPOutputStream(bufferStream)
-        ) {
-            gzipStream.write(response.getBytes());
-            gzipStream.finish();
-            gzipStream.flush();
-            return bufferStream.toByteArray();
-        }
+    private byte[] gzip() {
+        byte[] bytes = response.getBytes();
+        return compressedContentCache.getGzipped(bytes)
+                .orElseGet(() -> CompressedContentCache.gzip(bytes));
     }
 
     private void beginSend() {
@@ -76,7 +76,7 @@ public class GraphsJSONResolver extends JSONResolver {
     public boolean canAccess(Request request) {
         @Untrusted String type = request.getQuery().get("type")
                 .orElseThrow(() -> new BadRequestException("'type' parameter was not defined."));
-        DataID dataID = getDataID(type);
+        DataID dataID = getDataID(type, request.getQuery());
         boolean forServer = request.getQuery().get("server").isPresent();
 
         List<WebPermission> requiredPermissionOptions = forServer
@@ -125,6 +125,9 @@ public class GraphsJSONResolver extends JSONResolver {
                             @ExampleObject("1"),
                             @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
                     }),
+                    @Parameter(in = ParameterIn.QUERY, name = "format", description = "'columnar' returns optimizedPerformance and playersOnline values as delta encoded columns", examples = {
+                            @ExampleObject("columnar"),
+                    }),
                     @Parameter(in = ParameterIn.QUERY, name = "timestamp", description = "Epoch millisecond for the request, newer value is wanted")
             },
             responses = {
@@ -144,7 +147,7 @@ public class GraphsJSONResolver extends JSONResolver {
         @Untrusted String type = request.getQuery().get("type")
                 .orElseThrow(() -> new BadRequestException("'type' parameter was not defined."));
 
-        DataID dataID = getDataID(type);
+        DataID dataID = getDataID(type, request.getQuery());
 
         JSONStorage.StoredJSON storedJSON = getGraphJSON(request, dataID);
         return getCachedOrNewResponse(request, storedJSON);
@@ -169,14 +172,15 @@ public class GraphsJSONResolver extends JSONResolver {
         return storedJSON;
     }
 
-    private DataID getDataID(@Untrusted String type) {
+    private DataID getDataID(@Untrusted String type, @Untrusted URIQuery query) {
+        boolean columnar = query.get("format").filter("columnar"::equals).isPresent();
         switch (type) {
             case "performance":
                 return DataID.GRAPH_PERFORMANCE;
             case "optimizedPerformance":
-                return DataID.GRAPH_OPTIMIZED_PERFORMANCE;
+                return columnar ? DataID.GRAPH_OPTIMIZED_PERFORMANCE_COLUMNAR : DataID.GRAPH_OPTIMIZED_PERFORMANCE;
             case "playersOnline":
-                return DataID.GRAPH_ONLINE;
+                return columnar ? DataID.GRAPH_ONLINE_COLUMNAR : DataID.GRAPH_ONLINE;
             case "playersOnlineProxies":
                 return DataID.GRAPH_ONLINE_PROXIES;
             case "uniqueAndNew":
@@ -212,8 +216,10 @@ public class GraphsJSONResolver extends JSONResolver {
                 return List.of(WebPermission.PAGE_SERVER_PERFORMANCE_GRAPHS);
             case GRAPH_PING:
             case GRAPH_OPTIMIZED_PERFORMANCE:
+            case GRAPH_OPTIMIZED_PERFORMANCE_COLUMNAR:
                 return List.of(WebPermission.PAGE_SERVER_PERFORMANCE_GRAPHS, WebPermission.PAGE_NETWORK_PERFORMANCE);
             case GRAPH_ONLINE:
+            case GRAPH_ONLINE_COLUMNAR:
                 return List.of(WebPermission.PAGE_SERVER_OVERVIEW_PLAYERS_ONLINE_GRAPH);
             case GRAPH_UNIQUE_NEW:
                 return List.of(WebPermission.PAGE_SERVER_ONLINE_ACTIVITY_GRAPHS_DAY_BY_DAY);
@@ -242,6 +248,7 @@ public class GraphsJSONResolver extends JSONResolver {
         switch (dataID) {
             case GRAPH_PERFORMANCE:
             case GRAPH_OPTIMIZED_PERFORMANCE:
+            case GRAPH_OPTIMIZED_PERFORMANCE_COLUMNAR:
             case GRAPH_PING:
                 return List.of(WebPermission.PAGE_NETWORK_PERFORMANCE);
             case GRAPH_ACTIVITY:
@@ -273,8 +280,12 @@ public class GraphsJSONResolver extends JSONResolver {
                 return graphJSON.performanceGraphJSON(serverUUID);
             case GRAPH_OPTIMIZED_PERFORMANCE:
                 return graphJSON.optimizedPerformanceGraphJSON(serverUUID);
+            case GRAPH_OPTIMIZED_PERFORMANCE_COLUMNAR:
+                return graphJSON.columnarPerformanceGraphJSON(serverUUID);
             case GRAPH_ONLINE:
                 return graphJSON.playersOnlineGraph(serverUUID);
+            case GRAPH_ONLINE_COLUMNAR:
+                return graphJSON.columnarPlayersOnlineGraph(serverUUID);
             case GRAPH_UNIQUE_NEW:
                 return graphJSON.uniqueAndNewGraphJSON(serverUUID);
             case GRAPH_HOURLY_UNIQUE_NEW:
@@ -49,17 +49,22 @@ public abstract class JSONResolver implements Resolver {
         if (browserCached.isPresent() && browserCached.get() == storedJSON.getTimestamp()) {
             return Response.builder()
                     .setStatus(304)
+                    .setMimeType(MimeType.JSON + "; charset=utf-8")
                     .setContent(new byte[0])
+                    .setHeader(HttpHeader.ETAG.asString(), storedJSON.getTimestamp())
                     .build();
         }
 
-        return Response.builder()
-                .setMimeType(MimeType.JSON)
-                .setJSONContent(storedJSON.getJson())
+        // Same byte array instance is given to the response so that precompressed version is found when sending.
+        Response response = Response.builder()
+                .setMimeType(MimeType.JSON + "; charset=utf-8")
+                .setContent(storedJSON.getBytes())
                 .setHeader(HttpHeader.CACHE_CONTROL.asString(), CacheStrategy.CHECK_ETAG_USER_SPECIFIC)
                 .setHeader(HttpHeader.LAST_MODIFIED.asString(), getHttpLastModifiedFormatter().apply(storedJSON.getTimestamp()))
                 .setHeader(HttpHeader.ETAG.asString(), storedJSON.getTimestamp())
                 .build();
+        response.getHeaders().remove(HttpHeader.ACCEPT_RANGES.asString());
+        return response;
     }
 
     protected abstract Formatter<Long> getHttpLastModifiedFormatter();
@@ -24,6 +24,8 @@ import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
+import com.djrapitops.plan.delivery.webserver.cache.PrecomputedPlayerJSON;
 import com.djrapitops.plan.identification.Identifiers;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -48,11 +50,13 @@ public class PlayerJSONResolver implements Resolver {
 
     private final Identifiers identifiers;
     private final PlayerJSONCreator jsonCreator;
+    private final PrecomputedPlayerJSON precomputedJSON;
 
     @Inject
-    public PlayerJSONResolver(Identifiers identifiers, PlayerJSONCreator jsonCreator) {
+    public PlayerJSONResolver(Identifiers identifiers, PlayerJSONCreator jsonCreator, PrecomputedPlayerJSON precomputedJSON) {
         this.identifiers = identifiers;
         this.jsonCreator = jsonCreator;
+        this.precomputedJSON = precomputedJSON;
     }
 
     @Override
@@ -95,6 +99,14 @@ public class PlayerJSONResolver implements Resolver {
         Predicate<WebPermission> hasPermission = request.getUser()
                 .map(user -> (Predicate<WebPermission>) user::hasPermission)
                 .orElse(permission -> true); // No user means auth disabled inside resolve
+        Optional<JSONStorage.StoredJSON> precomputed = precomputedJSON.getUpToDate(playerUUID, hasPermission);
+        if (precomputed.isPresent()) {
+            return Response.builder()
+                    .setMimeType(MimeType.JSON)
+                    .setJSONContent(precomputed.get().json)
+                    .build();
+        }
+
         Map<String, Object> jsonAsMap = jsonCreator.createJSONAsMap(playerUUID, hasPermission);
         return Response.builder()
                 .setMimeType(MimeType.JSON)
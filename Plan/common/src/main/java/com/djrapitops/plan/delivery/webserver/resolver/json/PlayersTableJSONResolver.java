@@ -22,13 +22,17 @@ import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.AsyncJSONResolverService;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.TablePlayerSort;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.TablePlayersPage;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -54,6 +58,11 @@ import java.util.Optional;
 @Path("/v1/playersTable")
 public class PlayersTableJSONResolver extends JSONResolver {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_LENGTH = 16;
+    private static final int CACHED_PAGES = 5;
+
     private final Identifiers identifiers;
     private final AsyncJSONResolverService jsonResolverService;
     private final JSONFactory jsonFactory;
@@ -89,11 +98,22 @@ public class PlayersTableJSONResolver extends JSONResolver {
             responses = {
                     @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
             },
-            parameters = @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
-                    @ExampleObject("Server 1"),
-                    @ExampleObject("1"),
-                    @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
-            }),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page number starting from 0, returns a single page of players when given (optional)", examples = @ExampleObject("0")),
+                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Players per page, 1-" + MAX_PAGE_SIZE + " (optional, default " + DEFAULT_PAGE_SIZE + ")", examples = @ExampleObject("50")),
+                    @Parameter(in = ParameterIn.QUERY, name = "sort", description = "Player field to sort by (optional, default lastSeen)", examples = {
+                            @ExampleObject("playerName"),
+                            @ExampleObject("lastSeen"),
+                            @ExampleObject("playtimeActive"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "order", description = "asc or desc (optional, default desc)", examples = @ExampleObject("desc")),
+                    @Parameter(in = ParameterIn.QUERY, name = "search", description = "Text that player name should contain (optional)", examples = @ExampleObject("Notch")),
+            },
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = PlayerListDto.class)))
     )
     @Override
@@ -102,6 +122,16 @@ public class PlayersTableJSONResolver extends JSONResolver {
     }
 
     private Response getResponse(Request request) {
+        if (request.getQuery().get("page").isPresent()) {
+            TablePlayersPage page = getPage(request.getQuery());
+            if (!isCached(page)) {
+                return Response.builder()
+                        .setMimeType(MimeType.JSON)
+                        .setJSONContent(createPageJSON(request, page))
+                        .build();
+            }
+            return getCachedOrNewResponse(request, getStoredPageJSON(request, page));
+        }
         JSONStorage.StoredJSON storedJSON = getStoredJSON(request);
         return getCachedOrNewResponse(request, storedJSON);
     }
@@ -111,11 +141,87 @@ public class PlayersTableJSONResolver extends JSONResolver {
         JSONStorage.StoredJSON storedJSON;
         if (request.getQuery().get("server").isPresent()) {
             ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
-            storedJSON = jsonResolverService.resolve(timestamp, DataID.PLAYERS_V2, serverUUID, uuid -> jsonFactory.serverPlayersTableJSON(uuid).toPlayerList());
+            storedJSON = jsonResolverService.resolve(timestamp, DataID.PLAYERS_V2, serverUUID, jsonFactory::serverPlayerListJSON);
         } else {
             // Assume players page
-            storedJSON = jsonResolverService.resolve(timestamp, DataID.PLAYERS_V2, () -> jsonFactory.networkPlayersTableJSON().toPlayerList());
+            storedJSON = jsonResolverService.resolve(timestamp, DataID.PLAYERS_V2, jsonFactory::networkPlayerListJSON);
         }
         return storedJSON;
     }
-}
\ No newline at end of file
+
+    /**
+     * Only the first pages the players table loads by default are cached, so that the cache does not grow with every
+     * search, page size or page number.
+     */
+    private boolean isCached(TablePlayersPage page) {
+        return page.getNameFilter().isEmpty()
+                && page.getLimit() == DEFAULT_PAGE_SIZE
+                && page.getOffset() < CACHED_PAGES * DEFAULT_PAGE_SIZE;
+    }
+
+    private String createPageJSON(@Untrusted Request request, TablePlayersPage page) {
+        if (request.getQuery().get("server").isPresent()) {
+            ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            return jsonFactory.serverPlayerListPageJSON(serverUUID, page);
+        } else {
+            // Assume players page
+            return jsonFactory.networkPlayerListPageJSON(page);
+        }
+    }
+
+    private JSONStorage.StoredJSON getStoredPageJSON(@Untrusted Request request, TablePlayersPage page) {
+        Optional<Long> timestamp = Identifiers.getTimestamp(request);
+        String variant = getVariant(page);
+        if (request.getQuery().get("server").isPresent()) {
+            ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            return jsonResolverService.resolve(timestamp, DataID.PLAYERS_TABLE_PAGE, serverUUID, variant, () -> jsonFactory.serverPlayerListPageJSON(serverUUID, page));
+        } else {
+            // Assume players page
+            return jsonResolverService.resolve(timestamp, DataID.PLAYERS_TABLE_PAGE, null, variant, () -> jsonFactory.networkPlayerListPageJSON(page));
+        }
+    }
+
+    private TablePlayersPage getPage(@Untrusted URIQuery query) {
+        int pageNumber = getNumber(query, "page", 0);
+        int pageSize = getNumber(query, "size", DEFAULT_PAGE_SIZE);
+        if (pageNumber < 0) throw new BadRequestException("'page' can not be negative");
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) throw new BadRequestException("'size' needs to be between 1 and " + MAX_PAGE_SIZE);
+
+        TablePlayerSort.Column column = query.get("sort")
+                .map(sort -> TablePlayerSort.Column.fromName(sort)
+                        .orElseThrow(() -> new BadRequestException("Unknown 'sort' parameter")))
+                .orElse(TablePlayerSort.Column.LAST_SEEN);
+        @Untrusted String order = query.get("order").orElse("desc");
+        if (!"asc".equalsIgnoreCase(order) && !"desc".equalsIgnoreCase(order)) {
+            throw new BadRequestException("'order' needs to be asc or desc");
+        }
+        @Untrusted String search = query.get("search")
+                .map(text -> text.length() > MAX_SEARCH_LENGTH ? text.substring(0, MAX_SEARCH_LENGTH) : text)
+                .orElse(null);
+
+        long offset = (long) pageNumber * pageSize;
+        if (offset > Integer.MAX_VALUE) throw new BadRequestException("'page' is too large");
+        return new TablePlayersPage(pageSize, (int) offset, new TablePlayerSort(column, "desc".equalsIgnoreCase(order)), search);
+    }
+
+    private int getNumber(@Untrusted URIQuery query, String parameter, int defaultValue) {
+        try {
+            return query.get(parameter).map(Integer::parseInt).orElse(defaultValue);
+        } catch (@Untrusted NumberFormatException e) {
+            throw new BadRequestException("'" + parameter + "' is not a number");
+        }
+    }
+
+    /**
+     * Identify the page in a way that is safe to use in a json storage file name.
+     */
+    private String getVariant(TablePlayersPage page) {
+        TablePlayerSort sort = page.getSort();
+        StringBuilder variant = new StringBuilder()
+                .append(page.getOffset()).append('-')
+                .append(page.getLimit()).append('-')
+                .append(sort.getColumn().getFieldName()).append('-')
+                .append(sort.isDescending() ? "desc" : "asc");
+        return variant.toString();
+    }
+}
@@ -303,10 +303,11 @@ public class QueryJSONResolver implements Resolver {
         long twoMonthsBeforeLastDate = before - TimeAmount.MONTH.toMillis(2L);
         long stopDate = Math.max(twoMonthsBeforeLastDate, after);
 
-        DateMap<Map<String, Integer>> activityData = new DateMap<>();
+        List<Long> dates = new ArrayList<>();
         for (long time = before; time >= stopDate; time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, database.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold, userIds, serverUUIDs)));
+            dates.add(time);
         }
+        DateMap<Map<String, Integer>> activityData = database.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, threshold, userIds, serverUUIDs));
 
         return graphJSONCreator.createActivityGraphJSON(activityData);
     }
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.extension;
 
 import com.djrapitops.plan.component.ComponentSvc;
+import com.djrapitops.plan.delivery.webserver.cache.PrecomputedPlayerJSON;
 import com.djrapitops.plan.extension.builder.ExtensionDataBuilder;
 import com.djrapitops.plan.extension.implementation.CallerImplementation;
 import com.djrapitops.plan.extension.implementation.ExtensionRegister;
@@ -59,6 +60,7 @@ public class ExtensionSvc implements ExtensionService {
     private final UUIDUtility uuidUtility;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
+    private final PrecomputedPlayerJSON precomputedPlayerJSON;
 
     private final Map<String, DataValueGatherer> extensionGatherers;
     private final AtomicBoolean enabled;
@@ -73,7 +75,8 @@ public class ExtensionSvc implements ExtensionService {
             ExtensionRegister extensionRegister,
             UUIDUtility uuidUtility,
             PluginLogger logger,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            PrecomputedPlayerJSON precomputedPlayerJSON
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
@@ -84,6 +87,7 @@ public class ExtensionSvc implements ExtensionService {
         this.uuidUtility = uuidUtility;
         this.logger = logger;
         this.errorLogger = errorLogger;
+        this.precomputedPlayerJSON = precomputedPlayerJSON;
 
         extensionGatherers = new HashMap<>();
         enabled = new AtomicBoolean(true);
@@ -178,7 +182,8 @@ public class ExtensionSvc implements ExtensionService {
                 playerName :
                 uuidUtility.getNameOf(realUUID).orElse(null);
 
-        gatherer.updateValues(realUUID, realPlayerName);
+        gatherer.updateValues(realUUID, realPlayerName)
+                .thenRun(() -> precomputedPlayerJSON.playerDataChanged(realUUID));
     }
 
     public void updateServerValues(CallEvents event) {
@@ -24,6 +24,7 @@ import com.djrapitops.plan.extension.extractor.ExtensionMethod;
 import com.djrapitops.plan.extension.extractor.ExtensionMethods;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.utilities.java.Lists;
 
 import java.util.*;
@@ -46,6 +47,7 @@ public class ExtensionWrapper {
     private final PluginInfo pluginInfo;
     private final List<TabInfo> tabInformation;
     private final Map<ExtensionMethod.ParameterType, ExtensionMethods> methods;
+    private final Map<ExtensionMethod, MethodWrapper<Object>> methodWrappers;
 
     /**
      * Create an ExtensionWrapper.
@@ -60,6 +62,31 @@ public class ExtensionWrapper {
         pluginInfo = extractor.getPluginInfo();
         tabInformation = extractor.getTabInformation();
         methods = extractor.getMethods();
+        methodWrappers = createMethodWrappers(methods);
+    }
+
+    private static Map<ExtensionMethod, MethodWrapper<Object>> createMethodWrappers(Map<ExtensionMethod.ParameterType, ExtensionMethods> methods) {
+        // Identity is used since the same ExtensionMethod objects are used when gathering values.
+        Map<ExtensionMethod, MethodWrapper<Object>> wrappers = new IdentityHashMap<>();
+        for (ExtensionMethods ofParameterType : methods.values()) {
+            List<List<ExtensionMethod>> providers = Arrays.asList(
+                    ofParameterType.getBooleanProviders(),
+                    ofParameterType.getNumberProviders(),
+                    ofParameterType.getDoubleProviders(),
+                    ofParameterType.getPercentageProviders(),
+                    ofParameterType.getStringProviders(),
+                    ofParameterType.getComponentProviders(),
+                    ofParameterType.getTableProviders(),
+                    ofParameterType.getGroupProviders(),
+                    ofParameterType.getDataBuilderProviders()
+            );
+            for (List<ExtensionMethod> ofProviderType : providers) {
+                for (ExtensionMethod provider : ofProviderType) {
+                    wrappers.put(provider, new MethodWrapper<>(provider.getMethod(), Object.class));
+                }
+            }
+        }
+        return wrappers;
     }
 
     public CallEvents[] getCallEvents() {
@@ -114,6 +141,17 @@ public class ExtensionWrapper {
         return Lists.mapUnique(extractor.getInvalidateMethodAnnotations(), InvalidateMethod::value);
     }
 
+    /**
+     * Get the wrapper that is used for calling a method of the extension.
+     *
+     * @param method Method of this extension.
+     * @return MethodWrapper created when the extension was registered.
+     */
+    public MethodWrapper<Object> getMethodWrapper(ExtensionMethod method) {
+        MethodWrapper<Object> wrapper = methodWrappers.get(method);
+        return wrapper != null ? wrapper : new MethodWrapper<>(method.getMethod(), Object.class);
+    }
+
     public Collection<String> getWarnings() {
         return extractor.getWarnings();
     }
@@ -19,15 +19,19 @@ package com.djrapitops.plan.extension.implementation.providers;
 import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.NotReadyException;
+import com.djrapitops.plan.extension.extractor.ExtensionMethod;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * Wrap a Method so that it is easier to call.
+ * <p>
+ * The method is turned into a {@link MethodHandle} once when the wrapper is created,
+ * so calling it does not go through reflection.
  *
  * @author AuroraLS3
  */
@@ -36,33 +40,56 @@ public class MethodWrapper<T> {
     private final Method method;
     private final Class<T> returnType;
     private final MethodType methodType;
+    private final ExtensionMethod.ParameterType parameterType;
+    private final MethodHandle handle; // (Object) -> Object, or (Object, Object) -> Object if the method has a parameter
     private boolean disabled = false;
 
+    /**
+     * Create a new MethodWrapper.
+     *
+     * @param method     Method to call, needs to be accessible.
+     * @param returnType Type the method returns.
+     * @throws IllegalArgumentException If the method has invalid parameters or can not be accessed.
+     */
     public MethodWrapper(Method method, Class<T> returnType) {
         this.method = method;
         this.returnType = returnType;
         methodType = MethodType.forMethod(this.method);
+        parameterType = ExtensionMethod.ParameterType.getByMethodSignature(method);
+        handle = createHandle(method);
+    }
+
+    private static MethodHandle createHandle(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return handle.asType(handle.type().generic());
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(method.getName() + " could not be accessed: " + e.getMessage(), e);
+        }
     }
 
     public T callMethod(DataExtension extension, Parameters with) {
         if (disabled) return null;
+        Object value;
         try {
-            return returnType.cast(with.usingOn(extension, method));
-        } catch (InvocationTargetException notReadyToBeCalled) {
-            Throwable cause = notReadyToBeCalled.getCause();
-            if (cause instanceof NotReadyException || cause instanceof UnsupportedOperationException) {
-                return null; // Data or API not available to make the call.
-            } else {
-                throw new DataExtensionMethodCallException(getErrorMessage(extension, notReadyToBeCalled), notReadyToBeCalled, extension.getPluginName(), getMethodName());
-            }
-        } catch (IllegalAccessException e) {
-            throw new DataExtensionMethodCallException(extension.getPluginName() + '.' + getMethodName() + " could not be accessed: " + e.getMessage(), e, extension.getPluginName(), getMethodName());
+            value = invoke(extension, with);
+        } catch (NotReadyException | UnsupportedOperationException notReadyToBeCalled) {
+            return null; // Data or API not available to make the call.
+        } catch (Throwable e) {
+            throw new DataExtensionMethodCallException(getErrorMessage(extension, e), e, extension.getPluginName(), getMethodName());
+        }
+        return returnType.cast(value);
+    }
+
+    private Object invoke(DataExtension extension, Parameters with) throws Throwable {
+        if (parameterType == ExtensionMethod.ParameterType.SERVER_NONE) {
+            return (Object) handle.invokeExact((Object) extension);
         }
+        return (Object) handle.invokeExact((Object) extension, with.getArgument(parameterType));
     }
 
-    private String getErrorMessage(DataExtension extension, InvocationTargetException e) {
-        Optional<Throwable> actualCause = Optional.ofNullable(e.getCause()); // InvocationTargetException
-        return extension.getPluginName() + '.' + getMethodName() + " errored: " + actualCause.orElse(e).toString();
+    private String getErrorMessage(DataExtension extension, Throwable e) {
+        return extension.getPluginName() + '.' + getMethodName() + " errored: " + e.toString();
     }
 
     public String getMethodName() {
@@ -16,13 +16,11 @@
  */
 package com.djrapitops.plan.extension.implementation.providers;
 
-import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.Group;
+import com.djrapitops.plan.extension.extractor.ExtensionMethod;
 import com.djrapitops.plan.extension.implementation.MethodType;
 import com.djrapitops.plan.identification.ServerUUID;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.UUID;
 
 public interface Parameters {
@@ -38,7 +36,14 @@ public interface Parameters {
         return new GroupParameters(serverUUID, groupName);
     }
 
-    Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException;
+    /**
+     * Get the argument that should be given to a method with the given parameter.
+     *
+     * @param parameterType Parameter of the method.
+     * @return The argument.
+     * @throws IllegalArgumentException If these parameters can not be used with the method.
+     */
+    Object getArgument(ExtensionMethod.ParameterType parameterType);
 
     MethodType getMethodType();
 
@@ -60,8 +65,8 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(extension);
+        public Object getArgument(ExtensionMethod.ParameterType parameterType) {
+            throw new IllegalArgumentException("Server parameters can not be given to a method with " + parameterType + " parameter");
         }
 
         @Override
@@ -91,12 +96,14 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
-            Class<?> parameterType = method.getParameterTypes()[0];
-            if (UUID.class.equals(parameterType)) {
-                return method.invoke(extension, playerUUID);
-            } else {
-                return method.invoke(extension, playerName);
+        public Object getArgument(ExtensionMethod.ParameterType parameterType) {
+            switch (parameterType) {
+                case PLAYER_UUID:
+                    return playerUUID;
+                case PLAYER_STRING:
+                    return playerName;
+                default:
+                    throw new IllegalArgumentException("Player parameters can not be given to a method with " + parameterType + " parameter");
             }
         }
 
@@ -109,10 +116,12 @@ public interface Parameters {
     class GroupParameters implements Parameters {
         private final ServerUUID serverUUID;
         private final String groupName;
+        private final Group group;
 
         private GroupParameters(ServerUUID serverUUID, String groupName) {
             this.serverUUID = serverUUID;
             this.groupName = groupName;
+            this.group = this::getGroupName;
         }
 
         public ServerUUID getServerUUID() {
@@ -120,9 +129,11 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
-            Group group = this::getGroupName;
-            return method.invoke(extension, group);
+        public Object getArgument(ExtensionMethod.ParameterType parameterType) {
+            if (parameterType != ExtensionMethod.ParameterType.GROUP) {
+                throw new IllegalArgumentException("Group parameters can not be given to a method with " + parameterType + " parameter");
+            }
+            return group;
         }
 
         public String getGroupName() {
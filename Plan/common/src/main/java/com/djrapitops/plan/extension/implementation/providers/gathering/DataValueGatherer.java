@@ -32,12 +32,10 @@ import com.djrapitops.plan.extension.implementation.ExtensionWrapper;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.TabInformation;
 import com.djrapitops.plan.extension.implementation.builder.*;
-import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreTabInformationTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.*;
 import com.djrapitops.plan.extension.table.Table;
@@ -48,10 +46,9 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 
 /**
@@ -69,6 +66,8 @@ public class DataValueGatherer {
     private final ErrorLogger errorLogger;
 
     private final Set<ExtensionMethod> brokenMethods;
+    private final Map<Icon, Integer> storedIconIds;
+    private final Set<ProviderInformation> storedProviders;
 
     public DataValueGatherer(
             ExtensionWrapper extension,
@@ -85,6 +84,8 @@ public class DataValueGatherer {
         this.errorLogger = errorLogger;
 
         this.brokenMethods = new HashSet<>();
+        this.storedIconIds = new ConcurrentHashMap<>();
+        this.storedProviders = ConcurrentHashMap.newKeySet();
     }
 
     public boolean shouldSkipEvent(CallEvents event) {
@@ -104,6 +105,9 @@ public class DataValueGatherer {
     }
 
     public void storeExtensionInformation() {
+        storedIconIds.clear();
+        storedProviders.clear();
+
         String pluginName = extension.getPluginName();
         Icon pluginIcon = extension.getPluginIcon();
 
@@ -318,32 +322,34 @@ public class DataValueGatherer {
 
     private <T> T callMethod(ExtensionMethod provider, Parameters params, Class<T> returnType) {
         try {
-            return new MethodWrapper<>(provider.getMethod(), returnType)
-                    .callMethod(extension.getExtension(), params);
+            return returnType.cast(extension.getMethodWrapper(provider)
+                    .callMethod(extension.getExtension(), params));
         } catch (DataExtensionMethodCallException e) {
             brokenMethods.add(provider);
             throw e;
         }
     }
 
-    public void updateValues(UUID playerUUID, String playerName) {
+    public CompletableFuture<?> updateValues(UUID playerUUID, String playerName) {
         try {
-            tryToUpdateValues(playerUUID, playerName);
+            return tryToUpdateValues(playerUUID, playerName);
         } catch (RejectedExecutionException ignore) {
             // Database has shut down
+            return CompletableFuture.completedFuture(null);
         }
     }
 
-    private void tryToUpdateValues(UUID playerUUID, String playerName) {
+    private CompletableFuture<?> tryToUpdateValues(UUID playerUUID, String playerName) {
         Parameters parameters = Parameters.player(serverInfo.getServerUUID(), playerUUID, playerName);
         ExtensionDataBuilder dataBuilder = extension.getExtension().newExtensionDataBuilder();
 
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_STRING), parameters);
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_UUID), parameters);
 
-        gatherPlayer(parameters, (ExtDataBuilder) dataBuilder);
-
-        dbSystem.getDatabase().executeTransaction(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues()));
+        StorageBatch batch = newStorageBatch();
+        gatherPlayer(batch, parameters, (ExtDataBuilder) dataBuilder);
+        batch.add(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues()));
+        return batch.storeTo(dbSystem.getDatabase());
     }
 
     public void updateValues() {
@@ -360,28 +366,34 @@ public class DataValueGatherer {
 
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.SERVER_NONE), parameters);
 
-        gather(parameters, (ExtDataBuilder) dataBuilder);
+        StorageBatch batch = newStorageBatch();
+        gather(batch, parameters, (ExtDataBuilder) dataBuilder);
+        batch.storeTo(dbSystem.getDatabase());
+    }
+
+    private StorageBatch newStorageBatch() {
+        return new StorageBatch(storedIconIds, storedProviders);
     }
 
 
-    private void gatherPlayer(Parameters parameters, ExtDataBuilder dataBuilder) {
+    private void gatherPlayer(StorageBatch batch, Parameters parameters, ExtDataBuilder dataBuilder) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storePlayerBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerBoolean(batch, parameters, conditions, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storePlayerNumber(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerNumber(batch, parameters, conditions, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storePlayerDouble(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerDouble(batch, parameters, conditions, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storePlayerString(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerString(batch, parameters, conditions, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storePlayerComponent(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerComponent(batch, parameters, conditions, data));
                 pair.getValue(String[].class).flatMap(data -> data.getMetadata(GroupsDataValue.class))
-                        .ifPresent(data -> storePlayerGroups(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerGroups(batch, parameters, conditions, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storePlayerTable(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerTable(batch, parameters, conditions, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError unexpectedError) {
@@ -390,22 +402,22 @@ public class DataValueGatherer {
         }
     }
 
-    private void gather(Parameters parameters, ExtDataBuilder dataBuilder) {
+    private void gather(StorageBatch batch, Parameters parameters, ExtDataBuilder dataBuilder) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storeBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storeBoolean(batch, parameters, conditions, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storeNumber(parameters, conditions, data));
+                        .ifPresent(data -> storeNumber(batch, parameters, conditions, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storeDouble(parameters, conditions, data));
+                        .ifPresent(data -> storeDouble(batch, parameters, conditions, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storeString(parameters, conditions, data));
+                        .ifPresent(data -> storeString(batch, parameters, conditions, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storeComponent(parameters, conditions, data));
+                        .ifPresent(data -> storeComponent(batch, parameters, conditions, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storeTable(parameters, conditions, data));
+                        .ifPresent(data -> storeTable(batch, parameters, conditions, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (RejectedExecutionException ignore) {
@@ -462,7 +474,7 @@ public class DataValueGatherer {
         return json;
     }
 
-    private void storeBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storeBoolean(StorageBatch batch, Parameters parameters, Conditions conditions, BooleanDataValue data) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
         if (value == null) return;
@@ -472,71 +484,65 @@ public class DataValueGatherer {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerBooleanResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StoreServerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storeNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storeNumber(StorageBatch batch, Parameters parameters, Conditions conditions, NumberDataValue data) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerNumberResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StoreServerNumberResultTransaction(information, parameters, value));
     }
 
 
-    private void storeDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storeDouble(StorageBatch batch, Parameters parameters, Conditions conditions, DoubleDataValue data) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerDoubleResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StoreServerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storeString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storeString(StorageBatch batch, Parameters parameters, Conditions conditions, StringDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storeComponent(StorageBatch batch, Parameters parameters, Conditions conditions, ComponentDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storeTable(StorageBatch batch, Parameters parameters, Conditions conditions, TableDataValue data) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
         for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
+            if (icon != null) batch.storeIcon(icon);
         }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StoreServerTableResultTransaction(information, parameters, value));
+        batch.add(new StoreTableProviderTransaction(information, parameters, value));
+        batch.add(new StoreServerTableResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storePlayerBoolean(StorageBatch batch, Parameters parameters, Conditions conditions, BooleanDataValue data) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
         if (value == null) return;
@@ -546,77 +552,70 @@ public class DataValueGatherer {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerBooleanResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StorePlayerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storePlayerNumber(StorageBatch batch, Parameters parameters, Conditions conditions, NumberDataValue data) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerNumberResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StorePlayerNumberResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storePlayerDouble(StorageBatch batch, Parameters parameters, Conditions conditions, DoubleDataValue data) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerDoubleResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StorePlayerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storePlayerString(StorageBatch batch, Parameters parameters, Conditions conditions, StringDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storePlayerComponent(StorageBatch batch, Parameters parameters, Conditions conditions, ComponentDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerGroups(Parameters parameters, Conditions conditions, GroupsDataValue data) {
+    private void storePlayerGroups(StorageBatch batch, Parameters parameters, Conditions conditions, GroupsDataValue data) {
         ProviderInformation information = data.getInformation();
         String[] value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerGroupsResultTransaction(information, parameters, value));
+        batch.storeIcon(information.getIcon());
+        batch.storeProvider(information, parameters);
+        batch.add(new StorePlayerGroupsResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storePlayerTable(StorageBatch batch, Parameters parameters, Conditions conditions, TableDataValue data) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
         for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
+            if (icon != null) batch.storeIcon(icon);
         }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StorePlayerTableResultTransaction(information, parameters, value));
+        batch.add(new StoreTableProviderTransaction(information, parameters, value));
+        batch.add(new StorePlayerTableResultTransaction(information, parameters, value));
     }
 }
\ No newline at end of file
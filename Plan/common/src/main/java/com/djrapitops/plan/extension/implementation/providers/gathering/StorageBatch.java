@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.icon.IconAccessor;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreExtensionDataTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects transactions for values gathered with one {@link Parameters} so that they can be stored with one transaction.
+ * <p>
+ * Icons and providers that have already been stored are skipped.
+ *
+ * @author AuroraLS3
+ */
+class StorageBatch {
+
+    private final Map<Icon, Integer> storedIconIds;
+    private final Set<ProviderInformation> storedProviders;
+
+    private final List<Transaction> transactions;
+    private final List<Icon> newIcons;
+    private final List<ProviderInformation> newProviders;
+
+    StorageBatch(Map<Icon, Integer> storedIconIds, Set<ProviderInformation> storedProviders) {
+        this.storedIconIds = storedIconIds;
+        this.storedProviders = storedProviders;
+
+        transactions = new ArrayList<>();
+        newIcons = new ArrayList<>();
+        newProviders = new ArrayList<>();
+    }
+
+    void storeIcon(Icon icon) {
+        Integer id = storedIconIds.get(icon);
+        if (id != null) {
+            IconAccessor.setId(icon, id);
+            return;
+        }
+        transactions.add(new StoreIconTransaction(icon));
+        newIcons.add(icon);
+    }
+
+    void storeProvider(ProviderInformation information, Parameters parameters) {
+        if (storedProviders.contains(information)) return;
+        transactions.add(new StoreProviderTransaction(information, parameters));
+        newProviders.add(information);
+    }
+
+    void add(Transaction transaction) {
+        transactions.add(transaction);
+    }
+
+    CompletableFuture<?> storeTo(Database database) {
+        if (transactions.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        StoreExtensionDataTransaction transaction = new StoreExtensionDataTransaction(transactions);
+        return database.executeTransaction(transaction).thenRun(() -> {
+            if (transaction.wasStored()) {
+                rememberStored();
+            } else if (!transaction.wasSuccessful()) {
+                // Stored rows might have been removed from the database, eg. by clearing it.
+                storedIconIds.clear();
+                storedProviders.clear();
+            }
+        });
+    }
+
+    private void rememberStored() {
+        for (Icon icon : newIcons) {
+            Integer id = IconAccessor.getId(icon);
+            // Copy is used as the key, since Icon color can be changed.
+            if (id != null) storedIconIds.put(new Icon(icon.getFamily(), icon.getName(), icon.getColor()), id);
+        }
+        storedProviders.addAll(newProviders);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions;
+
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+
+/**
+ * {@link ThrowawayTransaction} that stores DataExtension data.
+ * <p>
+ * Extension data is stored on its own transaction thread so that large extension updates do not delay
+ * storing of other data.
+ *
+ * @author AuroraLS3
+ */
+public abstract class ExtensionTransaction extends ThrowawayTransaction {
+
+    public static final String PARTITION_KEY = "plan_extension";
+
+    @Override
+    public Object getPartitionKey() {
+        return PARTITION_KEY;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions;
+
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transaction that stores all values gathered from a DataExtension at once.
+ * <p>
+ * The given transactions are executed in order on the same connection, so that they are committed together.
+ *
+ * @author AuroraLS3
+ */
+public class StoreExtensionDataTransaction extends ExtensionTransaction {
+
+    private final List<Transaction> transactions;
+    private boolean stored = false;
+
+    public StoreExtensionDataTransaction(List<Transaction> transactions) {
+        this.transactions = new ArrayList<>(transactions);
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Transaction transaction : transactions) {
+            executeOther(transaction);
+        }
+        // Throwaway transactions given to executeOther are skipped under the same conditions.
+        stored = shouldBeExecuted();
+    }
+
+    /**
+     * Check if the data was stored.
+     * <p>
+     * This differs from {@link #wasSuccessful()}, since throwaway transactions are successful if they were skipped.
+     *
+     * @return true if all transactions were executed and committed.
+     */
+    public boolean wasStored() {
+        return stored && wasSuccessful();
+    }
+
+    public int size() {
+        return transactions.size();
+    }
+}
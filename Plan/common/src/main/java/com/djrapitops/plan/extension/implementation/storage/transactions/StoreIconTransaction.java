@@ -22,7 +22,6 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionIconTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -36,7 +35,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  *
  * @author AuroraLS3
  */
-public class StoreIconTransaction extends ThrowawayTransaction {
+public class StoreIconTransaction extends ExtensionTransaction {
 
     private final Icon icon;
 
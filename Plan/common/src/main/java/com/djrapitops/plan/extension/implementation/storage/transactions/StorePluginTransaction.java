@@ -22,7 +22,6 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPluginTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -35,7 +34,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
  *
  * @author AuroraLS3
  */
-public class StorePluginTransaction extends ThrowawayTransaction {
+public class StorePluginTransaction extends ExtensionTransaction {
 
     private final String pluginName;
     private final long time;
@@ -23,7 +23,6 @@ import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlugin
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionTabTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -36,7 +35,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
  *
  * @author AuroraLS3
  */
-public class StoreTabInformationTransaction extends ThrowawayTransaction {
+public class StoreTabInformationTransaction extends ExtensionTransaction {
 
     private final String pluginName;
     private final ServerUUID serverUUID;
@@ -21,13 +21,13 @@ import com.djrapitops.plan.extension.icon.IconAccessor;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.ExtensionTransaction;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPluginTable;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionTabTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -41,7 +41,7 @@ import static com.djrapitops.plan.storage.database.sql.tables.extension.Extensio
  *
  * @author AuroraLS3
  */
-public class StoreProviderTransaction extends ThrowawayTransaction {
+public class StoreProviderTransaction extends ExtensionTransaction {
 
     private final ServerUUID serverUUID;
     private final ProviderInformation info;
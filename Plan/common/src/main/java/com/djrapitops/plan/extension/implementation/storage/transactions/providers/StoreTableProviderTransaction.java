@@ -21,6 +21,7 @@ import com.djrapitops.plan.extension.icon.IconAccessor;
 import com.djrapitops.plan.extension.implementation.MethodType;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.ExtensionTransaction;
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.extension.table.TableColumnFormat;
 import com.djrapitops.plan.identification.ServerUUID;
@@ -28,7 +29,6 @@ import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlugin
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionTabTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -43,7 +43,7 @@ import static com.djrapitops.plan.storage.database.sql.tables.extension.Extensio
  *
  * @author AuroraLS3
  */
-public class StoreTableProviderTransaction extends ThrowawayTransaction {
+public class StoreTableProviderTransaction extends ExtensionTransaction {
 
     private final ServerUUID serverUUID;
     private final ProviderInformation information;
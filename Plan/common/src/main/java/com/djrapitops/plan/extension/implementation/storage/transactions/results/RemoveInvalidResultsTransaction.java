@@ -16,11 +16,11 @@
  */
 package com.djrapitops.plan.extension.implementation.storage.transactions.results;
 
+import com.djrapitops.plan.extension.implementation.storage.transactions.ExtensionTransaction;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.sql.tables.extension.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -33,7 +33,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  *
  * @author AuroraLS3
  */
-public class RemoveInvalidResultsTransaction extends ThrowawayTransaction {
+public class RemoveInvalidResultsTransaction extends ExtensionTransaction {
 
     private final String pluginName;
     private final ServerUUID serverUUID;
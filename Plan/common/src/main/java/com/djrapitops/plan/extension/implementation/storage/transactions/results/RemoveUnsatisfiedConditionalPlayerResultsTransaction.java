@@ -16,11 +16,11 @@
  */
 package com.djrapitops.plan.extension.implementation.storage.transactions.results;
 
+import com.djrapitops.plan.extension.implementation.storage.transactions.ExtensionTransaction;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.tables.extension.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -38,7 +38,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  *
  * @author AuroraLS3
  */
-public class RemoveUnsatisfiedConditionalPlayerResultsTransaction extends ThrowawayTransaction {
+public class RemoveUnsatisfiedConditionalPlayerResultsTransaction extends ExtensionTransaction {
 
     private final String providerTable;
     private final String playerValueTable;
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.extension.implementation.storage.transactions.results;
 
+import com.djrapitops.plan.extension.implementation.storage.transactions.ExtensionTransaction;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionProviderTable;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionServerTableValueTable;
@@ -23,7 +24,6 @@ import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionServer
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionTableProviderTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -42,7 +42,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  *
  * @author AuroraLS3
  */
-public class RemoveUnsatisfiedConditionalServerResultsTransaction extends ThrowawayTransaction {
+public class RemoveUnsatisfiedConditionalServerResultsTransaction extends ExtensionTransaction {
 
     private final String providerTable;
     private final String serverValueTable;
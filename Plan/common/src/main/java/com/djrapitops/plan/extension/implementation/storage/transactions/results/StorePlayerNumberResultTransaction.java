@@ -18,11 +18,11 @@ package com.djrapitops.plan.extension.implementation.storage.transactions.result
 
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.ExtensionTransaction;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionProviderTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
-import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -37,7 +37,7 @@ import static com.djrapitops.plan.storage.database.sql.tables.extension.Extensio
  *
  * @author AuroraLS3
  */
-public class StorePlayerNumberResultTransaction extends ThrowawayTransaction {
+public class StorePlayerNumberResultTransaction extends ExtensionTransaction {
 
     private final String pluginName;
     private final ServerUUID serverUUID;
@@ -21,13 +21,13 @@ import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Afk state is kept in the primitive fields of {@link ActiveSession} so that
+ * {@link #performedAction(UUID, long)}, called on every player movement, does not allocate.
  *
  * @author AuroraLS3
  */
@@ -35,88 +35,73 @@ public class AFKTracker {
 
     public static final long IGNORES_AFK = -1L;
 
-    private final Set<UUID> usedAFKCommand;
     private final PlanConfig config;
-    private Long afkThresholdMs;
+    private long afkThresholdMs = -1L;
 
     public AFKTracker(PlanConfig config) {
         this.config = config;
-        usedAFKCommand = new HashSet<>();
     }
 
     public long getAfkThreshold() {
-        if (afkThresholdMs == null) {
+        if (afkThresholdMs == -1L) {
             afkThresholdMs = config.get(TimeSettings.AFK_THRESHOLD);
         }
         return afkThresholdMs;
     }
 
     public void hasIgnorePermission(UUID playerUUID) {
-        storeLastMovement(playerUUID, IGNORES_AFK);
-    }
-
-    private void storeLastMovement(UUID playerUUID, long time) {
-        SessionCache.getCachedSession(playerUUID)
-                .ifPresent(activeSession -> activeSession.setLastMovementForAfkCalculation(time));
-    }
-
-    private long getLastMovement(UUID playerUUID, long time) {
-        return getLastMovement(playerUUID)
-                .orElse(time);
-    }
-
-    private Optional<Long> getLastMovement(UUID playerUUID) {
-        return SessionCache.getCachedSession(playerUUID)
-                .map(ActiveSession::getLastMovementForAfkCalculation);
+        ActiveSession session = SessionCache.getCachedSessionForAfkTracking(playerUUID);
+        if (session != null) session.setLastMovementForAfkCalculation(IGNORES_AFK);
     }
 
     public void usedAfkCommand(UUID playerUUID, long time) {
-        long lastMoved = getLastMovement(playerUUID, time);
-        if (lastMoved == IGNORES_AFK) {
+        ActiveSession session = SessionCache.getCachedSessionForAfkTracking(playerUUID);
+        if (session == null || session.getLastMovementForAfkCalculation() == IGNORES_AFK) {
             return;
         }
-        usedAFKCommand.add(playerUUID);
-        storeLastMovement(playerUUID, time - getAfkThreshold());
+        session.setUsedAfkCommand(true);
+        session.setLastMovementForAfkCalculation(time - getAfkThreshold());
     }
 
     public long performedAction(UUID playerUUID, long time) {
-        long lastMoved = getLastMovement(playerUUID, time);
+        ActiveSession session = SessionCache.getCachedSessionForAfkTracking(playerUUID);
+        if (session == null) return 0L;
+
+        long lastMoved = session.getLastMovementForAfkCalculation();
         // Ignore afk permission
         if (lastMoved == IGNORES_AFK) {
             return 0L;
         }
-        storeLastMovement(playerUUID, time);
-
-        try {
-            if (time - lastMoved < getAfkThreshold()) {
-                // Threshold not crossed, no action required.
-                return 0L;
-            }
-
-            long removeAfkCommandEffect = usedAFKCommand.contains(playerUUID) ? getAfkThreshold() : 0;
-            long timeAFK = time - lastMoved - removeAfkCommandEffect;
-
-            SessionCache.getCachedSession(playerUUID)
-                    .ifPresent(session -> session.addAfkTime(timeAFK));
-            return timeAFK;
-        } finally {
-            usedAFKCommand.remove(playerUUID);
+        session.setLastMovementForAfkCalculation(time);
+
+        boolean usedAfkCommand = session.hasUsedAfkCommand();
+        if (usedAfkCommand) session.setUsedAfkCommand(false);
+
+        long afkThreshold = getAfkThreshold();
+        if (time - lastMoved < afkThreshold) {
+            // Threshold not crossed, no action required.
+            return 0L;
         }
+
+        long removeAfkCommandEffect = usedAfkCommand ? afkThreshold : 0;
+        long timeAFK = time - lastMoved - removeAfkCommandEffect;
+
+        session.addAfkTime(timeAFK);
+        return timeAFK;
     }
 
     public long loggedOut(UUID uuid, long time) {
-        long timeAFK = performedAction(uuid, time);
-        usedAFKCommand.remove(uuid);
-        return timeAFK;
+        return performedAction(uuid, time);
     }
 
     public boolean isAfk(UUID playerUUID) {
-        long time = System.currentTimeMillis();
+        ActiveSession session = SessionCache.getCachedSessionForAfkTracking(playerUUID);
+        if (session == null) return false;
 
-        Optional<Long> lastMoved = getLastMovement(playerUUID);
-        if (lastMoved.isEmpty() || lastMoved.get() == IGNORES_AFK) {
+        long lastMoved = session.getLastMovementForAfkCalculation();
+        if (lastMoved == IGNORES_AFK) {
             return false;
         }
-        return time - lastMoved.get() > getAfkThreshold();
+        return System.currentTimeMillis() - lastMoved > getAfkThreshold();
     }
-}
\ No newline at end of file
+}
@@ -64,6 +64,18 @@ public class SessionCache {
         return found;
     }
 
+    /**
+     * Get the Session of the player without updating its world times.
+     * <p>
+     * Used on paths that run for every player action and only need afk information.
+     *
+     * @param playerUUID UUID of the player.
+     * @return The session or null if the player has no active session.
+     */
+    public static ActiveSession getCachedSessionForAfkTracking(UUID playerUUID) {
+        return ACTIVE_SESSIONS.get(playerUUID);
+    }
+
     /**
      * Cache a new session.
      *
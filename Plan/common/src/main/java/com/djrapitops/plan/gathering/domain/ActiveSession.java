@@ -32,6 +32,7 @@ public class ActiveSession {
     private long afkTime;
 
     private long lastMovementForAfkCalculation;
+    private boolean usedAfkCommand;
 
     public ActiveSession(UUID playerUUID, ServerUUID serverUUID, long start, String world, String gameMode) {
         this.playerUUID = playerUUID;
@@ -152,5 +153,13 @@ public class ActiveSession {
         this.lastMovementForAfkCalculation = lastMovementForAfkCalculation;
     }
 
+    public boolean hasUsedAfkCommand() {
+        return usedAfkCommand;
+    }
+
+    public void setUsedAfkCommand(boolean usedAfkCommand) {
+        this.usedAfkCommand = usedAfkCommand;
+    }
+
     public static class FirstSession {}
 }
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.delivery.domain.ServerName;
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.webserver.cache.PrecomputedPlayerJSON;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
@@ -30,6 +31,7 @@ import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.gathering.domain.event.PlayerJoin;
 import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.placeholder.PlaceholderCache;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -55,9 +57,11 @@ public class PlayerJoinEventConsumer {
     private final GeolocationCache geolocationCache;
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
+    private final PlaceholderCache placeholderCache;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
+    private final PrecomputedPlayerJSON precomputedPlayerJSON;
 
     @Inject
     public PlayerJoinEventConsumer(
@@ -67,8 +71,10 @@ public class PlayerJoinEventConsumer {
             GeolocationCache geolocationCache,
             SessionCache sessionCache,
             NicknameCache nicknameCache,
+            PlaceholderCache placeholderCache,
             ExtensionSvc extensionService,
-            Exporter exporter
+            Exporter exporter,
+            PrecomputedPlayerJSON precomputedPlayerJSON
     ) {
         this.processing = processing;
         this.config = config;
@@ -76,8 +82,10 @@ public class PlayerJoinEventConsumer {
         this.geolocationCache = geolocationCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
+        this.placeholderCache = placeholderCache;
         this.extensionService = extensionService;
         this.exporter = exporter;
+        this.precomputedPlayerJSON = precomputedPlayerJSON;
     }
 
     public void onJoinGameServer(PlayerJoin join) {
@@ -91,6 +99,7 @@ public class PlayerJoinEventConsumer {
                         storeGeolocation(join);
                         storeOperatorStatus(join);
                         storeNickname(join);
+                        placeholderCache.invalidate(join.getPlayerUUID());
                         updatePlayerDataExtensionValues(join);
                         updateExport(join);
                     }, processing.getCriticalExecutor());
@@ -119,7 +128,8 @@ public class PlayerJoinEventConsumer {
         if (config.isTrue(DataGatheringSettings.GEOLOCATIONS) && geolocationCache.canGeolocate()) {
             join.getPlayer().getIPAddress()
                     .map(ip -> new StoreGeoInfoTransaction(join.getPlayerUUID(), ip, join.getTime(), geolocationCache::getCountry))
-                    .ifPresent(dbSystem.getDatabase()::executeTransaction);
+                    .map(dbSystem.getDatabase()::executeTransaction)
+                    .ifPresent(stored -> stored.thenRun(() -> precomputedPlayerJSON.playerDataChanged(join.getPlayerUUID())));
         }
     }
 
@@ -167,7 +177,8 @@ public class PlayerJoinEventConsumer {
     }
 
     private void storeInterruptedSession(FinishedSession finishedSession) {
-        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession));
+        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession))
+                .thenRun(() -> placeholderCache.invalidate(finishedSession.getPlayerUUID()));
     }
 
     private ActiveSession mapToActiveSession(PlayerJoin join) {
@@ -188,7 +199,8 @@ public class PlayerJoinEventConsumer {
                         (uuid, name) -> nicknameCache.getDisplayName(join.getPlayerUUID())
                                 .map(name::equals)
                                 .orElse(false)))
-                .ifPresent(dbSystem.getDatabase()::executeTransaction);
+                .map(dbSystem.getDatabase()::executeTransaction)
+                .ifPresent(stored -> stored.thenRun(() -> precomputedPlayerJSON.playerDataChanged(join.getPlayerUUID())));
     }
 
     private void updatePlayerDataExtensionValues(PlayerJoin join) {
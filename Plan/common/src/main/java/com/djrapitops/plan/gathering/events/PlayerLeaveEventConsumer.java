@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.events;
 
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.webserver.cache.PrecomputedPlayerJSON;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.cache.JoinAddressCache;
@@ -25,6 +26,7 @@ import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.event.PlayerLeave;
+import com.djrapitops.plan.placeholder.PlaceholderCache;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
@@ -47,20 +49,24 @@ public class PlayerLeaveEventConsumer {
     private final JoinAddressCache joinAddressCache;
     private final NicknameCache nicknameCache;
     private final SessionCache sessionCache;
+    private final PlaceholderCache placeholderCache;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
+    private final PrecomputedPlayerJSON precomputedPlayerJSON;
 
     @Inject
-    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, ExtensionSvc extensionService, Exporter exporter) {
+    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, PlaceholderCache placeholderCache, ExtensionSvc extensionService, Exporter exporter, PrecomputedPlayerJSON precomputedPlayerJSON) {
         this.processing = processing;
         this.config = config;
         this.dbSystem = dbSystem;
         this.joinAddressCache = joinAddressCache;
         this.nicknameCache = nicknameCache;
         this.sessionCache = sessionCache;
+        this.placeholderCache = placeholderCache;
         this.extensionService = extensionService;
         this.exporter = exporter;
+        this.precomputedPlayerJSON = precomputedPlayerJSON;
     }
 
     public void beforeLeave(PlayerLeave leave) {
@@ -96,13 +102,21 @@ public class PlayerLeaveEventConsumer {
     }
 
     private void storeFinishedSession(FinishedSession finishedSession) {
-        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession));
+        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession))
+                .thenRun(() -> updatePrecomputedPlayerJSON(finishedSession.getPlayerUUID()));
+    }
+
+    private void updatePrecomputedPlayerJSON(UUID playerUUID) {
+        if (precomputedPlayerJSON.isEnabled()) {
+            processing.submitNonCritical(() -> precomputedPlayerJSON.update(playerUUID));
+        }
     }
 
     private void storeBanStatus(PlayerLeave leave) {
         processing.submitCritical(() -> leave.getPlayer().isBanned()
                 .map(banStatus -> new BanStatusTransaction(leave.getPlayerUUID(), leave.getServerUUID(), banStatus))
-                .ifPresent(dbSystem.getDatabase()::executeTransaction));
+                .map(dbSystem.getDatabase()::executeTransaction)
+                .ifPresent(stored -> stored.thenRun(() -> precomputedPlayerJSON.playerDataChanged(leave.getPlayerUUID()))));
     }
 
     private void updatePlayerDataExtensionValues(PlayerLeave leave) {
@@ -121,5 +135,6 @@ public class PlayerLeaveEventConsumer {
         UUID playerUUID = leave.getPlayerUUID();
         nicknameCache.removeDisplayName(playerUUID);
         joinAddressCache.remove(playerUUID);
+        placeholderCache.invalidate(playerUUID);
     }
 }
@@ -21,6 +21,7 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.Base64Util;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
@@ -28,6 +29,7 @@ import com.maxmind.geoip2.record.Country;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.lang3.SystemUtils;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 
 import javax.inject.Inject;
@@ -39,8 +41,10 @@ import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.zip.GZIPInputStream;
 
@@ -49,6 +53,8 @@ import java.util.zip.GZIPInputStream;
  * <p>
  * This product includes GeoLite2 data created by MaxMind, available from
  * <a href="http://www.maxmind.com">http://www.maxmind.com</a>.
+ * <p>
+ * A single reader is shared by all lookups, and replaced when the database is downloaded again.
  *
  * @author AuroraLS3
  * @see <a href="http://maxmind.com">http://maxmind.com</a>
@@ -59,12 +65,15 @@ public class GeoLite2Geolocator implements Geolocator {
     private final PlanFiles files;
     private final PlanConfig config;
 
+    private final AtomicReference<DatabaseReader> reader;
+
     private File geolocationDB;
 
     @Inject
     public GeoLite2Geolocator(PlanFiles files, PlanConfig config) {
         this.files = files;
         this.config = config;
+        this.reader = new AtomicReference<>();
     }
 
     @Override
@@ -78,17 +87,53 @@ public class GeoLite2Geolocator implements Geolocator {
 
         if (geolocationDB.exists()) {
             if (geolocationDB.lastModified() >= System.currentTimeMillis() - TimeUnit.DAYS.toMillis(7L)) {
-                return; // Database is new enough
-            } else {
-                Files.delete(geolocationDB.toPath()); // Delete old data according to restriction 3. in EULA
+                openReader(); // Database is new enough
+                return;
             }
+            Files.delete(geolocationDB.toPath()); // Delete old data according to restriction 3. in EULA
         }
 
-        downloadDatabase();
+        File downloaded = files.getFileFromPluginFolder("GeoLite2-Country.mmdb.download");
+        try {
+            downloadDatabase(downloaded);
+            Files.move(downloaded.toPath(), geolocationDB.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(downloaded.toPath());
+        }
+        openReader();
         // Delete old Geolocation database file if it still exists (on success to avoid a no-file situation)
         Files.deleteIfExists(files.getFileFromPluginFolder("GeoIP.dat").toPath());
     }
 
+    private void openReader() throws IOException {
+        DatabaseReader opened = new DatabaseReader.Builder(geolocationDB)
+                .fileMode(getFileMode())
+                .build();
+        DatabaseReader previous = reader.getAndSet(opened);
+        if (previous != null) previous.close();
+    }
+
+    private static Reader.FileMode getFileMode() {
+        // A memory-mapped file stays mapped until the buffer is garbage collected, even after the reader is closed.
+        // Windows does not allow deleting or replacing a mapped file, so the file is read to memory there instead.
+        return SystemUtils.IS_OS_WINDOWS ? Reader.FileMode.MEMORY : Reader.FileMode.MEMORY_MAPPED;
+    }
+
+    private void closeReader() throws IOException {
+        DatabaseReader previous = reader.getAndSet(null);
+        if (previous != null) previous.close();
+    }
+
+    /**
+     * Close the database reader.
+     *
+     * @throws IOException If the reader fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        closeReader();
+    }
+
     private static String a(String c, String d) {
         var o = new StandardPBEStringEncryptor();
         g(c, q(o));
@@ -107,7 +152,7 @@ public class GeoLite2Geolocator implements Geolocator {
         return Base64Util.decode(f);
     }
 
-    private void downloadDatabase() throws IOException {
+    private void downloadDatabase(File downloadTo) throws IOException {
         // Avoid Socket leak with the parameters in case download url has proxy
         // https://AuroraLS3.github.io/mishaps/java_socket_leak_incident
         Properties properties = System.getProperties();
@@ -122,7 +167,7 @@ public class GeoLite2Geolocator implements Geolocator {
                 InputStream in = downloadSite.openStream();
                 GZIPInputStream gzipIn = new GZIPInputStream(in);
                 TarArchiveInputStream tarIn = new TarArchiveInputStream(gzipIn);
-                FileOutputStream fos = new FileOutputStream(geolocationDB.getAbsoluteFile())
+                FileOutputStream fos = new FileOutputStream(downloadTo.getAbsoluteFile())
         ) {
             findAndCopyFromTar(tarIn, fos);
         }
@@ -162,13 +207,11 @@ public class GeoLite2Geolocator implements Geolocator {
         if (inetAddress.getHostAddress().contains("127.0.0.1")) return Optional.of("Local Machine");
         if (inetAddress.isSiteLocalAddress()) return Optional.of("Local Private Network");
 
-        try (
-                // See https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
-                // for why InputStream is being used here instead.
-                InputStream in = Files.newInputStream(geolocationDB.toPath());
-                DatabaseReader reader = new DatabaseReader.Builder(in).build()
-        ) {
-            CountryResponse response = reader.country(inetAddress);
+        DatabaseReader databaseReader = reader.get();
+        if (databaseReader == null) return Optional.empty();
+
+        try {
+            CountryResponse response = databaseReader.country(inetAddress);
             Country country = response.getCountry();
             String countryName = country.getName();
 
@@ -31,6 +31,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.net.UnknownHostException;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -120,6 +121,30 @@ public class GeolocationCache implements SubSystem {
         return inUseGeolocator.getCountry(ipAddress).orElse("Not Found");
     }
 
+    /**
+     * Retrieves the countries in full length (e.g. United States) for multiple IP Addresses.
+     * <p>
+     * Already cached addresses are not looked up again.
+     *
+     * @param ipAddresses The IP Addresses for which the countries are retrieved
+     * @return Map of IP Address - name of the country, addresses are missing if geolocation is not available.
+     */
+    public Map<String, String> getCountries(Collection<String> ipAddresses) {
+        Map<String, String> countries = new HashMap<>(cache.getAllPresent(ipAddresses));
+        if (inUseGeolocator == null) return countries;
+
+        Set<String> notCached = new HashSet<>(ipAddresses);
+        notCached.removeAll(countries.keySet());
+        if (notCached.isEmpty()) return countries;
+
+        for (Map.Entry<String, Optional<String>> found : inUseGeolocator.getCountries(notCached).entrySet()) {
+            String country = found.getValue().orElse("Not Found");
+            cache.put(found.getKey(), country);
+            countries.put(found.getKey(), country);
+        }
+        return countries;
+    }
+
     /**
      * Checks if the IP Address is cached
      *
@@ -133,6 +158,12 @@ public class GeolocationCache implements SubSystem {
     @Override
     public void disable() {
         clearCache();
+        try {
+            geoLite2Geolocator.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close geolocation database: " + e.getMessage());
+        }
+        inUseGeolocator = null;
     }
 
     /**
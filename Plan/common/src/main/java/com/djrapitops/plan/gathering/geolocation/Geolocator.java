@@ -21,6 +21,9 @@ import com.djrapitops.plan.exceptions.PreparationException;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -50,4 +53,27 @@ public interface Geolocator {
         }
     }
 
+    /**
+     * Geolocate multiple addresses at once, for example when re-geolocating stored data.
+     *
+     * @param addresses Addresses to geolocate.
+     * @return Map of address - country, empty Optional if the country was not found.
+     */
+    default Map<String, Optional<String>> getCountries(Collection<String> addresses) {
+        Map<String, Optional<String>> countries = new HashMap<>();
+        for (String address : addresses) {
+            countries.put(address, getCountry(address));
+        }
+        return countries;
+    }
+
+    /**
+     * Release resources held by the geolocator.
+     *
+     * @throws IOException If the resources fail to close.
+     */
+    default void close() throws IOException {
+        // No resources by default
+    }
+
 }
@@ -0,0 +1,144 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.utilities.Predicates;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size ring buffer of the latest ping samples of a single player.
+ * <p>
+ * Samples are kept in primitive arrays so that recording a sample does not allocate,
+ * and memory used per player stays the same for the whole session.
+ * Ping counters flush the buffer into a {@link Ping} when it is full.
+ *
+ * @author AuroraLS3
+ */
+public class PingHistory {
+
+    public static final int CAPACITY = 30;
+
+    private final int[] values;
+    private final int[] sorted;
+    private int next;
+    private int size;
+    private long lastDate;
+
+    public PingHistory() {
+        this(CAPACITY);
+    }
+
+    public PingHistory(int capacity) {
+        values = new int[capacity];
+        sorted = new int[capacity];
+    }
+
+    /**
+     * Record a ping sample, overwriting the oldest sample if the buffer is full.
+     *
+     * @param date Epoch ms the sample was taken.
+     * @param ping Ping in ms.
+     */
+    public void add(long date, int ping) {
+        values[next] = ping;
+        next = (next + 1) % values.length;
+        if (size < values.length) size++;
+        lastDate = date;
+    }
+
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * @return Lowest sample within valid ping range, or -1 if there are none.
+     */
+    public int getMin() {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            if (Predicates.pingInRange(value) && value < min) min = value;
+        }
+        return min == Integer.MAX_VALUE ? -1 : min;
+    }
+
+    /**
+     * @return Highest sample within valid ping range, or -1 if there are none.
+     */
+    public int getMax() {
+        int max = -1;
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            if (Predicates.pingInRange(value) && value > max) max = value;
+        }
+        return max;
+    }
+
+    /**
+     * @return Median of the samples, or -1 if there are none.
+     */
+    public double getMedian() {
+        if (size == 0) return -1;
+        sortSamples();
+        int half = size / 2;
+        return size % 2 == 0 ? (sorted[half] + sorted[half - 1]) / 2.0 : sorted[half];
+    }
+
+    /**
+     * Get a percentile of the samples with nearest-rank method.
+     *
+     * @param percentile Percentile between 0 and 100, eg. 95.
+     * @return Sample at the percentile, or -1 if there are none.
+     */
+    public int getPercentile(double percentile) {
+        if (size == 0) return -1;
+        sortSamples();
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return sorted[Math.max(0, Math.min(size, rank) - 1)];
+    }
+
+    private void sortSamples() {
+        System.arraycopy(values, 0, sorted, 0, size);
+        Arrays.sort(sorted, 0, size);
+    }
+
+    /**
+     * Aggregate the samples into a {@link Ping}, dated at the latest sample.
+     *
+     * @param serverUUID Server the samples were taken on.
+     * @return Ping with min, max and median as average.
+     */
+    public Ping toPing(ServerUUID serverUUID) {
+        return new Ping(lastDate, serverUUID, getMin(), getMax(), (int) getMedian());
+    }
+}
@@ -82,15 +82,31 @@ public class Identifiers {
         }
     }
 
+    /**
+     * Read the timestamp the browser has cached from 'If-None-Match'-header.
+     * <p>
+     * Accepts bare numbers as well as quoted strong or weak tags, eg. {@code W/"1234-gzip"}.
+     * If multiple tags are given the first one is used.
+     *
+     * @param request Request that might contain the header.
+     * @return Timestamp of the cached content if the header was present.
+     * @throws BadRequestException If the header did not contain a timestamp.
+     */
     public static Optional<Long> getEtag(Request request) {
         return request.getHeader(HttpHeader.IF_NONE_MATCH.asString())
-                .map(tag -> {
-                    try {
-                        return Long.parseLong(tag);
-                    } catch (NumberFormatException notANumber) {
-                        throw new BadRequestException("'" + HttpHeader.IF_NONE_MATCH.asString() + "'-header was not a number. Clear browser cache.");
-                    }
-                });
+                .map(Identifiers::parseEtag);
+    }
+
+    private static long parseEtag(@Untrusted String header) {
+        String tag = header.split(",", 2)[0].trim();
+        if (tag.startsWith("W/")) tag = tag.substring(2);
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) tag = tag.substring(1, tag.length() - 1);
+        if (tag.endsWith("-gzip")) tag = tag.substring(0, tag.length() - 5);
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException notANumber) {
+            throw new BadRequestException("'" + HttpHeader.IF_NONE_MATCH.asString() + "'-header was not a number. Clear browser cache.");
+        }
     }
 
     public static Optional<String> getStringEtag(Request request) {
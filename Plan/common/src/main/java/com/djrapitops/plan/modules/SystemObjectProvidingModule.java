@@ -18,6 +18,7 @@ package com.djrapitops.plan.modules;
 
 import com.djrapitops.plan.DataService;
 import com.djrapitops.plan.DataSvc;
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContentCache;
 import com.djrapitops.plan.delivery.webserver.cache.JSONFileStorage;
 import com.djrapitops.plan.delivery.webserver.cache.JSONMemoryStorageShim;
 import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
@@ -118,9 +119,10 @@ public class SystemObjectProvidingModule {
     @Singleton
     JSONStorage provideJSONStorage(
             PlanConfig config,
-            JSONFileStorage jsonFileStorage
+            JSONFileStorage jsonFileStorage,
+            CompressedContentCache compressedContentCache
     ) {
-        return new JSONMemoryStorageShim(config, jsonFileStorage);
+        return new JSONMemoryStorageShim(config, jsonFileStorage, compressedContentCache);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Short lived cache for placeholder values.
+ * <p>
+ * Scoreboard and tab plugins request many placeholders for each player every second,
+ * so a snapshot of the {@link PlayerContainer} is shared between the requests instead of fetching it each time.
+ * Values are invalidated when the player joins or leaves, since those events change most of them.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class PlaceholderCache {
+
+    private final Cache<UUID, PlayerContainer> playerContainers;
+    private final Cache<String, Serializable> staticValues;
+
+    @Inject
+    public PlaceholderCache() {
+        playerContainers = Caffeine.newBuilder()
+                .expireAfterWrite(10, TimeUnit.SECONDS)
+                .maximumSize(1000)
+                .build();
+        staticValues = Caffeine.newBuilder()
+                .expireAfterWrite(10, TimeUnit.SECONDS)
+                .maximumSize(1000)
+                .build();
+    }
+
+    public PlayerContainer getPlayerContainer(UUID playerUUID, Function<UUID, PlayerContainer> loader) {
+        return playerContainers.get(playerUUID, loader);
+    }
+
+    public Serializable getStaticValue(String key, Function<String, Serializable> loader) {
+        return staticValues.get(key, loader);
+    }
+
+    /**
+     * Invalidate values of a player, and server wide values that depend on who is online.
+     *
+     * @param playerUUID UUID of the player whose data changed.
+     */
+    public void invalidate(UUID playerUUID) {
+        playerContainers.invalidate(playerUUID);
+        staticValues.invalidateAll();
+    }
+}
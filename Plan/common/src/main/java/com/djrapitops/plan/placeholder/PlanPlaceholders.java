@@ -54,15 +54,18 @@ public final class PlanPlaceholders {
 
     private final DBSystem dbSystem;
     private final Identifiers identifiers;
+    private final PlaceholderCache cache;
 
     @Inject
     public PlanPlaceholders(
             DBSystem dbSystem,
             Set<Placeholders> placeholderRegistries,
-            Identifiers identifiers
+            Identifiers identifiers,
+            PlaceholderCache cache
     ) {
         this.dbSystem = dbSystem;
         this.identifiers = identifiers;
+        this.cache = cache;
 
         this.playerPlaceholders = new HashMap<>();
         this.staticPlaceholders = new HashMap<>();
@@ -134,9 +137,13 @@ public final class PlanPlaceholders {
 
         StaticPlaceholderLoader staticLoader = staticPlaceholders.get(placeholder);
         if (staticLoader != null) {
-            return Objects.toString(staticLoader.apply(arguments));
+            String key = placeholder + ':' + String.join(":", parameters);
+            return Objects.toString(cache.getStaticValue(key, k -> staticLoader.apply(arguments)));
         }
 
+        PlayerPlaceholderLoader loader = playerPlaceholders.get(placeholder);
+        if (loader == null) return null;
+
         @Untrusted Optional<String> givenIdentifier = arguments.get(0);
         Optional<UUID> foundUUID = givenIdentifier
                 .flatMap(this::getPlayerUUIDForIdentifier);
@@ -145,13 +152,12 @@ public final class PlanPlaceholders {
         if (givenIdentifier.isPresent() && foundUUID.isEmpty()) {
             player = null; // Don't show other player whose identifier is not found.
         } else if (playerUUID != null) {
-            player = dbSystem.getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(playerUUID));
+            player = cache.getPlayerContainer(playerUUID, uuidToFetch -> dbSystem.getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(uuidToFetch)));
         } else {
             player = null;
         }
 
-        PlayerPlaceholderLoader loader = playerPlaceholders.get(placeholder);
-        if (loader != null && player != null) {
+        if (player != null) {
             return Objects.toString(loader.apply(player, parameters));
         }
 
@@ -51,8 +51,12 @@ public class WebserverSettings {
     public static final Setting<Long> INVALIDATE_QUERY_RESULTS = new TimeSetting("Webserver.Cache.Invalidate_query_results_on_disk_after");
     public static final Setting<Long> INVALIDATE_DISK_CACHE = new TimeSetting("Webserver.Cache.Invalidate_disk_cache_after");
     public static final Setting<Long> INVALIDATE_MEMORY_CACHE = new TimeSetting("Webserver.Cache.Invalidate_memory_cache_after", TimeUnit.MINUTES.toMillis(5L));
+    public static final Setting<Integer> MEMORY_CACHE_SIZE = new IntegerSetting("Webserver.Cache.Memory_cache_size_MB");
+    public static final Setting<Long> SERVE_STALE_JSON_FOR = new TimeSetting("Webserver.Cache.Serve_stale_json_for.Default", TimeUnit.SECONDS.toMillis(30L));
+    public static final Setting<Boolean> PRECOMPUTE_PLAYER_JSON = new BooleanSetting("Webserver.Cache.Precompute_player_json_on_leave");
     public static final Setting<Long> COOKIES_EXPIRE_AFTER = new TimeSetting("Webserver.Security.Cookies_expire_after", TimeUnit.HOURS.toMillis(2L));
     public static final Setting<Integer> REMOVE_ACCESS_LOG_AFTER_DAYS = new IntegerSetting("Webserver.Security.Access_log.Remove_logs_after_days");
+    public static final Setting<Integer> ACCESS_LOG_STATIC_ASSET_SAMPLING = new IntegerSetting("Webserver.Security.Access_log.Static_asset_sampling");
     private WebserverSettings() {
         /* static variable class */
     }
@@ -57,6 +57,27 @@ public interface Database {
      */
     <T> T query(Query<T> query);
 
+    /**
+     * Execute an SQL Query statement on a separate thread.
+     * <p>
+     * Multiple queries can be submitted at once to execute them in parallel, if the database allows it.
+     * The query should not wait for other asynchronous queries to finish.
+     *
+     * @param query QueryStatement to execute.
+     * @param <T>   Type of the object to be returned.
+     * @return Future that is completed with the result of the query, or exceptionally if the database is closed.
+     */
+    <T> CompletableFuture<T> queryAsync(Query<T> query);
+
+    /**
+     * Create a fan-out for executing multiple independent queries concurrently.
+     *
+     * @return new {@link QueryFanOut} that uses this database.
+     */
+    default QueryFanOut fanOut() {
+        return new QueryFanOut(this);
+    }
+
     default <T> Optional<T> queryOptional(String sql, RowExtractor<T> rowExtractor, Object... parameters) {
         return query(new QueryStatement<>(sql) {
             @Override
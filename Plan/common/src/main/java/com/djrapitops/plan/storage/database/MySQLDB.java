@@ -180,6 +180,21 @@ public class MySQLDB extends SQLDB {
         });
     }
 
+    @Override
+    protected int getTransactionThreadCount() {
+        int maxConnections = config.getOrDefault(DatabaseSettings.MAX_CONNECTIONS, 1);
+        int transactionThreads = config.getOrDefault(DatabaseSettings.TRANSACTION_THREADS, 1);
+        // Leave at least one connection available for queries
+        return Math.max(1, Math.min(transactionThreads, maxConnections - 1));
+    }
+
+    @Override
+    protected int getQueryThreadCount() {
+        int maxConnections = config.getOrDefault(DatabaseSettings.MAX_CONNECTIONS, 1);
+        // Leave connections available for transactions and queries from other threads
+        return Math.max(1, (maxConnections - getTransactionThreadCount()) / 2);
+    }
+
     private void setMaxConnections(HikariConfig hikariConfig) {
         try {
             hikariConfig.setMaximumPoolSize(config.get(DatabaseSettings.MAX_CONNECTIONS));
@@ -208,7 +223,7 @@ public class MySQLDB extends SQLDB {
     }
 
     @Override
-    public synchronized Connection getConnection() throws SQLException {
+    public Connection getConnection() throws SQLException {
         Connection connection = dataSource.getConnection();
         if (!connection.isValid(5)) {
             connection.close();
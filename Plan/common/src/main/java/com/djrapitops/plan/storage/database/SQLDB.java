@@ -22,11 +22,14 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
+import com.djrapitops.plan.storage.database.transactions.GroupCommitTransaction;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
@@ -55,6 +58,7 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -82,13 +86,18 @@ public abstract class SQLDB extends AbstractDatabase {
 
     protected ClassLoader driverClassLoader;
 
-    private Supplier<ExecutorService> transactionExecutorServiceProvider;
-    private ExecutorService transactionExecutor;
+    private IntFunction<ExecutorService> transactionExecutorServiceProvider;
+    private ExecutorService[] transactionExecutors;
+    private ExecutorService queryExecutor;
 
     private final AtomicInteger transactionQueueSize = new AtomicInteger(0);
     private final AtomicBoolean dropUnimportantTransactions = new AtomicBoolean(false);
     private final AtomicBoolean ranIntoFatalError = new AtomicBoolean(false);
 
+    private final Object batchLock = new Object();
+    private TransactionBatch[] openBatches; // Guarded by batchLock
+    private final TransactionQueueMetrics queueMetrics = new TransactionQueueMetrics();
+
     protected SQLDB(
             Supplier<ServerUUID> serverUUIDSupplier,
             Locale locale,
@@ -106,8 +115,8 @@ public abstract class SQLDB extends AbstractDatabase {
         this.logger = logger;
         this.errorLogger = errorLogger;
 
-        this.transactionExecutorServiceProvider = () -> {
-            String nameFormat = "Plan " + getClass().getSimpleName() + "-transaction-thread-%d";
+        this.transactionExecutorServiceProvider = lane -> {
+            String nameFormat = "Plan " + getClass().getSimpleName() + "-transaction-thread-" + (lane + 1);
             return Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
                     .namingPattern(nameFormat)
                     .uncaughtExceptionHandler((thread, throwable) -> {
@@ -148,8 +157,9 @@ public abstract class SQLDB extends AbstractDatabase {
 
     @Override
     public void init() {
-        List<Runnable> unfinishedTransactions = closeTransactionExecutor(transactionExecutor);
-        this.transactionExecutor = transactionExecutorServiceProvider.get();
+        List<Runnable> unfinishedTransactions = closeTransactionExecutors(transactionExecutors);
+        this.transactionExecutors = createTransactionExecutors();
+        createQueryExecutor();
 
         setState(State.PATCHING);
 
@@ -157,7 +167,12 @@ public abstract class SQLDB extends AbstractDatabase {
         setupDatabase();
 
         for (Runnable unfinishedTransaction : unfinishedTransactions) {
-            transactionExecutor.submit(unfinishedTransaction);
+            if (unfinishedTransaction instanceof LaneBarrier) {
+                // Everything is executed in order on the first thread, no need to hold it.
+                ((LaneBarrier) unfinishedTransaction).release();
+            } else {
+                transactionExecutors[0].submit(unfinishedTransaction);
+            }
         }
 
         // If an OperationCriticalTransaction fails open is set to false.
@@ -167,11 +182,74 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
-    private List<Runnable> closeTransactionExecutor(ExecutorService transactionExecutor) {
-        if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
-            return Collections.emptyList();
+    private ExecutorService[] createTransactionExecutors() {
+        int lanes = getTransactionThreadCount();
+        ExecutorService[] executors = new ExecutorService[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            executors[lane] = transactionExecutorServiceProvider.apply(lane);
+        }
+        synchronized (batchLock) {
+            openBatches = new TransactionBatch[lanes];
         }
-        transactionExecutor.shutdown();
+        return executors;
+    }
+
+    /**
+     * Number of threads used for executing transactions.
+     * <p>
+     * Transactions are divided between the threads by {@link Transaction#getPartitionKey()}.
+     *
+     * @return 1 by default, override to execute transactions in parallel.
+     */
+    protected int getTransactionThreadCount() {
+        return 1;
+    }
+
+    /**
+     * Number of threads used for executing queries with {@link #queryAsync(Query)}.
+     *
+     * @return 1 by default, override to execute queries in parallel.
+     */
+    protected int getQueryThreadCount() {
+        return 1;
+    }
+
+    private synchronized void createQueryExecutor() {
+        closeQueryExecutor();
+        String nameFormat = "Plan " + getClass().getSimpleName() + "-query-thread-%d";
+        queryExecutor = Executors.newFixedThreadPool(getQueryThreadCount(), new BasicThreadFactory.Builder()
+                .namingPattern(nameFormat)
+                .build());
+    }
+
+    /**
+     * @return Executor for async queries, or null if the database is closed or closing.
+     */
+    private synchronized ExecutorService getQueryExecutor() {
+        State state = getState();
+        if (state == State.CLOSED || state == State.CLOSING) return null;
+        return queryExecutor;
+    }
+
+    private synchronized void closeQueryExecutor() {
+        if (queryExecutor != null) {
+            queryExecutor.shutdown();
+            queryExecutor = null;
+        }
+    }
+
+    private List<Runnable> closeTransactionExecutors(ExecutorService[] transactionExecutors) {
+        if (transactionExecutors == null) return Collections.emptyList();
+        List<ExecutorService> running = new ArrayList<>();
+        for (ExecutorService transactionExecutor : transactionExecutors) {
+            if (!transactionExecutor.isShutdown() && !transactionExecutor.isTerminated()) {
+                transactionExecutor.shutdown();
+                running.add(transactionExecutor);
+            }
+        }
+        if (running.isEmpty()) return Collections.emptyList();
+
+        List<Runnable> unfinished = new ArrayList<>();
         try {
             logger.info(locale.getString(PluginLang.DISABLED_WAITING_TRANSACTIONS));
             Long waitMs = config.getOrDefault(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY, TimeUnit.SECONDS.toMillis(20L));
@@ -179,20 +257,23 @@ public abstract class SQLDB extends AbstractDatabase {
                 logger.warn(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY.getPath() + " was set to over 5 minutes, using 5 min instead.");
                 waitMs = TimeUnit.MINUTES.toMillis(5L);
             }
-            if (!transactionExecutor.awaitTermination(waitMs, TimeUnit.MILLISECONDS)) {
-                List<Runnable> unfinished = transactionExecutor.shutdownNow();
-                int unfinishedCount = unfinished.size();
-                if (unfinishedCount > 0) {
-                    logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
+            long waitUntil = System.currentTimeMillis() + waitMs;
+            for (ExecutorService transactionExecutor : running) {
+                long remainingMs = Math.max(0L, waitUntil - System.currentTimeMillis());
+                if (!transactionExecutor.awaitTermination(remainingMs, TimeUnit.MILLISECONDS)) {
+                    unfinished.addAll(transactionExecutor.shutdownNow());
                 }
-                return unfinished;
+            }
+            int unfinishedCount = unfinished.size();
+            if (unfinishedCount > 0) {
+                logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         } finally {
             logger.info(locale.getString(PluginLang.DISABLED_WAITING_TRANSACTIONS_COMPLETE));
         }
-        return Collections.emptyList();
+        return unfinished;
     }
 
     Patch[] patches() {
@@ -247,7 +328,11 @@ public abstract class SQLDB extends AbstractDatabase {
                 new WebGroupDefaultGroupsPatch(),
                 new WebGroupAddMissingAdminGroupPatch(),
                 new LegacyPermissionLevelGroupsPatch(),
-                new SecurityTableGroupPatch()
+                new SecurityTableGroupPatch(),
+                new ActivePlaytimeTablePatch(),
+                new ActivePlaytimeUniqueIndexPatch(),
+                new TPSRollupTablesPatch(),
+                new WorldsUniqueIndexPatch()
         };
     }
 
@@ -308,7 +393,8 @@ public abstract class SQLDB extends AbstractDatabase {
     @Override
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
-        closeTransactionExecutor(transactionExecutor);
+        closeTransactionExecutors(transactionExecutors);
+        closeQueryExecutor();
         unloadDriverClassloader();
         setState(State.CLOSED);
     }
@@ -329,6 +415,19 @@ public abstract class SQLDB extends AbstractDatabase {
         return accessLock.performDatabaseOperation(() -> query.executeQuery(this));
     }
 
+    @Override
+    public <T> CompletableFuture<T> queryAsync(Query<T> query) {
+        ExecutorService executor = getQueryExecutor();
+        if (executor == null) {
+            return CompletableFuture.failedFuture(new DBClosedException("Query tried to execute although database is closed."));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> query(query), executor);
+        } catch (RejectedExecutionException closedWhileSubmitting) {
+            return CompletableFuture.failedFuture(new DBClosedException("Query tried to execute although database is closed."));
+        }
+    }
+
     public <T> T queryWithinTransaction(Query<T> query, Transaction transaction) {
         return accessLock.performDatabaseOperation(() -> query.executeQuery(this), transaction);
     }
@@ -347,7 +446,7 @@ public abstract class SQLDB extends AbstractDatabase {
             return CompletableFuture.completedFuture(null);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
+        Supplier<CompletableFuture<Object>> execution = () -> {
             try {
                 accessLock.performDatabaseOperation(() -> {
                     if (!ranIntoFatalError.get()) {transaction.executeTransaction(this);}
@@ -356,7 +455,172 @@ public abstract class SQLDB extends AbstractDatabase {
             } finally {
                 transactionQueueSize.decrementAndGet();
             }
-        }, getTransactionExecutor()).exceptionally(errorHandler(transaction, origin));
+        };
+
+        if (mustExecuteOnAllLanes(transaction)) {
+            return executeOnAllLanes(execution).exceptionally(errorHandler(transaction, origin));
+        }
+
+        int lane = getLane(transaction);
+        if (transaction instanceof CombinableTransaction && isGroupCommitEnabled()) {
+            return addToBatch(lane, transaction, origin);
+        }
+        closeOpenBatch(lane);
+
+        return CompletableFuture.supplyAsync(execution, getTransactionExecutors()[lane])
+                .exceptionally(errorHandler(transaction, origin));
+    }
+
+    /**
+     * Check if the transaction has to be executed in order with transactions of every transaction thread.
+     * <p>
+     * This is the case for transactions without a partition key (like removing or combining players),
+     * and for all transactions submitted before the database has been patched.
+     *
+     * @param transaction Transaction to execute
+     * @return true if other transaction threads need to be held while the transaction executes.
+     */
+    private boolean mustExecuteOnAllLanes(Transaction transaction) {
+        return getTransactionExecutors().length > 1
+                && (getState() != State.OPEN || transaction.getPartitionKey() == null);
+    }
+
+    /**
+     * Execute on the first transaction thread once every other thread has finished the transactions submitted before,
+     * holding the other threads until the execution has finished.
+     */
+    private <T> CompletableFuture<T> executeOnAllLanes(Supplier<T> execution) {
+        ExecutorService[] executors = getTransactionExecutors();
+        CountDownLatch lanesReady = new CountDownLatch(executors.length - 1);
+        CountDownLatch finished = new CountDownLatch(1);
+        // Submitted to every thread while holding the lock, so that the barriers are in the same order on every thread.
+        synchronized (batchLock) {
+            Arrays.fill(openBatches, null);
+            for (int lane = 1; lane < executors.length; lane++) {
+                executors[lane].execute(new LaneBarrier(lanesReady, finished));
+            }
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    LaneBarrier.await(lanesReady);
+                    return execution.get();
+                } finally {
+                    finished.countDown();
+                }
+            }, executors[0]);
+        }
+    }
+
+    private boolean isGroupCommitEnabled() {
+        return config.isTrue(DatabaseSettings.GROUP_COMMIT);
+    }
+
+    /**
+     * Decide which transaction thread executes the transaction.
+     * <p>
+     * Transactions are only divided between threads after the database has been patched,
+     * and transactions without a partition key are all executed on the first thread, see {@link #mustExecuteOnAllLanes(Transaction)}.
+     *
+     * @param transaction Transaction to execute
+     * @return index of the transaction thread.
+     */
+    private int getLane(Transaction transaction) {
+        int lanes = getTransactionExecutors().length;
+        if (lanes == 1 || getState() != State.OPEN) return 0;
+        Object partitionKey = transaction.getPartitionKey();
+        return partitionKey != null ? Math.floorMod(partitionKey.hashCode(), lanes) : 0;
+    }
+
+    private CompletableFuture<?> addToBatch(int lane, Transaction transaction, Exception origin) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        synchronized (batchLock) {
+            TransactionBatch openBatch = openBatches[lane];
+            if (openBatch == null || openBatch.entries.size() >= getMaxBatchSize()) {
+                TransactionBatch batch = new TransactionBatch(lane);
+                openBatches[lane] = batch;
+                getTransactionExecutors()[lane].submit(() -> executeBatch(batch));
+                openBatch = batch;
+            }
+            openBatch.entries.add(new BatchEntry(transaction, origin, future));
+        }
+        return future;
+    }
+
+    private int getMaxBatchSize() {
+        return config.getOrDefault(DatabaseSettings.GROUP_COMMIT_MAX_SIZE, 100);
+    }
+
+    /**
+     * Prevents further combinable transactions from joining the batch that is waiting in the queue.
+     * <p>
+     * This keeps the transactions in the order they were submitted in.
+     */
+    private void closeOpenBatch(int lane) {
+        synchronized (batchLock) {
+            openBatches[lane] = null;
+        }
+    }
+
+    private void executeBatch(TransactionBatch batch) {
+        List<BatchEntry> entries;
+        synchronized (batchLock) {
+            if (batch.lane < openBatches.length && openBatches[batch.lane] == batch) {
+                openBatches[batch.lane] = null;
+            }
+            entries = new ArrayList<>(batch.entries);
+        }
+
+        try {
+            if (entries.size() == 1) {
+                executeBatchEntry(entries.get(0));
+                return;
+            }
+
+            List<Transaction> transactions = new ArrayList<>();
+            for (BatchEntry entry : entries) {
+                transactions.add(entry.transaction);
+            }
+            GroupCommitTransaction group = new GroupCommitTransaction(transactions);
+            long start = System.nanoTime();
+            try {
+                accessLock.performDatabaseOperation(() -> {
+                    if (!ranIntoFatalError.get()) {group.executeTransaction(this);}
+                }, group);
+                queueMetrics.recordBatch(group.size(), System.nanoTime() - start);
+                for (BatchEntry entry : entries) {
+                    entry.future.complete(null);
+                }
+            } catch (RuntimeException groupFailed) {
+                for (BatchEntry entry : entries) {
+                    if (group.wasRolledBack()) {
+                        // Execute one by one so that only the failing transaction fails.
+                        executeBatchEntry(entry);
+                    } else {
+                        completeExceptionally(entry, groupFailed);
+                    }
+                }
+            }
+        } finally {
+            transactionQueueSize.addAndGet(-entries.size());
+        }
+    }
+
+    private void executeBatchEntry(BatchEntry entry) {
+        try {
+            long start = System.nanoTime();
+            accessLock.performDatabaseOperation(() -> {
+                if (!ranIntoFatalError.get()) {entry.transaction.executeTransaction(this);}
+            }, entry.transaction);
+            queueMetrics.recordBatch(1, System.nanoTime() - start);
+            entry.future.complete(null);
+        } catch (RuntimeException failed) {
+            completeExceptionally(entry, failed);
+        }
+    }
+
+    private void completeExceptionally(BatchEntry entry, RuntimeException failed) {
+        // Failures are logged, and future completed normally, same as with individually executed transactions.
+        errorHandler(entry.transaction, entry.origin).apply(new CompletionException(failed));
+        entry.future.complete(null);
     }
 
     private boolean determineIfShouldDropUnimportantTransactions(int queueSize) {
@@ -403,11 +667,11 @@ public abstract class SQLDB extends AbstractDatabase {
         };
     }
 
-    private ExecutorService getTransactionExecutor() {
-        if (transactionExecutor == null) {
-            transactionExecutor = transactionExecutorServiceProvider.get();
+    private ExecutorService[] getTransactionExecutors() {
+        if (transactionExecutors == null) {
+            transactionExecutors = createTransactionExecutors();
         }
-        return transactionExecutor;
+        return transactionExecutors;
     }
 
     @Override
@@ -428,7 +692,7 @@ public abstract class SQLDB extends AbstractDatabase {
     }
 
     public void setTransactionExecutorServiceProvider(Supplier<ExecutorService> transactionExecutorServiceProvider) {
-        this.transactionExecutorServiceProvider = transactionExecutorServiceProvider;
+        this.transactionExecutorServiceProvider = lane -> transactionExecutorServiceProvider.get();
     }
 
     public RunnableFactory getRunnableFactory() {
@@ -450,4 +714,61 @@ public abstract class SQLDB extends AbstractDatabase {
     public int getTransactionQueueSize() {
         return transactionQueueSize.get();
     }
+
+    public TransactionQueueMetrics getTransactionQueueMetrics() {
+        return queueMetrics;
+    }
+
+    /**
+     * Holds a transaction thread while a transaction that is executed in order with all threads is executing.
+     */
+    private static class LaneBarrier implements Runnable {
+        private final CountDownLatch lanesReady;
+        private final CountDownLatch finished;
+
+        LaneBarrier(CountDownLatch lanesReady, CountDownLatch finished) {
+            this.lanesReady = lanesReady;
+            this.finished = finished;
+        }
+
+        static void await(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                // Executors are being shut down, order can not be kept anymore.
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            release();
+            await(finished);
+        }
+
+        void release() {
+            lanesReady.countDown();
+        }
+    }
+
+    private static class TransactionBatch {
+        private final int lane;
+        private final List<BatchEntry> entries = new ArrayList<>();
+
+        TransactionBatch(int lane) {
+            this.lane = lane;
+        }
+    }
+
+    private static class BatchEntry {
+        private final Transaction transaction;
+        private final Exception origin;
+        private final CompletableFuture<Object> future;
+
+        BatchEntry(Transaction transaction, Exception origin, CompletableFuture<Object> future) {
+            this.transaction = transaction;
+            this.origin = origin;
+            this.future = future;
+        }
+    }
 }
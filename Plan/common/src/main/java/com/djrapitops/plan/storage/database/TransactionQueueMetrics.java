@@ -0,0 +1,75 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of group commit batch sizes and commit latency of {@link SQLDB} transaction queue.
+ *
+ * @author AuroraLS3
+ */
+public class TransactionQueueMetrics {
+
+    private final AtomicLong committedBatches = new AtomicLong(0);
+    private final AtomicLong committedTransactions = new AtomicLong(0);
+    private final AtomicLong totalCommitLatencyNs = new AtomicLong(0);
+    private final AtomicLong maxCommitLatencyNs = new AtomicLong(0);
+    private final AtomicInteger lastBatchSize = new AtomicInteger(0);
+    private final AtomicInteger maxBatchSize = new AtomicInteger(0);
+
+    public void recordBatch(int batchSize, long commitLatencyNs) {
+        committedBatches.incrementAndGet();
+        committedTransactions.addAndGet(batchSize);
+        totalCommitLatencyNs.addAndGet(commitLatencyNs);
+        maxCommitLatencyNs.accumulateAndGet(commitLatencyNs, Math::max);
+        lastBatchSize.set(batchSize);
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+    }
+
+    public long getCommittedBatches() {
+        return committedBatches.get();
+    }
+
+    public long getCommittedTransactions() {
+        return committedTransactions.get();
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+        long batches = committedBatches.get();
+        return batches == 0 ? 0.0 : (double) committedTransactions.get() / batches;
+    }
+
+    public long getAverageCommitLatencyMs() {
+        long batches = committedBatches.get();
+        return batches == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(totalCommitLatencyNs.get() / batches);
+    }
+
+    public long getMaxCommitLatencyMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxCommitLatencyNs.get());
+    }
+}
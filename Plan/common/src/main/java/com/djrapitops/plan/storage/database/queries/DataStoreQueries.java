@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
@@ -28,6 +29,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
@@ -54,10 +57,64 @@ public class DataStoreQueries {
         return connection -> {
             storeSessionInformation(session).execute(connection);
             storeSessionKills(session).execute(connection);
+            storeSessionActivePlaytime(session).execute(connection);
             return storeSessionWorldTimes(session).execute(connection);
         };
     }
 
+    private static Executable storeSessionActivePlaytime(FinishedSession session) {
+        Map<Long, Long> perDay = new HashMap<>();
+        ActivePlaytimeTable.addActivePlaytimePerDay(perDay, session.getStart(), session.getEnd(), session.getAfkTime());
+        return connection -> {
+            for (Map.Entry<Long, Long> entry : perDay.entrySet()) {
+                addActivePlaytime(session.getPlayerUUID(), session.getServerUUID(), entry.getKey(), entry.getValue()).execute(connection);
+            }
+            return !perDay.isEmpty();
+        };
+    }
+
+    /**
+     * Add active playtime of a player to a day in {@link ActivePlaytimeTable}.
+     *
+     * @param playerUUID     UUID of the player.
+     * @param serverUUID     UUID of the server the playtime was on.
+     * @param day            Start of the day, see {@link ActivePlaytimeTable#getDay(long)}
+     * @param activePlaytime Active playtime to add, ms
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable addActivePlaytime(UUID playerUUID, ServerUUID serverUUID, long day, long activePlaytime) {
+        return connection -> {
+            if (!updateActivePlaytime(playerUUID, serverUUID, day, activePlaytime).execute(connection)) {
+                return insertActivePlaytime(playerUUID, serverUUID, day, activePlaytime).execute(connection);
+            }
+            return false;
+        };
+    }
+
+    private static Executable updateActivePlaytime(UUID playerUUID, ServerUUID serverUUID, long day, long activePlaytime) {
+        return new ExecStatement(ActivePlaytimeTable.UPDATE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, activePlaytime);
+                statement.setString(2, playerUUID.toString());
+                statement.setString(3, serverUUID.toString());
+                statement.setLong(4, day);
+            }
+        };
+    }
+
+    private static Executable insertActivePlaytime(UUID playerUUID, ServerUUID serverUUID, long day, long activePlaytime) {
+        return new ExecStatement(ActivePlaytimeTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setString(2, serverUUID.toString());
+                statement.setLong(3, day);
+                statement.setLong(4, activePlaytime);
+            }
+        };
+    }
+
     private static Executable storeSessionInformation(FinishedSession session) {
         return new ExecStatement(SessionsTable.INSERT_STATEMENT) {
             @Override
@@ -84,8 +141,8 @@ public class DataStoreQueries {
         };
     }
 
-    public static Executable insertWorldName(ServerUUID serverUUID, String worldName) {
-        return new ExecStatement(WorldTable.INSERT_STATEMENT) {
+    public static Executable insertWorldName(Sql sql, ServerUUID serverUUID, String worldName) {
+        return new ExecStatement(WorldTable.insertIfAbsentStatement(sql)) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, StringUtils.truncate(worldName, 100));
@@ -261,6 +318,86 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Add TPS data of a server to the hourly and daily rollup tables.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param tps        TPS data entry
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeTPSRollups(ServerUUID serverUUID, TPS tps) {
+        return connection -> {
+            storeTPSRollup(TPSRollupTable.HOURLY_TABLE_NAME, serverUUID, tps).execute(connection);
+            storeTPSRollup(TPSRollupTable.DAILY_TABLE_NAME, serverUUID, tps).execute(connection);
+            return false;
+        };
+    }
+
+    private static Executable storeTPSRollup(String tableName, ServerUUID serverUUID, TPS tps) {
+        long periodStart = TPSRollupTable.getPeriodStart(tps.getDate(), TPSRollupTable.getPeriod(tableName));
+        return connection -> {
+            if (!updateTPSRollup(tableName, serverUUID, periodStart, tps).execute(connection)) {
+                return insertTPSRollup(tableName, serverUUID, periodStart, tps).execute(connection);
+            }
+            return false;
+        };
+    }
+
+    private static Executable updateTPSRollup(String tableName, ServerUUID serverUUID, long periodStart, TPS tps) {
+        return new ExecStatement(TPSRollupTable.updateStatement(tableName)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setDouble(1, tps.getTicksPerSecond());
+                statement.setDouble(2, tps.getTicksPerSecond());
+                statement.setInt(3, tps.getPlayers());
+                statement.setInt(4, tps.getPlayers());
+                statement.setDouble(5, tps.getCPUUsage());
+                statement.setDouble(6, tps.getCPUUsage());
+                statement.setLong(7, tps.getUsedMemory());
+                statement.setLong(8, tps.getUsedMemory());
+                statement.setInt(9, tps.getEntityCount());
+                statement.setInt(10, tps.getEntityCount());
+                statement.setInt(11, tps.getChunksLoaded());
+                statement.setInt(12, tps.getChunksLoaded());
+                statement.setLong(13, tps.getFreeDiskSpace());
+                statement.setLong(14, tps.getFreeDiskSpace());
+                setTPSRollupSums(statement, 15, tps);
+                statement.setString(21, serverUUID.toString());
+                statement.setLong(22, periodStart);
+            }
+        };
+    }
+
+    private static Executable insertTPSRollup(String tableName, ServerUUID serverUUID, long periodStart, TPS tps) {
+        return new ExecStatement(TPSRollupTable.insertStatement(tableName)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, periodStart);
+                statement.setDouble(3, tps.getTicksPerSecond());
+                statement.setInt(4, tps.getPlayers());
+                statement.setDouble(5, tps.getCPUUsage());
+                statement.setLong(6, tps.getUsedMemory());
+                statement.setInt(7, tps.getEntityCount());
+                statement.setInt(8, tps.getChunksLoaded());
+                statement.setLong(9, tps.getFreeDiskSpace());
+                setTPSRollupSums(statement, 10, tps);
+            }
+        };
+    }
+
+    private static void setTPSRollupSums(PreparedStatement statement, int index, TPS tps) throws SQLException {
+        double tpsValue = tps.getTicksPerSecond();
+        double cpuUsage = tps.getCPUUsage();
+        long ramUsage = tps.getUsedMemory();
+        statement.setDouble(index, tpsValue >= 0 ? tpsValue : 0);
+        statement.setInt(index + 1, tpsValue >= 0 ? 1 : 0);
+        statement.setDouble(index + 2, cpuUsage >= 0 ? cpuUsage : 0);
+        statement.setInt(index + 3, cpuUsage >= 0 ? 1 : 0);
+        statement.setDouble(index + 4, ramUsage >= 0 ? ramUsage : 0);
+        statement.setInt(index + 5, ramUsage >= 0 ? 1 : 0);
+    }
+
     /**
      * Store nickname information of a player on a server.
      *
@@ -25,12 +25,14 @@ import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -41,6 +43,19 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class LargeFetchQueries {
 
+    private static final String SELECT_TPS_DATA = SELECT +
+            TPSTable.DATE + ',' +
+            TPSTable.TPS + ',' +
+            TPSTable.PLAYERS_ONLINE + ',' +
+            TPSTable.CPU_USAGE + ',' +
+            TPSTable.RAM_USAGE + ',' +
+            TPSTable.ENTITIES + ',' +
+            TPSTable.CHUNKS + ',' +
+            TPSTable.FREE_DISK + ',' +
+            ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as s_uuid" +
+            FROM + TPSTable.TABLE_NAME +
+            INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.ID + '=' + TPSTable.SERVER_ID;
+
     private LargeFetchQueries() {
         /* Static method class */
     }
@@ -51,44 +66,110 @@ public class LargeFetchQueries {
      * @return Map: Server UUID - List of TPS data
      */
     public static Query<Map<ServerUUID, List<TPS>>> fetchAllTPSData() {
-        String serverIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.ID;
-        String serverUUIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as s_uuid";
-        String sql = SELECT +
-                TPSTable.DATE + ',' +
-                TPSTable.TPS + ',' +
-                TPSTable.PLAYERS_ONLINE + ',' +
-                TPSTable.CPU_USAGE + ',' +
-                TPSTable.RAM_USAGE + ',' +
-                TPSTable.ENTITIES + ',' +
-                TPSTable.CHUNKS + ',' +
-                TPSTable.FREE_DISK + ',' +
-                serverUUIDColumn +
-                FROM + TPSTable.TABLE_NAME +
-                INNER_JOIN + ServerTable.TABLE_NAME + " on " + serverIDColumn + "=" + TPSTable.SERVER_ID;
-
-        return new QueryAllStatement<>(sql, 50000) {
+        return new QueryAllStatement<>(SELECT_TPS_DATA, 50000) {
             @Override
             public Map<ServerUUID, List<TPS>> processResults(ResultSet set) throws SQLException {
-                Map<ServerUUID, List<TPS>> serverMap = new HashMap<>();
-                while (set.next()) {
-                    ServerUUID serverUUID = ServerUUID.fromString(set.getString("s_uuid"));
-
-                    List<TPS> tpsList = serverMap.computeIfAbsent(serverUUID, Lists::create);
-
-                    TPS tps = TPSBuilder.get()
-                            .date(set.getLong(TPSTable.DATE))
-                            .tps(set.getDouble(TPSTable.TPS))
-                            .playersOnline(set.getInt(TPSTable.PLAYERS_ONLINE))
-                            .usedCPU(set.getDouble(TPSTable.CPU_USAGE))
-                            .usedMemory(set.getLong(TPSTable.RAM_USAGE))
-                            .entities(set.getInt(TPSTable.ENTITIES))
-                            .chunksLoaded(set.getInt(TPSTable.CHUNKS))
-                            .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
-                            .toTPS();
-
-                    tpsList.add(tps);
+                return extractServerTPS(set);
+            }
+        };
+    }
+
+    /**
+     * Query TPS data of rows in an id range.
+     * <p>
+     * Used for copying TPS data in chunks, see {@link #fetchChunkEndId(String, int, int)}
+     *
+     * @param afterId Rows with id after this are fetched (exclusive)
+     * @param toId    Rows with id up to this are fetched (inclusive)
+     * @return Map: Server UUID - List of TPS data
+     */
+    public static Query<Map<ServerUUID, List<TPS>>> fetchTPSDataInIdRange(int afterId, int toId) {
+        String sql = SELECT_TPS_DATA +
+                WHERE + TPSTable.TABLE_NAME + '.' + TPSTable.ID + ">?" +
+                AND + TPSTable.TABLE_NAME + '.' + TPSTable.ID + "<=?";
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, toId);
+            }
+
+            @Override
+            public Map<ServerUUID, List<TPS>> processResults(ResultSet set) throws SQLException {
+                return extractServerTPS(set);
+            }
+        };
+    }
+
+    private static Map<ServerUUID, List<TPS>> extractServerTPS(ResultSet set) throws SQLException {
+        Map<ServerUUID, List<TPS>> serverMap = new HashMap<>();
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString("s_uuid"));
+
+            List<TPS> tpsList = serverMap.computeIfAbsent(serverUUID, Lists::create);
+
+            TPS tps = TPSBuilder.get()
+                    .date(set.getLong(TPSTable.DATE))
+                    .tps(set.getDouble(TPSTable.TPS))
+                    .playersOnline(set.getInt(TPSTable.PLAYERS_ONLINE))
+                    .usedCPU(set.getDouble(TPSTable.CPU_USAGE))
+                    .usedMemory(set.getLong(TPSTable.RAM_USAGE))
+                    .entities(set.getInt(TPSTable.ENTITIES))
+                    .chunksLoaded(set.getInt(TPSTable.CHUNKS))
+                    .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
+                    .toTPS();
+
+            tpsList.add(tps);
+        }
+        return serverMap;
+    }
+
+    /**
+     * Query the id of the last row in the next chunk of a table.
+     * <p>
+     * Large tables are copied in chunks of rows between two ids so that only one chunk is kept in memory at a time.
+     *
+     * @param tableName Name of the table, the table needs to have an auto increment 'id' column.
+     * @param afterId   Id of the last row of the previous chunk, 0 for the first chunk.
+     * @param chunkSize Number of rows in a chunk.
+     * @return Id of the last row in the chunk, empty if there are no rows after the given id.
+     */
+    public static Query<Optional<Integer>> fetchChunkEndId(String tableName, int afterId, int chunkSize) {
+        String sql = SELECT + "MAX(id) as chunk_end" + FROM + '(' +
+                SELECT + "id" + FROM + tableName +
+                WHERE + "id>?" +
+                ORDER_BY + "id" + LIMIT + "?" +
+                ") q";
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, chunkSize);
+            }
+
+            @Override
+            public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    int chunkEnd = set.getInt("chunk_end");
+                    if (!set.wasNull()) return Optional.of(chunkEnd);
                 }
-                return serverMap;
+                return Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Query the number of rows in a table.
+     *
+     * @param tableName Name of the table.
+     * @return Number of rows.
+     */
+    public static Query<Long> fetchRowCount(String tableName) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + tableName;
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getLong("c") : 0L;
             }
         };
     }
@@ -29,12 +29,14 @@ import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.sql.tables.webuser.*;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import org.apache.commons.lang3.StringUtils;
 import org.intellij.lang.annotations.Language;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.*;
@@ -47,6 +49,8 @@ import java.util.stream.Collectors;
  */
 public class LargeStoreQueries {
 
+    private static final int ACTIVE_PLAYTIME_USERS_PER_BATCH = 2500;
+
     private LargeStoreQueries() {
         /* Static method class */
     }
@@ -200,6 +204,30 @@ public class LargeStoreQueries {
         };
     }
 
+    /**
+     * Aggregate all stored TPS data into the hourly and daily rollup tables.
+     * <p>
+     * The rollup tables should be empty before this is executed.
+     *
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeTPSRollupsFromTPSData() {
+        return connection -> {
+            storeTPSRollupFromTPSData(TPSRollupTable.HOURLY_TABLE_NAME).execute(connection);
+            storeTPSRollupFromTPSData(TPSRollupTable.DAILY_TABLE_NAME).execute(connection);
+            return false;
+        };
+    }
+
+    private static Executable storeTPSRollupFromTPSData(String tableName) {
+        return new ExecStatement(TPSRollupTable.insertFromTPSTableStatement(tableName)) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                /* Nothing to prepare */
+            }
+        };
+    }
+
     /**
      * Execute a big batch of Per server UserInfo insert statements.
      *
@@ -300,6 +328,22 @@ public class LargeStoreQueries {
     }
 
     public static Executable storeAllSessionsWithKillAndWorldData(Collection<FinishedSession> sessions) {
+        return connection -> {
+            boolean stored = storeAllSessionsWithKillAndWorldDataWithoutActivePlaytime(sessions).execute(connection);
+            storeSessionActivePlaytime(sessions).execute(connection);
+            return stored;
+        };
+    }
+
+    /**
+     * Store sessions without adding their playtime to {@link ActivePlaytimeTable}.
+     * <p>
+     * Used when copying many sessions, {@link #storeActivePlaytimeFromAllSessions()} should be executed afterwards.
+     *
+     * @param sessions Sessions to store
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeAllSessionsWithKillAndWorldDataWithoutActivePlaytime(Collection<FinishedSession> sessions) {
         return connection -> {
             Set<World> existingWorlds = WorldTimesQueries.fetchWorlds().executeWithConnection(connection);
             tryStoreAllJoinAddresses(sessions, connection, 0);
@@ -310,6 +354,119 @@ public class LargeStoreQueries {
         };
     }
 
+    private static Executable storeSessionActivePlaytime(Collection<FinishedSession> sessions) {
+        if (sessions == null || sessions.isEmpty()) return Executable.empty();
+
+        Map<UUID, Map<ServerUUID, Map<Long, Long>>> perDay = new HashMap<>();
+        for (FinishedSession session : sessions) {
+            Map<Long, Long> ofPlayerOnServer = perDay.computeIfAbsent(session.getPlayerUUID(), k -> new HashMap<>())
+                    .computeIfAbsent(session.getServerUUID(), k -> new HashMap<>());
+            ActivePlaytimeTable.addActivePlaytimePerDay(ofPlayerOnServer, session.getStart(), session.getEnd(), session.getAfkTime());
+        }
+
+        return connection -> {
+            for (Map.Entry<UUID, Map<ServerUUID, Map<Long, Long>>> ofPlayer : perDay.entrySet()) {
+                for (Map.Entry<ServerUUID, Map<Long, Long>> onServer : ofPlayer.getValue().entrySet()) {
+                    for (Map.Entry<Long, Long> onDay : onServer.getValue().entrySet()) {
+                        DataStoreQueries.addActivePlaytime(ofPlayer.getKey(), onServer.getKey(), onDay.getKey(), onDay.getValue())
+                                .execute(connection);
+                    }
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Calculate active playtime per day from all sessions and store it in {@link ActivePlaytimeTable}.
+     * <p>
+     * The table should be empty before this is executed.
+     *
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeActivePlaytimeFromAllSessions() {
+        @Language("SQL")
+        String sql = "SELECT MAX(" + SessionsTable.USER_ID + ") as max_id FROM " + SessionsTable.TABLE_NAME;
+
+        return connection -> {
+            int maxUserId = new QueryAllStatement<Integer>(sql) {
+                @Override
+                public Integer processResults(ResultSet set) throws SQLException {
+                    return set.next() ? set.getInt("max_id") : 0;
+                }
+            }.executeWithConnection(connection);
+
+            // Users are processed in parts to avoid keeping the playtime of every user in memory at once.
+            boolean stored = false;
+            for (int from = 0; from <= maxUserId; from += ACTIVE_PLAYTIME_USERS_PER_BATCH) {
+                stored |= storeActivePlaytimeFromSessions(from, from + ACTIVE_PLAYTIME_USERS_PER_BATCH - 1).execute(connection);
+            }
+            return stored;
+        };
+    }
+
+    /**
+     * Calculate active playtime per day from sessions of users and store it in {@link ActivePlaytimeTable}.
+     * <p>
+     * Existing rows of the users should be removed before this is executed.
+     *
+     * @param fromUserId Smallest user_id to store playtime of (inclusive)
+     * @param toUserId   Largest user_id to store playtime of (inclusive)
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeActivePlaytimeFromSessions(int fromUserId, int toUserId) {
+        @Language("SQL")
+        String sql = "SELECT " + SessionsTable.USER_ID + ',' + SessionsTable.SERVER_ID + ',' +
+                SessionsTable.SESSION_START + ',' + SessionsTable.SESSION_END + ',' + SessionsTable.AFK_TIME +
+                " FROM " + SessionsTable.TABLE_NAME +
+                " WHERE " + SessionsTable.USER_ID + ">=?" +
+                " AND " + SessionsTable.USER_ID + "<=?";
+
+        return connection -> {
+            // user_id - server_id - day - active playtime
+            Map<Integer, Map<Integer, Map<Long, Long>>> perDay = new QueryStatement<Map<Integer, Map<Integer, Map<Long, Long>>>>(sql, 10000) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setInt(1, fromUserId);
+                    statement.setInt(2, toUserId);
+                }
+
+                @Override
+                public Map<Integer, Map<Integer, Map<Long, Long>>> processResults(ResultSet set) throws SQLException {
+                    Map<Integer, Map<Integer, Map<Long, Long>>> playtime = new HashMap<>();
+                    while (set.next()) {
+                        Map<Long, Long> ofUserOnServer = playtime.computeIfAbsent(set.getInt(SessionsTable.USER_ID), k -> new HashMap<>())
+                                .computeIfAbsent(set.getInt(SessionsTable.SERVER_ID), k -> new HashMap<>());
+                        ActivePlaytimeTable.addActivePlaytimePerDay(ofUserOnServer,
+                                set.getLong(SessionsTable.SESSION_START),
+                                set.getLong(SessionsTable.SESSION_END),
+                                set.getLong(SessionsTable.AFK_TIME));
+                    }
+                    return playtime;
+                }
+            }.executeWithConnection(connection);
+
+            if (perDay.isEmpty()) return false;
+
+            return new ExecBatchStatement(ActivePlaytimeTable.INSERT_WITH_IDS_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    for (Map.Entry<Integer, Map<Integer, Map<Long, Long>>> ofUser : perDay.entrySet()) {
+                        for (Map.Entry<Integer, Map<Long, Long>> onServer : ofUser.getValue().entrySet()) {
+                            for (Map.Entry<Long, Long> onDay : onServer.getValue().entrySet()) {
+                                statement.setInt(1, ofUser.getKey());
+                                statement.setInt(2, onServer.getKey());
+                                statement.setLong(3, onDay.getKey());
+                                statement.setLong(4, onDay.getValue());
+                                statement.addBatch();
+                            }
+                        }
+                    }
+                }
+            }.execute(connection);
+        };
+    }
+
     private static void tryStoreAllJoinAddresses(Collection<FinishedSession> sessions, Connection connection, int attempt) {
         try {
             List<String> existingJoinAddresses = JoinAddressQueries.allJoinAddresses().executeWithConnection(connection);
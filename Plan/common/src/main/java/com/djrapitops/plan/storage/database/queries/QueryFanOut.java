@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.storage.database.Database;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Submits independent queries to be executed concurrently with {@link Database#queryAsync(Query)}.
+ * <p>
+ * All queries should be submitted before any of the results are used,
+ * so that the total time is that of the slowest query instead of the sum of all of them.
+ * <p>
+ * The query thread pool is shared and small, so a query that has not started by the time its result is needed
+ * is executed on the calling thread instead of waiting behind queries of other callers.
+ *
+ * @author AuroraLS3
+ */
+public class QueryFanOut {
+
+    private final Database db;
+
+    public QueryFanOut(Database db) {
+        this.db = db;
+    }
+
+    /**
+     * Start executing a query.
+     *
+     * @param query Query to execute, should not wait for other asynchronous queries.
+     * @param <T>   Type of the result.
+     * @return Supplier that waits for the query to finish and returns the result.
+     */
+    public <T> Supplier<T> submit(Query<T> query) {
+        AtomicBoolean started = new AtomicBoolean(false);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        db.queryAsync(sqldb -> {
+            if (started.compareAndSet(false, true)) {
+                try {
+                    result.complete(query.executeQuery(sqldb));
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            }
+            return null;
+        });
+        return () -> {
+            if (started.compareAndSet(false, true)) {
+                // Query is still waiting for a thread.
+                return db.query(query);
+            }
+            return join(result);
+        };
+    }
+
+    private static <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
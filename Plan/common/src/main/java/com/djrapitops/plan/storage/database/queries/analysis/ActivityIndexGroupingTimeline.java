@@ -0,0 +1,240 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.DateMap;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Calculates activity index groupings for multiple dates from playtime summed per user and week in the database.
+ * <p>
+ * Weeks are counted backwards from the last date (the anchor), so dates a whole number of weeks apart share them.
+ * Dates that are not are calculated with a separate query, see {@link #onWeeklyGrids(boolean, Collection, Function)}.
+ * Uses the same formula as the activity index queries, see {@link ActivityIndexQueries}.
+ *
+ * @author AuroraLS3
+ */
+class ActivityIndexGroupingTimeline {
+
+    private static final long WEEK_MS = TimeUnit.DAYS.toMillis(7L);
+
+    private final double multiplier;
+    private final long[] dates;
+    private final int[] weekOffsets;
+    private final List<Map<String, Integer>> groupings;
+
+    private final long[] playtimePerWeek;
+    private int userId;
+    private long registered;
+    private boolean hasUser;
+
+    /**
+     * @param storedPerDay      true if playtime is from {@link ActivePlaytimeTable}, false if it is from sessions.
+     * @param playtimeThreshold Playtime after which a player is considered active on a particular week.
+     * @param dates             Dates on the same weekly grid, see {@link #onWeeklyGrids(boolean, Collection, Function)}.
+     */
+    ActivityIndexGroupingTimeline(boolean storedPerDay, long playtimeThreshold, Collection<Long> dates) {
+        // A(t) = 1 / (pi/2 * (t/T) + 1) = 1 / (multiplier * t + 1)
+        this.multiplier = Math.PI / 2.0 / playtimeThreshold;
+        long anchor = anchor(storedPerDay, dates);
+        this.dates = new long[dates.size()];
+        this.weekOffsets = new int[dates.size()];
+        this.groupings = new ArrayList<>();
+        int i = 0;
+        int maxOffset = 0;
+        for (long date : dates) {
+            this.dates[i] = date;
+            weekOffsets[i] = (int) ((anchor - weekEnd(storedPerDay, date)) / WEEK_MS);
+            maxOffset = Math.max(maxOffset, weekOffsets[i]);
+            groupings.add(new HashMap<>());
+            i++;
+        }
+        this.playtimePerWeek = new long[maxOffset + 3];
+    }
+
+    private static long weekEnd(boolean storedPerDay, long date) {
+        // Stored playtime is per day, and the week ends on the day date is on.
+        return storedPerDay ? ActivePlaytimeTable.getDay(date) : date;
+    }
+
+    private static long anchor(boolean storedPerDay, Collection<Long> dates) {
+        return weekEnd(storedPerDay, Collections.max(dates));
+    }
+
+    /**
+     * Run a query for each group of dates that are a whole number of weeks apart.
+     * <p>
+     * The graphs use dates a week apart, so this is usually a single query.
+     *
+     * @param storedPerDay true if playtime is from {@link ActivePlaytimeTable}, false if it is from sessions.
+     * @param dates        Dates to calculate groupings on, epoch ms.
+     * @param gridQuery    Creates the query for dates on the same grid.
+     * @return Query for groupings on all dates.
+     */
+    static Query<DateMap<Map<String, Integer>>> onWeeklyGrids(
+            boolean storedPerDay, Collection<Long> dates, Function<List<Long>, Query<DateMap<Map<String, Integer>>>> gridQuery
+    ) {
+        if (dates.isEmpty()) return db -> new DateMap<>();
+
+        Map<Long, List<Long>> grids = new HashMap<>();
+        for (long date : dates) {
+            long positionInWeek = Math.floorMod(weekEnd(storedPerDay, date), WEEK_MS);
+            grids.computeIfAbsent(positionInWeek, k -> new ArrayList<>()).add(date);
+        }
+        return db -> {
+            DateMap<Map<String, Integer>> groupingsOnDates = new DateMap<>();
+            for (List<Long> grid : grids.values()) {
+                groupingsOnDates.putAll(db.query(gridQuery.apply(grid)));
+            }
+            return groupingsOnDates;
+        };
+    }
+
+    /**
+     * Create SQL for active playtime of each user per week from {@link ActivePlaytimeTable}.
+     *
+     * @param additionalCondition Condition for rows of the table (alias ap), starting with AND.
+     * @return SQL with columns user_id, from_week, to_week and active_playtime.
+     * Parameters are set with {@link #setWeeklyPlaytimeSQLParameters(PreparedStatement, int, boolean, Collection)}.
+     */
+    static String selectStoredWeeklyPlaytimeSQL(String additionalCondition) {
+        // Weeks before the anchor, day is on week n if anchor - (n + 1) week < day <= anchor - n week
+        String week = floor("(?-ap." + ActivePlaytimeTable.DATE + ")*1.0/?");
+        return selectWeeklyPlaytimeSQL(SELECT + "ap." + ActivePlaytimeTable.USER_ID + " as user_id," +
+                week + " as from_week," +
+                week + " as to_week," +
+                "ap." + ActivePlaytimeTable.ACTIVE_PLAYTIME + " as active_playtime" +
+                FROM + ActivePlaytimeTable.TABLE_NAME + " ap" +
+                WHERE + "ap." + ActivePlaytimeTable.DATE + ">?" +
+                AND + "ap." + ActivePlaytimeTable.DATE + "<=?" +
+                additionalCondition);
+    }
+
+    /**
+     * Create SQL for active playtime of each user per week from {@link SessionsTable}.
+     * <p>
+     * Sessions count towards every week they overlap, like in {@link ActivityIndexQueries#selectActivityIndexSQL()}.
+     *
+     * @param additionalCondition Condition for rows of the table (alias s), starting with AND.
+     * @return SQL with columns user_id, from_week, to_week and active_playtime.
+     * Parameters are set with {@link #setWeeklyPlaytimeSQLParameters(PreparedStatement, int, boolean, Collection)}.
+     */
+    static String selectSessionWeeklyPlaytimeSQL(String additionalCondition) {
+        // Week n is [anchor - (n + 1) week, anchor - n week], which the session overlaps when
+        // ceil((anchor - end) / week) - 1 <= n <= floor((anchor - start) / week)
+        return selectWeeklyPlaytimeSQL(SELECT + "s." + SessionsTable.USER_ID + " as user_id," +
+                "-" + floor("(s." + SessionsTable.SESSION_END + "-?)*1.0/?") + "-1 as from_week," +
+                floor("(?-s." + SessionsTable.SESSION_START + ")*1.0/?") + " as to_week," +
+                "s." + SessionsTable.SESSION_END + "-s." + SessionsTable.SESSION_START + "-s." + SessionsTable.AFK_TIME + " as active_playtime" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                WHERE + "s." + SessionsTable.SESSION_END + ">=?" +
+                AND + "s." + SessionsTable.SESSION_START + "<=?" +
+                additionalCondition);
+    }
+
+    private static String selectWeeklyPlaytimeSQL(String selectPlaytime) {
+        return SELECT + "w.user_id,w.from_week,w.to_week,SUM(w.active_playtime) as active_playtime" +
+                FROM + '(' + selectPlaytime + ") w" +
+                GROUP_BY + "w.user_id,w.from_week,w.to_week";
+    }
+
+    /**
+     * Set the parameters of the weekly playtime SQL.
+     *
+     * @param statement    Statement to set the parameters of.
+     * @param index        Index of the first parameter.
+     * @param storedPerDay true if the SQL is from {@link #selectStoredWeeklyPlaytimeSQL(String)}.
+     * @param dates        Dates on the same weekly grid.
+     * @return Index of the next parameter.
+     * @throws SQLException If a parameter can not be set.
+     */
+    static int setWeeklyPlaytimeSQLParameters(PreparedStatement statement, int index, boolean storedPerDay, Collection<Long> dates) throws SQLException {
+        long anchor = anchor(storedPerDay, dates);
+        statement.setLong(index, anchor);
+        statement.setLong(index + 1, WEEK_MS);
+        statement.setLong(index + 2, anchor);
+        statement.setLong(index + 3, WEEK_MS);
+        statement.setLong(index + 4, weekEnd(storedPerDay, Collections.min(dates)) - 3L * WEEK_MS);
+        statement.setLong(index + 5, anchor);
+        return index + 6;
+    }
+
+    /**
+     * Read a row with user_id, registered, from_week, to_week and active_playtime columns.
+     * <p>
+     * Rows need to be ordered by user_id. Week columns are null for users without playtime in the range.
+     *
+     * @param set ResultSet positioned on the row.
+     * @throws SQLException If the columns are missing.
+     */
+    void read(ResultSet set) throws SQLException {
+        int rowUserId = set.getInt("user_id");
+        if (!hasUser || rowUserId != userId) {
+            addUserToGroupings();
+            userId = rowUserId;
+            hasUser = true;
+        }
+        registered = set.getLong("registered");
+
+        long fromWeek = set.getLong("from_week");
+        if (set.wasNull()) return;
+        long toWeek = set.getLong("to_week");
+        long activePlaytime = set.getLong("active_playtime");
+        for (long week = Math.max(0L, fromWeek); week <= Math.min(toWeek, playtimePerWeek.length - 1L); week++) {
+            playtimePerWeek[(int) week] += activePlaytime;
+        }
+    }
+
+    private void addUserToGroupings() {
+        if (!hasUser) return;
+        for (int i = 0; i < dates.length; i++) {
+            if (registered > dates[i]) continue;
+
+            double sum = 0.0;
+            for (int week = 0; week < 3; week++) {
+                sum += 1.0 / (multiplier * playtimePerWeek[weekOffsets[i] + week] + 1.0);
+            }
+            double activityIndex = 5.0 - 5.0 * sum / 3.0;
+            Map<String, Integer> groups = groupings.get(i);
+            String group = ActivityIndex.getGroup(activityIndex);
+            groups.put(group, groups.getOrDefault(group, 0) + 1);
+        }
+        Arrays.fill(playtimePerWeek, 0L);
+    }
+
+    DateMap<Map<String, Integer>> getGroupings() {
+        addUserToGroupings();
+        hasUser = false;
+        DateMap<Map<String, Integer>> groupingsOnDates = new DateMap<>();
+        for (int i = 0; i < dates.length; i++) {
+            groupingsOnDates.put(dates[i], groupings.get(i));
+        }
+        return groupingsOnDates;
+    }
+}
@@ -16,10 +16,12 @@
  */
 package com.djrapitops.plan.storage.database.queries.analysis;
 
+import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
@@ -29,10 +31,7 @@ import com.djrapitops.plan.utilities.dev.Benchmark;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -119,8 +118,62 @@ public class ActivityIndexQueries {
         statement.setLong(index + 10, date - TimeUnit.DAYS.toMillis(14L));
     }
 
+    /**
+     * Create SQL for selecting activity index of players on a server from {@link ActivePlaytimeTable}.
+     * <p>
+     * Active playtime is stored per day, so the day {@code date} is on is the last day of the first week.
+     * Players who have not played on the server during the three weeks are not included.
+     *
+     * @return SQL with columns user_id and activity_index. Parameters are set with {@link #setSelectStoredActivityIndexSQLParameters(PreparedStatement, int, long, ServerUUID, long)}.
+     */
+    public static String selectStoredActivityIndexSQL() {
+        return selectStoredActivityIndexSQL(AND + "ap." + ActivePlaytimeTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID);
+    }
+
+    static String selectStoredActivityIndexSQL(String additionalCondition) {
+        String activePlaytime = "ap." + ActivePlaytimeTable.ACTIVE_PLAYTIME;
+        String day = "ap." + ActivePlaytimeTable.DATE;
+        return SELECT + "ap." + ActivePlaytimeTable.USER_ID + " as user_id," +
+                "5.0 - 5.0 * (" +
+                "1.0 / (?*SUM(CASE WHEN " + day + ">? THEN " + activePlaytime + " ELSE 0 END) + 1.0) + " +
+                "1.0 / (?*SUM(CASE WHEN " + day + ">?" + AND + day + "<=? THEN " + activePlaytime + " ELSE 0 END) + 1.0) + " +
+                "1.0 / (?*SUM(CASE WHEN " + day + "<=? THEN " + activePlaytime + " ELSE 0 END) + 1.0)" +
+                ") / 3.0 as activity_index" +
+                FROM + ActivePlaytimeTable.TABLE_NAME + " ap" +
+                WHERE + day + ">?" +
+                AND + day + "<=?" +
+                additionalCondition +
+                GROUP_BY + "ap." + ActivePlaytimeTable.USER_ID;
+    }
+
+    public static void setSelectStoredActivityIndexSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, ServerUUID serverUUID, long date) throws SQLException {
+        int next = setSelectStoredActivityIndexSQLParameters(statement, index, playtimeThreshold, date);
+        statement.setString(next, serverUUID.toString());
+    }
+
+    static int setSelectStoredActivityIndexSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, long date) throws SQLException {
+        // A(t) = 1 / (pi/2 * (t/T) + 1) = 1 / (multiplier * t + 1)
+        double multiplier = Math.PI / 2.0 / playtimeThreshold;
+        long week = TimeUnit.DAYS.toMillis(7L);
+        long endOfWeekOne = ActivePlaytimeTable.getDay(date);
+        long endOfWeekTwo = endOfWeekOne - week;
+        long endOfWeekThree = endOfWeekOne - 2L * week;
+        long startOfWeekThree = endOfWeekOne - 3L * week;
+
+        statement.setDouble(index, multiplier);
+        statement.setLong(index + 1, endOfWeekTwo);
+        statement.setDouble(index + 2, multiplier);
+        statement.setLong(index + 3, endOfWeekThree);
+        statement.setLong(index + 4, endOfWeekTwo);
+        statement.setDouble(index + 5, multiplier);
+        statement.setLong(index + 6, endOfWeekThree);
+        statement.setLong(index + 7, startOfWeekThree);
+        statement.setLong(index + 8, endOfWeekOne);
+        return index + 9;
+    }
+
     public static Query<Integer> fetchActivityGroupCount(long date, ServerUUID serverUUID, long playtimeThreshold, double above, double below) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectStoredActivityIndexSQL();
 
         String selectIndexes = SELECT + "COALESCE(activity_index, 0) as activity_index" +
                 FROM + UserInfoTable.TABLE_NAME + " u" +
@@ -136,11 +189,11 @@ public class ActivityIndexQueries {
         return new QueryStatement<>(selectCount) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, playtimeThreshold, serverUUID, date);
-                statement.setString(12, serverUUID.toString());
-                statement.setLong(13, date);
-                statement.setDouble(14, above);
-                statement.setDouble(15, below);
+                setSelectStoredActivityIndexSQLParameters(statement, 1, playtimeThreshold, serverUUID, date);
+                statement.setString(11, serverUUID.toString());
+                statement.setLong(12, date);
+                statement.setDouble(13, above);
+                statement.setDouble(14, below);
             }
 
             @Override
@@ -151,7 +204,7 @@ public class ActivityIndexQueries {
     }
 
     public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, ServerUUID serverUUID, long threshold) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectStoredActivityIndexSQL();
 
         String selectIndexes = SELECT + "activity_index" +
                 FROM + UserInfoTable.TABLE_NAME + " u" +
@@ -162,9 +215,9 @@ public class ActivityIndexQueries {
         return new QueryStatement<>(selectIndexes) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, threshold, serverUUID, date);
-                statement.setString(12, serverUUID.toString());
-                statement.setLong(13, date);
+                setSelectStoredActivityIndexSQLParameters(statement, 1, threshold, serverUUID, date);
+                statement.setString(11, serverUUID.toString());
+                statement.setLong(12, date);
             }
 
             @Override
@@ -180,8 +233,51 @@ public class ActivityIndexQueries {
         };
     }
 
+    /**
+     * Fetch activity index groupings on multiple dates.
+     * <p>
+     * Active playtime is summed per player and week in the database and the groupings on each date are calculated
+     * from the weeks, instead of running {@link #fetchActivityIndexGroupingsOn(long, ServerUUID, long)} for each date.
+     *
+     * @param dates      Dates to calculate groupings on, epoch ms.
+     * @param serverUUID UUID of the server.
+     * @param threshold  Playtime threshold
+     * @return Map: date - (activity group - player count)
+     */
+    public static Query<DateMap<Map<String, Integer>>> fetchActivityIndexGroupingsOn(Collection<Long> dates, ServerUUID serverUUID, long threshold) {
+        String selectWeeklyPlaytime = ActivityIndexGroupingTimeline.selectStoredWeeklyPlaytimeSQL(
+                AND + "ap." + ActivePlaytimeTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID
+        );
+        String sql = SELECT + "u." + UserInfoTable.USER_ID + ",u." + UserInfoTable.REGISTERED +
+                ",w.from_week,w.to_week,w.active_playtime" +
+                FROM + UserInfoTable.TABLE_NAME + " u" +
+                LEFT_JOIN + '(' + selectWeeklyPlaytime + ") w on w.user_id=u." + UserInfoTable.USER_ID +
+                WHERE + "u." + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + "u." + UserInfoTable.REGISTERED + "<=?" +
+                ORDER_BY + "u." + UserInfoTable.USER_ID;
+
+        return ActivityIndexGroupingTimeline.onWeeklyGrids(true, dates, gridDates -> new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = ActivityIndexGroupingTimeline.setWeeklyPlaytimeSQLParameters(statement, 1, true, gridDates);
+                statement.setString(index, serverUUID.toString());
+                statement.setString(index + 1, serverUUID.toString());
+                statement.setLong(index + 2, Collections.max(gridDates));
+            }
+
+            @Override
+            public DateMap<Map<String, Integer>> processResults(ResultSet set) throws SQLException {
+                ActivityIndexGroupingTimeline timeline = new ActivityIndexGroupingTimeline(true, threshold, gridDates);
+                while (set.next()) {
+                    timeline.read(set);
+                }
+                return timeline.getGroupings();
+            }
+        });
+    }
+
     public static Query<Integer> countNewPlayersTurnedRegular(long after, long before, ServerUUID serverUUID, Long threshold) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectStoredActivityIndexSQL();
 
         String selectActivePlayerCount = SELECT + "COUNT(1) as count" +
                 FROM + '(' + selectActivityIndex + ") q2" +
@@ -195,12 +291,12 @@ public class ActivityIndexQueries {
         return new QueryStatement<>(selectActivePlayerCount) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, threshold, serverUUID, before);
-                statement.setString(12, serverUUID.toString());
-                statement.setLong(13, after);
-                statement.setLong(14, before);
-                statement.setDouble(15, ActivityIndex.REGULAR);
-                statement.setDouble(16, 5.1);
+                setSelectStoredActivityIndexSQLParameters(statement, 1, threshold, serverUUID, before);
+                statement.setString(11, serverUUID.toString());
+                statement.setLong(12, after);
+                statement.setLong(13, before);
+                statement.setDouble(14, ActivityIndex.REGULAR);
+                statement.setDouble(15, 5.1);
             }
 
             @Override
@@ -218,27 +314,28 @@ public class ActivityIndexQueries {
      * @return Query how many players went from regular to inactive in a span of time.
      */
     public static Query<Integer> countRegularPlayersTurnedInactive(long start, long end, ServerUUID serverUUID, Long threshold) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectStoredActivityIndexSQL();
 
         String selectActivePlayerCount = SELECT + "COUNT(1) as count" +
                 FROM + '(' + selectActivityIndex + ") q2" +
                 // Join two select activity index queries together to query Regular and Inactive players
-                INNER_JOIN + '(' + selectActivityIndex.replace("q1", "q3") + ") q4" +
+                // Players who did not play before the end are not in q4, and are inactive.
+                LEFT_JOIN + '(' + selectActivityIndex + ") q4" +
                 " on q2." + SessionsTable.USER_ID + "=q4." + SessionsTable.USER_ID +
                 WHERE + "q2.activity_index>=?" +
                 AND + "q2.activity_index<?" +
-                AND + "q4.activity_index>=?" +
-                AND + "q4.activity_index<?";
+                AND + "COALESCE(q4.activity_index,0)>=?" +
+                AND + "COALESCE(q4.activity_index,0)<?";
 
         return new QueryStatement<>(selectActivePlayerCount) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, threshold, serverUUID, start);
-                setSelectActivityIndexSQLParameters(statement, 12, threshold, serverUUID, end);
-                statement.setDouble(23, ActivityIndex.REGULAR);
-                statement.setDouble(24, 5.1);
-                statement.setDouble(25, -0.1);
-                statement.setDouble(26, ActivityIndex.IRREGULAR);
+                setSelectStoredActivityIndexSQLParameters(statement, 1, threshold, serverUUID, start);
+                setSelectStoredActivityIndexSQLParameters(statement, 11, threshold, serverUUID, end);
+                statement.setDouble(21, ActivityIndex.REGULAR);
+                statement.setDouble(22, 5.1);
+                statement.setDouble(23, -0.1);
+                statement.setDouble(24, ActivityIndex.IRREGULAR);
             }
 
             @Override
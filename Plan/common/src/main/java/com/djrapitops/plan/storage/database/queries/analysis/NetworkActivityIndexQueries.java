@@ -16,10 +16,12 @@
  */
 package com.djrapitops.plan.storage.database.queries.analysis;
 
+import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -121,8 +123,22 @@ public class NetworkActivityIndexQueries {
         statement.setLong(index + 7, date - TimeUnit.DAYS.toMillis(14L));
     }
 
+    /**
+     * Create SQL for selecting activity index of players on the network from {@link ActivePlaytimeTable}.
+     *
+     * @return SQL with columns user_id and activity_index. Parameters are set with {@link #setSelectStoredActivityIndexSQLParameters(PreparedStatement, int, long, long)}.
+     * @see ActivityIndexQueries#selectStoredActivityIndexSQL()
+     */
+    public static String selectStoredActivityIndexSQL() {
+        return ActivityIndexQueries.selectStoredActivityIndexSQL("");
+    }
+
+    public static void setSelectStoredActivityIndexSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, long date) throws SQLException {
+        ActivityIndexQueries.setSelectStoredActivityIndexSQLParameters(statement, index, playtimeThreshold, date);
+    }
+
     public static Query<Integer> fetchActivityGroupCount(long date, long playtimeThreshold, double above, double below) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectStoredActivityIndexSQL();
 
         String selectIndexes = SELECT + "COALESCE(activity_index, 0) as activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
@@ -137,10 +153,10 @@ public class NetworkActivityIndexQueries {
         return new QueryStatement<>(selectCount) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, playtimeThreshold, date);
-                statement.setLong(9, date);
-                statement.setDouble(10, above);
-                statement.setDouble(11, below);
+                setSelectStoredActivityIndexSQLParameters(statement, 1, playtimeThreshold, date);
+                statement.setLong(10, date);
+                statement.setDouble(11, above);
+                statement.setDouble(12, below);
             }
 
             @Override
@@ -151,7 +167,7 @@ public class NetworkActivityIndexQueries {
     }
 
     public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, long threshold) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectStoredActivityIndexSQL();
 
         String selectIndexes = SELECT + "activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
@@ -161,8 +177,8 @@ public class NetworkActivityIndexQueries {
         return new QueryStatement<>(selectIndexes) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, threshold, date);
-                statement.setLong(9, date);
+                setSelectStoredActivityIndexSQLParameters(statement, 1, threshold, date);
+                statement.setLong(10, date);
             }
 
             @Override
@@ -178,6 +194,87 @@ public class NetworkActivityIndexQueries {
         };
     }
 
+    /**
+     * Fetch activity index groupings of the network on multiple dates.
+     *
+     * @param dates     Dates to calculate groupings on, epoch ms.
+     * @param threshold Playtime threshold
+     * @return Map: date - (activity group - player count)
+     * @see ActivityIndexQueries#fetchActivityIndexGroupingsOn(Collection, ServerUUID, long)
+     */
+    public static Query<DateMap<Map<String, Integer>>> fetchActivityIndexGroupingsOn(Collection<Long> dates, long threshold) {
+        String selectWeeklyPlaytime = ActivityIndexGroupingTimeline.selectStoredWeeklyPlaytimeSQL("");
+        String sql = SELECT + "u." + UsersTable.ID + " as user_id,u." + UsersTable.REGISTERED +
+                ",w.from_week,w.to_week,w.active_playtime" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                LEFT_JOIN + '(' + selectWeeklyPlaytime + ") w on w.user_id=u." + UsersTable.ID +
+                WHERE + "u." + UsersTable.REGISTERED + "<=?" +
+                ORDER_BY + "u." + UsersTable.ID;
+
+        return ActivityIndexGroupingTimeline.onWeeklyGrids(true, dates, gridDates -> new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = ActivityIndexGroupingTimeline.setWeeklyPlaytimeSQLParameters(statement, 1, true, gridDates);
+                statement.setLong(index, Collections.max(gridDates));
+            }
+
+            @Override
+            public DateMap<Map<String, Integer>> processResults(ResultSet set) throws SQLException {
+                ActivityIndexGroupingTimeline timeline = new ActivityIndexGroupingTimeline(true, threshold, gridDates);
+                while (set.next()) {
+                    timeline.read(set);
+                }
+                return timeline.getGroupings();
+            }
+        });
+    }
+
+    /**
+     * Fetch activity index groupings of some players on multiple dates.
+     * <p>
+     * Activity is calculated from sessions on the given servers like in {@link #selectActivityIndexSQL(Collection)}.
+     *
+     * @param dates       Dates to calculate groupings on, epoch ms.
+     * @param threshold   Playtime threshold
+     * @param userIds     IDs of the players to include.
+     * @param serverUUIDs Servers to take sessions from, all servers if empty.
+     * @return Map: date - (activity group - player count)
+     */
+    public static Query<DateMap<Map<String, Integer>>> fetchActivityIndexGroupingsOn(Collection<Long> dates, long threshold, Collection<Integer> userIds, List<ServerUUID> serverUUIDs) {
+        String selectServerIds = SELECT + ServerTable.ID +
+                FROM + ServerTable.TABLE_NAME +
+                WHERE + ServerTable.SERVER_UUID + " IN ('" + new TextStringBuilder().appendWithSeparators(serverUUIDs, "','") + "')";
+
+        String selectWeeklyPlaytime = ActivityIndexGroupingTimeline.selectSessionWeeklyPlaytimeSQL(
+                serverUUIDs.isEmpty() ? "" : AND + "s." + SessionsTable.SERVER_ID + " IN (" + selectServerIds + ")"
+        );
+        String sql = SELECT + "u." + UsersTable.ID + " as user_id,u." + UsersTable.REGISTERED +
+                ",w.from_week,w.to_week,w.active_playtime" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                LEFT_JOIN + '(' + selectWeeklyPlaytime + ") w on w.user_id=u." + UsersTable.ID +
+                WHERE + "u." + UsersTable.REGISTERED + "<=?" +
+                AND + "u." + UsersTable.ID + " IN (" +
+                new TextStringBuilder().appendWithSeparators(userIds, ",").build() + ")" +
+                ORDER_BY + "u." + UsersTable.ID;
+
+        return ActivityIndexGroupingTimeline.onWeeklyGrids(false, dates, gridDates -> new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = ActivityIndexGroupingTimeline.setWeeklyPlaytimeSQLParameters(statement, 1, false, gridDates);
+                statement.setLong(index, Collections.max(gridDates));
+            }
+
+            @Override
+            public DateMap<Map<String, Integer>> processResults(ResultSet set) throws SQLException {
+                ActivityIndexGroupingTimeline timeline = new ActivityIndexGroupingTimeline(false, threshold, gridDates);
+                while (set.next()) {
+                    timeline.read(set);
+                }
+                return timeline.getGroupings();
+            }
+        });
+    }
+
     public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, long threshold, Collection<Integer> userIds, List<ServerUUID> serverUUIDs) {
         String selectActivityIndex = selectActivityIndexSQL(serverUUIDs);
 
@@ -27,24 +27,26 @@ import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.BaseUser;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
+import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Used to get a PlayerContainer of a specific player.
  * <p>
- * Blocking methods are not called until DataContainer getter methods are called.
+ * Blocking methods are not called until DataContainer getter methods are called,
+ * or until they are loaded in parallel with {@link #executeAsync(Database, Collection)}.
  *
  * @author AuroraLS3
  */
 public class PlayerContainerQuery implements Query<PlayerContainer> {
 
+    private static final Key<BaseUser> BASE_USER = new Key<>(BaseUser.class, "BASE_USER");
+
     private final UUID uuid;
 
     public PlayerContainerQuery(UUID uuid) {
@@ -53,14 +55,68 @@ public class PlayerContainerQuery implements Query<PlayerContainer> {
 
     @Override
     public PlayerContainer executeQuery(SQLDB db) {
+        return createContainer(db);
+    }
+
+    /**
+     * Get the PlayerContainer with the data of given keys loaded in parallel.
+     * <p>
+     * Each key is loaded with a separate query, so the container is available after the slowest query has finished,
+     * instead of after all of them have finished one after another. Other keys are loaded when they are accessed.
+     *
+     * @param db         Database to query.
+     * @param neededKeys Keys that the caller is going to access.
+     * @return Future that completes when the data of the keys has been loaded.
+     */
+    public CompletableFuture<PlayerContainer> executeAsync(Database db, Collection<Key<?>> neededKeys) {
+        PlayerContainer container = createContainer(db);
+
+        Set<Key<?>> queriedKeys = new HashSet<>();
+        for (Key<?> key : neededKeys) {
+            getQueriedKey(key).ifPresent(queriedKeys::add);
+        }
+
+        // The container is not modified while the cached values are loaded, so the keys can be accessed concurrently.
+        CompletableFuture<?>[] loading = queriedKeys.stream()
+                .map(key -> db.queryAsync(sqldb -> container.getValue(key)))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(loading).thenApply(loaded -> container);
+    }
+
+    /**
+     * Find the key that has a caching supplier performing the query needed for the given key.
+     *
+     * @param key Key of the PlayerContainer.
+     * @return Key that loads data from the database, or empty if the key is not loaded from database.
+     */
+    private static Optional<Key<?>> getQueriedKey(Key<?> key) {
+        if (PlayerKeys.REGISTERED.equals(key) || PlayerKeys.NAME.equals(key) || PlayerKeys.KICK_COUNT.equals(key)) {
+            return Optional.of(BASE_USER);
+        }
+        if (PlayerKeys.PLAYER_KILL_COUNT.equals(key)) {
+            return Optional.of(PlayerKeys.PLAYER_KILLS);
+        }
+        if (PlayerKeys.BANNED.equals(key) || PlayerKeys.OPERATOR.equals(key) || PlayerKeys.SESSIONS.equals(key)
+                || PlayerKeys.LAST_SEEN.equals(key) || PlayerKeys.MOB_KILL_COUNT.equals(key) || PlayerKeys.DEATH_COUNT.equals(key)) {
+            return Optional.of(PlayerKeys.PER_SERVER);
+        }
+        if (PlayerKeys.GEO_INFO.equals(key) || PlayerKeys.PING.equals(key) || PlayerKeys.NICKNAMES.equals(key)
+                || PlayerKeys.PER_SERVER.equals(key) || PlayerKeys.WORLD_TIMES.equals(key)
+                || PlayerKeys.PLAYER_KILLS.equals(key) || PlayerKeys.PLAYER_DEATHS_KILLS.equals(key)) {
+            return Optional.of(key);
+        }
+        return Optional.empty();
+    }
+
+    private PlayerContainer createContainer(Database db) {
         PlayerContainer container = new PlayerContainer();
         container.putRawData(PlayerKeys.UUID, uuid);
+        SessionCache.getCachedSession(uuid).ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
 
-        Key<BaseUser> baseUserKey = new Key<>(BaseUser.class, "BASE_USER");
-        container.putSupplier(baseUserKey, () -> db.query(BaseUserQueries.fetchBaseUserOfPlayer(uuid)).orElse(null));
-        container.putSupplier(PlayerKeys.REGISTERED, () -> container.getValue(baseUserKey).map(BaseUser::getRegistered).orElse(null));
-        container.putSupplier(PlayerKeys.NAME, () -> container.getValue(baseUserKey).map(BaseUser::getName).orElse(null));
-        container.putSupplier(PlayerKeys.KICK_COUNT, () -> container.getValue(baseUserKey).map(BaseUser::getTimesKicked).orElse(null));
+        container.putCachingSupplier(BASE_USER, () -> db.query(BaseUserQueries.fetchBaseUserOfPlayer(uuid)).orElse(null));
+        container.putSupplier(PlayerKeys.REGISTERED, () -> container.getValue(BASE_USER).map(BaseUser::getRegistered).orElse(null));
+        container.putSupplier(PlayerKeys.NAME, () -> container.getValue(BASE_USER).map(BaseUser::getName).orElse(null));
+        container.putSupplier(PlayerKeys.KICK_COUNT, () -> container.getValue(BASE_USER).map(BaseUser::getTimesKicked).orElse(null));
 
         container.putCachingSupplier(PlayerKeys.GEO_INFO, () -> db.query(GeoInfoQueries.fetchPlayerGeoInformation(uuid)));
         container.putCachingSupplier(PlayerKeys.PING, () -> db.query(PingQueries.fetchPingDataOfPlayer(uuid)));
@@ -91,13 +147,12 @@ public class PlayerContainerQuery implements Query<PlayerContainer> {
             if (activeSession.isPresent()) return System.currentTimeMillis();
             return SessionsMutator.forContainer(container).toLastSeen();
         });
-        container.putSupplier(PlayerKeys.PLAYER_KILLS, () -> db.query(KillQueries.fetchPlayerKillsOfPlayer(uuid)));
-        container.putSupplier(PlayerKeys.PLAYER_DEATHS_KILLS, () -> db.query(KillQueries.fetchPlayerDeathsOfPlayer(uuid)));
+        container.putCachingSupplier(PlayerKeys.PLAYER_KILLS, () -> db.query(KillQueries.fetchPlayerKillsOfPlayer(uuid)));
+        container.putCachingSupplier(PlayerKeys.PLAYER_DEATHS_KILLS, () -> db.query(KillQueries.fetchPlayerDeathsOfPlayer(uuid)));
         container.putSupplier(PlayerKeys.PLAYER_KILL_COUNT, () -> container.getValue(PlayerKeys.PLAYER_KILLS).map(Collection::size).orElse(0));
         container.putSupplier(PlayerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
         container.putSupplier(PlayerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
 
-        SessionCache.getCachedSession(uuid).ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
         return container;
     }
 }
\ No newline at end of file
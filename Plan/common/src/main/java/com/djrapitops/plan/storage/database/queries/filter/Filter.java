@@ -47,9 +47,9 @@ public interface Filter {
 
     default Result apply(@Untrusted InputFilterDto query) {
         try {
-            return new Result(null, getKind(), getMatchingUserIds(query));
+            return Result.first(this, UserIdBitmap.of(getMatchingUserIds(query)));
         } catch (CompleteSetException allMatch) {
-            return new Result(null, getKind() + " (skip)", new HashSet<>());
+            return Result.firstNotApplied(this);
         }
     }
 
@@ -58,25 +58,35 @@ public interface Filter {
 
         private final String filterKind;
         private final int resultSize;
-        private final Set<Integer> currentUserIds;
+        private final UserIdBitmap currentUserIds;
 
-        private Result(Result previous, String filterKind, Set<Integer> currentUserIds) {
+        private Result(Result previous, String filterKind, UserIdBitmap currentUserIds) {
             this.previous = previous;
             this.filterKind = filterKind;
-            this.resultSize = currentUserIds.size();
+            this.resultSize = currentUserIds.getCardinality();
             this.currentUserIds = currentUserIds;
         }
 
+        static Result first(Filter filter, UserIdBitmap matchingUserIds) {
+            return new Result(null, filter.getKind(), matchingUserIds);
+        }
+
+        static Result firstNotApplied(Filter filter) {
+            return new Result(null, filter.getKind() + " (skip)", UserIdBitmap.empty());
+        }
+
         public Result apply(Filter filter, InputFilterDto query) {
             try {
-                Set<Integer> got = filter.getMatchingUserIds(query);
-                currentUserIds.retainAll(got);
-                return new Result(this, filter.getKind(), currentUserIds);
+                return apply(filter, UserIdBitmap.of(filter.getMatchingUserIds(query)));
             } catch (CompleteSetException allMatch) {
                 return notApplied(filter);
             }
         }
 
+        public Result apply(Filter filter, UserIdBitmap matchingUserIds) {
+            return new Result(this, filter.getKind(), currentUserIds.and(matchingUserIds));
+        }
+
         public Result notApplied(Filter filter) {
             return new Result(this, filter.getKind() + " (skip)", currentUserIds);
         }
@@ -86,6 +96,10 @@ public interface Filter {
         }
 
         public Set<Integer> getResultUserIds() {
+            return currentUserIds.toSet();
+        }
+
+        public UserIdBitmap getResultUserIdBitmap() {
             return currentUserIds;
         }
 
@@ -22,10 +22,13 @@ import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.filter.filters.AllPlayersFilter;
 import com.djrapitops.plan.storage.database.queries.filter.filters.PluginGroupsFilter;
 import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -43,6 +46,11 @@ public class QueryFilters {
     private final PluginGroupsFilter.PluginGroupsFilterQuery filterQuery;
 
     private final AtomicBoolean fetchedPluginFilters = new AtomicBoolean(false);
+    // Filter kind and parameters - matching user ids, empty if the filter matched everyone.
+    private final Cache<String, Optional<UserIdBitmap>> filterResults = Caffeine.newBuilder()
+            .expireAfterWrite(2, TimeUnit.MINUTES)
+            .maximumSize(64)
+            .build();
 
     @Inject
     public QueryFilters(
@@ -86,7 +94,9 @@ public class QueryFilters {
     public Filter.Result apply(@Untrusted List<InputFilterDto> filterQueries) {
         prepareFilters();
         Filter.Result current = null;
-        if (filterQueries.isEmpty()) return allPlayersFilter.apply(null);
+        if (filterQueries.isEmpty()) {
+            return getResult(null, allPlayersFilter, new InputFilterDto(allPlayersFilter.getKind(), Collections.emptyMap()));
+        }
         for (@Untrusted InputFilterDto inputFilterDto : filterQueries) {
             current = apply(current, inputFilterDto);
             if (current != null && current.isEmpty()) break;
@@ -103,13 +113,40 @@ public class QueryFilters {
 
     private Filter.Result getResult(Filter.Result current, Filter filter, @Untrusted InputFilterDto query) {
         try {
-            return current == null ? filter.apply(query) : current.apply(filter, query);
+            Optional<UserIdBitmap> matching = getMatchingUserIds(filter, query);
+            if (matching.isEmpty()) {
+                return current == null ? Filter.Result.firstNotApplied(filter) : current.notApplied(filter);
+            }
+            return current == null ? Filter.Result.first(filter, matching.get()) : current.apply(filter, matching.get());
         } catch (IllegalArgumentException badOptions) {
             throw new BadRequestException("Bad parameters for filter '" + filter.getKind() +
                     "': expecting " + Arrays.asList(filter.getExpectedParameters()) + " as parameters");
         }
     }
 
+    /**
+     * Get user ids matching a filter, reusing the result of a recent identical filter.
+     *
+     * @return Matching user ids, or empty if the filter matches everyone.
+     */
+    private Optional<UserIdBitmap> getMatchingUserIds(Filter filter, @Untrusted InputFilterDto query) {
+        return filterResults.get(getCacheKey(filter, query), key -> {
+            try {
+                return Optional.of(UserIdBitmap.of(filter.getMatchingUserIds(query)));
+            } catch (CompleteSetException allMatch) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private String getCacheKey(Filter filter, @Untrusted InputFilterDto query) {
+        @Untrusted Map<String, String> parameters = new TreeMap<>();
+        for (@Untrusted String parameter : query.getSetParameters()) {
+            parameters.put(parameter, query.get(parameter).orElse(null));
+        }
+        return filter.getKind() + parameters;
+    }
+
     public Map<String, Filter> getFilters() {
         prepareFilters();
         return filters;
@@ -0,0 +1,293 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable compressed set of user ids.
+ * <p>
+ * Ids are split into chunks by their upper 16 bits, similar to Roaring bitmaps.
+ * A chunk with few ids stores them as a sorted array of the lower 16 bits, a chunk with many as a 65536-bit bitmap.
+ * Intersecting two sets only touches chunks that both sets have, and does not box any ids.
+ *
+ * @author AuroraLS3
+ */
+public final class UserIdBitmap {
+
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final UserIdBitmap EMPTY = new UserIdBitmap(new int[0], new Object[0], 0);
+
+    private final int[] keys;
+    // Each container is either char[] of sorted lower bits, or long[] bitmap of lower bits.
+    private final Object[] containers;
+    private final int cardinality;
+
+    private UserIdBitmap(int[] keys, Object[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    public static UserIdBitmap empty() {
+        return EMPTY;
+    }
+
+    public static UserIdBitmap of(Collection<Integer> userIds) {
+        int[] values = new int[userIds.size()];
+        int i = 0;
+        for (Integer userId : userIds) {
+            values[i++] = userId;
+        }
+        return of(values);
+    }
+
+    public static UserIdBitmap of(int... userIds) {
+        if (userIds.length == 0) return EMPTY;
+        int[] values = Arrays.copyOf(userIds, userIds.length);
+        // Sort in unsigned order so that chunks come out in order of their key
+        for (int i = 0; i < values.length; i++) values[i] ^= Integer.MIN_VALUE;
+        Arrays.sort(values);
+        for (int i = 0; i < values.length; i++) values[i] ^= Integer.MIN_VALUE;
+
+        int[] keys = new int[values.length];
+        Object[] containers = new Object[values.length];
+        int chunks = 0;
+        int cardinality = 0;
+        int start = 0;
+        while (start < values.length) {
+            int key = values[start] >>> 16;
+            int end = start;
+            while (end < values.length && values[end] >>> 16 == key) end++;
+
+            char[] lowBits = new char[end - start];
+            int size = 0;
+            for (int i = start; i < end; i++) {
+                char low = (char) values[i];
+                if (size == 0 || lowBits[size - 1] != low) lowBits[size++] = low; // Skip duplicates
+            }
+            keys[chunks] = key;
+            containers[chunks] = toContainer(lowBits, size);
+            chunks++;
+            cardinality += size;
+            start = end;
+        }
+        return new UserIdBitmap(Arrays.copyOf(keys, chunks), Arrays.copyOf(containers, chunks), cardinality);
+    }
+
+    private static Object toContainer(char[] lowBits, int size) {
+        if (size <= MAX_ARRAY_SIZE) return size == lowBits.length ? lowBits : Arrays.copyOf(lowBits, size);
+        long[] bitmap = new long[BITMAP_WORDS];
+        for (int i = 0; i < size; i++) {
+            bitmap[lowBits[i] >>> 6] |= 1L << lowBits[i];
+        }
+        return bitmap;
+    }
+
+    /**
+     * Intersect with another set.
+     *
+     * @param other Other set.
+     * @return New set with ids that are in both sets.
+     */
+    public UserIdBitmap and(UserIdBitmap other) {
+        int[] resultKeys = new int[Math.min(keys.length, other.keys.length)];
+        Object[] resultContainers = new Object[resultKeys.length];
+        int chunks = 0;
+        int resultCardinality = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Object intersection = intersect(containers[i], other.containers[j]);
+                int size = containerCardinality(intersection);
+                if (size > 0) {
+                    resultKeys[chunks] = keys[i];
+                    resultContainers[chunks] = intersection;
+                    chunks++;
+                    resultCardinality += size;
+                }
+                i++;
+                j++;
+            }
+        }
+        if (resultCardinality == 0) return EMPTY;
+        return new UserIdBitmap(Arrays.copyOf(resultKeys, chunks), Arrays.copyOf(resultContainers, chunks), resultCardinality);
+    }
+
+    private static Object intersect(Object one, Object two) {
+        if (one instanceof char[] && two instanceof char[]) {
+            return intersectArrays((char[]) one, (char[]) two);
+        } else if (one instanceof char[]) {
+            return intersectArrayWithBitmap((char[]) one, (long[]) two);
+        } else if (two instanceof char[]) {
+            return intersectArrayWithBitmap((char[]) two, (long[]) one);
+        } else {
+            return intersectBitmaps((long[]) one, (long[]) two);
+        }
+    }
+
+    private static char[] intersectArrays(char[] one, char[] two) {
+        char[] result = new char[Math.min(one.length, two.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < one.length && j < two.length) {
+            if (one[i] < two[j]) {
+                i++;
+            } else if (one[i] > two[j]) {
+                j++;
+            } else {
+                result[size++] = one[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static char[] intersectArrayWithBitmap(char[] array, long[] bitmap) {
+        char[] result = new char[array.length];
+        int size = 0;
+        for (char low : array) {
+            if (bitmapContains(bitmap, low)) result[size++] = low;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static Object intersectBitmaps(long[] one, long[] two) {
+        long[] result = new long[BITMAP_WORDS];
+        int size = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            result[i] = one[i] & two[i];
+            size += Long.bitCount(result[i]);
+        }
+        if (size > MAX_ARRAY_SIZE) return result;
+
+        char[] array = new char[size];
+        int index = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            long word = result[i];
+            while (word != 0) {
+                array[index++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return array;
+    }
+
+    private static boolean bitmapContains(long[] bitmap, char low) {
+        return (bitmap[low >>> 6] & (1L << low)) != 0;
+    }
+
+    private static int containerCardinality(Object container) {
+        if (container instanceof char[]) return ((char[]) container).length;
+        int size = 0;
+        for (long word : (long[]) container) size += Long.bitCount(word);
+        return size;
+    }
+
+    public boolean contains(int userId) {
+        int index = Arrays.binarySearch(keys, userId >>> 16);
+        if (index < 0) return false;
+        Object container = containers[index];
+        char low = (char) userId;
+        if (container instanceof char[]) return Arrays.binarySearch((char[]) container, low) >= 0;
+        return bitmapContains((long[]) container, low);
+    }
+
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            int high = keys[i] << 16;
+            Object container = containers[i];
+            if (container instanceof char[]) {
+                for (char low : (char[]) container) action.accept(high | low);
+            } else {
+                long[] bitmap = (long[]) container;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = bitmap[w];
+                    while (word != 0) {
+                        action.accept(high | (w * 64 + Long.numberOfTrailingZeros(word)));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Turn this into a regular set.
+     *
+     * @return New mutable set with the user ids.
+     */
+    public Set<Integer> toSet() {
+        Set<Integer> userIds = new HashSet<>(Math.max(16, (int) (cardinality / 0.75f) + 1));
+        forEach(userIds::add);
+        return userIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UserIdBitmap that = (UserIdBitmap) o;
+        if (cardinality != that.cardinality || !Arrays.equals(keys, that.keys)) return false;
+        for (int i = 0; i < containers.length; i++) {
+            if (!containerEquals(containers[i], that.containers[i])) return false;
+        }
+        return true;
+    }
+
+    private static boolean containerEquals(Object one, Object two) {
+        if (one instanceof char[] && two instanceof char[]) return Arrays.equals((char[]) one, (char[]) two);
+        if (one instanceof long[] && two instanceof long[]) return Arrays.equals((long[]) one, (long[]) two);
+        return false; // Same cardinality is always stored the same way
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(keys);
+        result = 31 * result + cardinality;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "UserIdBitmap{" +
+                "cardinality=" + cardinality +
+                ", chunks=" + keys.length +
+                '}';
+    }
+}
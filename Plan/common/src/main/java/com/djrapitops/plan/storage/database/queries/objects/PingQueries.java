@@ -41,6 +41,17 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class PingQueries {
 
+    private static final String SELECT_PING_DATA = SELECT +
+            PingTable.DATE + ',' +
+            PingTable.MAX_PING + ',' +
+            PingTable.MIN_PING + ',' +
+            PingTable.AVG_PING + ',' +
+            "u." + UsersTable.USER_UUID + " as uuid," +
+            "s." + ServerTable.SERVER_UUID + " as server_uuid" +
+            FROM + PingTable.TABLE_NAME + " p" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u.id=p." + PingTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " s on s.id=p." + PingTable.SERVER_ID;
+
     private PingQueries() {
         /* Static method class */
     }
@@ -51,17 +62,34 @@ public class PingQueries {
      * @return Map: Player UUID - List of ping data.
      */
     public static Query<Map<UUID, List<Ping>>> fetchAllPingData() {
-        String sql = SELECT +
-                PingTable.DATE + ',' +
-                PingTable.MAX_PING + ',' +
-                PingTable.MIN_PING + ',' +
-                PingTable.AVG_PING + ',' +
-                "u." + UsersTable.USER_UUID + " as uuid," +
-                "s." + ServerTable.SERVER_UUID + " as server_uuid" +
-                FROM + PingTable.TABLE_NAME + " p" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u on u.id=p." + PingTable.USER_ID +
-                INNER_JOIN + ServerTable.TABLE_NAME + " s on s.id=p." + PingTable.SERVER_ID;
-        return new QueryAllStatement<>(sql, 100000) {
+        return new QueryAllStatement<>(SELECT_PING_DATA, 100000) {
+            @Override
+            public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
+                return extractUserPings(set);
+            }
+        };
+    }
+
+    /**
+     * Query ping data of rows in an id range.
+     * <p>
+     * Used for copying ping data in chunks, see {@link com.djrapitops.plan.storage.database.queries.LargeFetchQueries#fetchChunkEndId(String, int, int)}
+     *
+     * @param afterId Rows with id after this are fetched (exclusive)
+     * @param toId    Rows with id up to this are fetched (inclusive)
+     * @return Map: Player UUID - List of ping data.
+     */
+    public static Query<Map<UUID, List<Ping>>> fetchPingDataInIdRange(int afterId, int toId) {
+        String sql = SELECT_PING_DATA +
+                WHERE + "p." + PingTable.ID + ">?" +
+                AND + "p." + PingTable.ID + "<=?";
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, toId);
+            }
+
             @Override
             public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
                 return extractUserPings(set);
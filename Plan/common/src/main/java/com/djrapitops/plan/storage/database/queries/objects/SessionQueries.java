@@ -108,6 +108,34 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for Session data with kill, death or world data of sessions in an id range.
+     * <p>
+     * Used for copying sessions in chunks, see {@link com.djrapitops.plan.storage.database.queries.LargeFetchQueries#fetchChunkEndId(String, int, int)}
+     *
+     * @param afterId Sessions with id after this are fetched (exclusive)
+     * @param toId    Sessions with id up to this are fetched (inclusive)
+     * @return List of sessions
+     */
+    public static Query<List<FinishedSession>> fetchSessionsInIdRange(int afterId, int toId) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + "s." + SessionsTable.ID + ">?" +
+                AND + "s." + SessionsTable.ID + "<=?" +
+                ORDER_BY_SESSION_START_DESC;
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, toId);
+            }
+
+            @Override
+            public List<FinishedSession> processResults(ResultSet set) throws SQLException {
+                return extractDataFromSessionSelectStatement(set);
+            }
+        };
+    }
+
     /**
      * Query the database for Session data of a player with kill and world data.
      *
@@ -452,6 +480,55 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query session count for each hour of each day of week within range on a server.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset in ms to determine day of week and hour.
+     * @param serverUUID     UUID of the Plan server.
+     * @return Matrix - [Day of week (0 = Monday, 6 = Sunday)][Hour of day (0 = 0 AM, 23 = 11 PM)] : Session count
+     */
+    public static Query<int[][]> sessionCountPerDayOfWeekAndHour(long after, long before, long timeZoneOffset, ServerUUID serverUUID) {
+        return database -> {
+            Sql sql = database.getSql();
+            String sessionStartDate = sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000");
+            String selectSessionsPerHourOfWeek = SELECT +
+                    sql.dateToDayOfWeek(sessionStartDate) + " as day_of_week," +
+                    sql.dateToHour(sessionStartDate) + " as hour_of_day," +
+                    "COUNT(1) as session_count" +
+                    FROM + SessionsTable.TABLE_NAME +
+                    WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                    AND + SessionsTable.SESSION_START + ">=?" +
+                    AND + SessionsTable.SESSION_START + "<=?" +
+                    GROUP_BY + "day_of_week,hour_of_day";
+
+            return database.query(new QueryStatement<int[][]>(selectSessionsPerHourOfWeek, 200) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setLong(1, timeZoneOffset);
+                    statement.setLong(2, timeZoneOffset);
+                    statement.setString(3, serverUUID.toString());
+                    statement.setLong(4, after);
+                    statement.setLong(5, before);
+                }
+
+                @Override
+                public int[][] processResults(ResultSet set) throws SQLException {
+                    int[][] sessionCounts = new int[7][24];
+                    while (set.next()) {
+                        // Day of week is 1 = Sunday, 7 = Saturday, move Monday to 0 and Sunday to 6
+                        int dayOfWeek = (set.getInt("day_of_week") + 5) % 7;
+                        int hourOfDay = set.getInt("hour_of_day");
+                        if (dayOfWeek < 0 || hourOfDay < 0 || hourOfDay > 23) continue;
+                        sessionCounts[dayOfWeek][hourOfDay] += set.getInt("session_count");
+                    }
+                    return sessionCounts;
+                }
+            });
+        };
+    }
+
     /**
      * Query session count for each day within range across the whole network.
      *
@@ -876,6 +953,21 @@ public class SessionQueries {
                 .orElse(0L);
     }
 
+    /**
+     * Query last seen date of a player, if the player has not been removed.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Epoch ms the last session of the player ended, 0 if the player has no sessions, or empty if the player is not registered.
+     */
+    public static Query<Optional<Long>> lastSeenOfRegisteredPlayer(UUID playerUUID) {
+        String sql = SELECT + "MAX(s." + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                LEFT_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
+                WHERE + "u." + UsersTable.USER_UUID + "=?" +
+                GROUP_BY + "u." + UsersTable.ID;
+        return db -> db.queryOptional(sql, set -> set.getLong("last_seen"), playerUUID);
+    }
+
     public static Query<Long> lastSeen(UUID playerUUID, ServerUUID serverUUID) {
         String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
                 FROM + SessionsTable.TABLE_NAME +
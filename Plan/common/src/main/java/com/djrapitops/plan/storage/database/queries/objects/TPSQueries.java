@@ -23,6 +23,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSRollupTable;
 import com.djrapitops.plan.utilities.dev.Benchmark;
 import com.djrapitops.plan.utilities.java.Lists;
 import org.intellij.lang.annotations.Language;
@@ -48,7 +49,22 @@ public class TPSQueries {
         /* Static method class */
     }
 
+    /**
+     * Fetch TPS data of a server grouped into the given resolution.
+     * <p>
+     * Resolutions that are multiples of an hour or a day are answered from the pre-aggregated rollup tables.
+     *
+     * @param after      Epoch ms, start of the range
+     * @param before     Epoch ms, end of the range
+     * @param resolution Length of a data point in ms
+     * @param serverUUID UUID of the Plan server
+     * @return Query for TPS data points, lowest TPS and highest other values of each data point.
+     */
     public static Query<List<TPS>> fetchTPSDataOfServerInResolution(long after, long before, long resolution, ServerUUID serverUUID) {
+        String rollupTable = TPSRollupTable.selectTableForResolution(resolution);
+        if (!TABLE_NAME.equals(rollupTable)) {
+            return fetchTPSRollupDataOfServerInResolution(rollupTable, after, before, resolution, serverUUID);
+        }
         return db -> {
             String sql = SELECT +
                     min("t." + DATE) + " as " + DATE + ',' +
@@ -87,6 +103,46 @@ public class TPSQueries {
         };
     }
 
+    private static Query<List<TPS>> fetchTPSRollupDataOfServerInResolution(String rollupTable, long after, long before, long resolution, ServerUUID serverUUID) {
+        String sql = SELECT +
+                min("t." + TPSRollupTable.DATE) + " as " + DATE + ',' +
+                min("t." + TPSRollupTable.MIN_TPS) + " as " + TPS + ',' +
+                max("t." + TPSRollupTable.MAX_PLAYERS_ONLINE) + " as " + PLAYERS_ONLINE + ',' +
+                max("t." + TPSRollupTable.MAX_RAM_USAGE) + " as " + RAM_USAGE + ',' +
+                max("t." + TPSRollupTable.MAX_CPU_USAGE) + " as " + CPU_USAGE + ',' +
+                max("t." + TPSRollupTable.MAX_ENTITIES) + " as " + ENTITIES + ',' +
+                max("t." + TPSRollupTable.MAX_CHUNKS) + " as " + CHUNKS + ',' +
+                max("t." + TPSRollupTable.MAX_FREE_DISK) + " as " + FREE_DISK +
+                FROM + rollupTable + " t" +
+                WHERE + TPSRollupTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + TPSRollupTable.DATE + ">=?" +
+                AND + TPSRollupTable.DATE + "<?" +
+                GROUP_BY + floor(TPSRollupTable.DATE + "/?") +
+                ORDER_BY + DATE;
+
+        long period = TPSRollupTable.getPeriod(rollupTable);
+        // Only periods that start inside the range are included, a period that started before it contains older data
+        long firstFullPeriod = TPSRollupTable.getPeriodStart(after + period - 1, period);
+        return new QueryStatement<>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, firstFullPeriod);
+                statement.setLong(3, before);
+                statement.setLong(4, resolution);
+            }
+
+            @Override
+            public List<TPS> processResults(ResultSet set) throws SQLException {
+                List<TPS> data = new ArrayList<>();
+                while (set.next()) {
+                    data.add(extractTPS(set));
+                }
+                return data;
+            }
+        };
+    }
+
     public static TPS extractTPS(ResultSet set) throws SQLException {
         return TPSBuilder.get()
                 .date(set.getLong(DATE))
@@ -287,6 +343,10 @@ public class TPSQueries {
     }
 
     public static Query<Double> averageTPS(long after, long before, ServerUUID serverUUID) {
+        String rollupTable = TPSRollupTable.selectTableForRange(after, before);
+        if (!TABLE_NAME.equals(rollupTable)) {
+            return averageWithRollups(rollupTable, TPS, TPSRollupTable.TPS_SUM, TPSRollupTable.TPS_COUNT, after, before, serverUUID);
+        }
         String sql = SELECT + "AVG(" + TPS + ") as average" + FROM + TABLE_NAME +
                 WHERE + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
                 AND + TPS + ">=0" +
@@ -308,6 +368,10 @@ public class TPSQueries {
     }
 
     public static Query<Double> averageCPU(long after, long before, ServerUUID serverUUID) {
+        String rollupTable = TPSRollupTable.selectTableForRange(after, before);
+        if (!TABLE_NAME.equals(rollupTable)) {
+            return averageWithRollups(rollupTable, CPU_USAGE, TPSRollupTable.CPU_SUM, TPSRollupTable.CPU_COUNT, after, before, serverUUID);
+        }
         String sql = SELECT + "AVG(" + CPU_USAGE + ") as average" + FROM + TABLE_NAME +
                 WHERE + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
                 AND + CPU_USAGE + ">=0" +
@@ -329,6 +393,11 @@ public class TPSQueries {
     }
 
     public static Query<Long> averageRAM(long after, long before, ServerUUID serverUUID) {
+        String rollupTable = TPSRollupTable.selectTableForRange(after, before);
+        if (!TABLE_NAME.equals(rollupTable)) {
+            Query<Double> average = averageWithRollups(rollupTable, RAM_USAGE, TPSRollupTable.RAM_SUM, TPSRollupTable.RAM_COUNT, after, before, serverUUID);
+            return db -> db.query(average).longValue();
+        }
         String sql = SELECT + "AVG(" + RAM_USAGE + ") as average" + FROM + TABLE_NAME +
                 WHERE + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
                 AND + RAM_USAGE + ">=0" +
@@ -349,6 +418,54 @@ public class TPSQueries {
         };
     }
 
+    /**
+     * Calculate an average from rollup rows of whole periods inside the range and raw rows at the edges of the range.
+     * <p>
+     * Gives the same result as averaging raw rows, since rollups keep the sum and count of non-negative values.
+     */
+    private static Query<Double> averageWithRollups(String rollupTable, String column, String sumColumn, String countColumn, long after, long before, ServerUUID serverUUID) {
+        long period = TPSRollupTable.getPeriod(rollupTable);
+        long rollupStart = TPSRollupTable.getPeriodStart(after, period) + period;
+        long rollupEnd = TPSRollupTable.getPeriodStart(before, period);
+        if (rollupEnd <= rollupStart) {
+            rollupEnd = rollupStart;
+        }
+
+        String selectEdges = SELECT + "SUM(" + column + ") as total, COUNT(1) as samples" + FROM + TABLE_NAME +
+                WHERE + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+                AND + column + ">=0" +
+                AND + "((" + DATE + ">?" + AND + DATE + "<?)" +
+                OR + '(' + DATE + ">=?" + AND + DATE + "<?))";
+        String selectPeriods = SELECT + "SUM(" + sumColumn + ") as total, SUM(" + countColumn + ") as samples" + FROM + rollupTable +
+                WHERE + TPSRollupTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+                AND + TPSRollupTable.DATE + ">=?" +
+                AND + TPSRollupTable.DATE + "<?";
+        String sql = SELECT + "SUM(total) as total, SUM(samples) as samples" + FROM + '(' +
+                selectEdges + UNION_ALL + selectPeriods + ") q";
+
+        long end = rollupEnd;
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, Math.min(rollupStart, before));
+                statement.setLong(4, end);
+                statement.setLong(5, before);
+                statement.setString(6, serverUUID.toString());
+                statement.setLong(7, rollupStart);
+                statement.setLong(8, end);
+            }
+
+            @Override
+            public Double processResults(ResultSet set) throws SQLException {
+                if (!set.next()) return 0.0;
+                long samples = set.getLong("samples");
+                return samples > 0 ? set.getDouble("total") / samples : 0.0;
+            }
+        };
+    }
+
     public static Query<Long> averageChunks(long after, long before, ServerUUID serverUUID) {
         String sql = SELECT + "AVG(" + CHUNKS + ") as average" + FROM + TABLE_NAME +
                 WHERE + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
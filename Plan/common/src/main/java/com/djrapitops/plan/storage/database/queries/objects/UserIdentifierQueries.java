@@ -220,6 +220,20 @@ public class UserIdentifierQueries {
         };
     }
 
+    /**
+     * Fetch user ids of the given players.
+     *
+     * @param playerUUIDs UUIDs of the players.
+     * @return Set of user ids, players that are not in the database are not included.
+     */
+    public static Query<Set<Integer>> fetchUserIds(Collection<UUID> playerUUIDs) {
+        if (playerUUIDs.isEmpty()) return db -> new HashSet<>();
+        String sql = SELECT + UsersTable.ID +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (" + nParameters(playerUUIDs.size()) + ")";
+        return db -> db.querySet(sql, set -> set.getInt(UsersTable.ID), playerUUIDs);
+    }
+
     public static Query<Optional<Integer>> fetchUserId(UUID playerUUID) {
         String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.ID).where(UsersTable.USER_UUID + "=?").toString();
 
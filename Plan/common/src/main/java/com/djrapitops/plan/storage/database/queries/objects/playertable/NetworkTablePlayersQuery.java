@@ -31,6 +31,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -43,16 +44,83 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
 
     private final long date;
     private final long activeMsThreshold;
-    private final int xMostRecentPlayers;
+    private final TablePlayersPage page;
 
     public NetworkTablePlayersQuery(long date, long activeMsThreshold, int xMostRecentPlayers) {
+        this(date, activeMsThreshold, TablePlayersPage.mostRecentPlayers(xMostRecentPlayers));
+    }
+
+    /**
+     * Create a new query for a page of players.
+     *
+     * @param date              Date used for Activity Index calculation
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param page              Which players to return
+     */
+    public NetworkTablePlayersQuery(long date, long activeMsThreshold, TablePlayersPage page) {
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
-        this.xMostRecentPlayers = xMostRecentPlayers;
+        this.page = page;
     }
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        List<TablePlayer> players = new ArrayList<>();
+        forEachPlayer(players::add).executeQuery(db);
+        return players;
+    }
+
+    /**
+     * Create a query that gives each player to the consumer as the row is read.
+     * <p>
+     * Rows that have already been consumed are not held on to, so large tables can be written out as they are read.
+     *
+     * @param consumer Consumer for each player.
+     * @return Query that returns the number of players read.
+     */
+    public Query<Integer> forEachPlayer(Consumer<TablePlayer> consumer) {
+        return db -> db.query(new QueryStatement<>(selectPlayersSql(), 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setBoolean(1, true);
+                NetworkActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, date);
+                int index = page.setNameFilterParameter(statement, 10);
+                page.setLimitParameters(statement, index);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                int count = 0;
+                while (set.next()) {
+                    consumer.accept(extractPlayer(set));
+                    count++;
+                }
+                return count;
+            }
+        });
+    }
+
+    private TablePlayer extractPlayer(ResultSet set) throws SQLException {
+        TablePlayer.Builder player = TablePlayer.builder()
+                .uuid(UUID.fromString(set.getString(UsersTable.USER_UUID)))
+                .name(set.getString(UsersTable.USER_NAME))
+                .geolocation(set.getString(GeoInfoTable.GEOLOCATION))
+                .registered(set.getLong(UsersTable.REGISTERED))
+                .lastSeen(set.getLong("last_seen"))
+                .sessionCount(set.getInt("count"))
+                .activePlaytime(set.getLong("active_playtime"))
+                .activityIndex(new ActivityIndex(set.getDouble("activity_index"), date))
+                .ping(new Ping(0L, null,
+                        set.getInt(PingTable.MIN_PING),
+                        set.getInt(PingTable.MAX_PING),
+                        set.getDouble(PingTable.AVG_PING)));
+        if (set.getString("banned") != null) {
+            player.banned();
+        }
+        return player.build();
+    }
+
+    private String selectPlayersSql() {
         String selectLatestGeolocations = SELECT +
                 "a." + GeoInfoTable.USER_ID + ',' +
                 "a." + GeoInfoTable.GEOLOCATION +
@@ -82,7 +150,7 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 FROM + UserInfoTable.TABLE_NAME + " ub" +
                 WHERE + UserInfoTable.BANNED + "=?";
 
-        String selectBaseUsers = SELECT +
+        return SELECT +
                 "u." + UsersTable.USER_UUID + ',' +
                 "u." + UsersTable.USER_NAME + ',' +
                 "u." + UsersTable.REGISTERED + ',' +
@@ -101,40 +169,20 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + NetworkActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID +
-                ORDER_BY + "ses.last_seen DESC LIMIT ?";
-
-        return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setBoolean(1, true);
-                NetworkActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, date);
-                statement.setInt(10, xMostRecentPlayers);
-            }
+                page.toNameFilterSql(WHERE) +
+                page.toOrderAndLimitSql();
+    }
 
-            @Override
-            public List<TablePlayer> processResults(ResultSet set) throws SQLException {
-                List<TablePlayer> players = new ArrayList<>();
-                while (set.next()) {
-                    TablePlayer.Builder player = TablePlayer.builder()
-                            .uuid(UUID.fromString(set.getString(UsersTable.USER_UUID)))
-                            .name(set.getString(UsersTable.USER_NAME))
-                            .geolocation(set.getString(GeoInfoTable.GEOLOCATION))
-                            .registered(set.getLong(UsersTable.REGISTERED))
-                            .lastSeen(set.getLong("last_seen"))
-                            .sessionCount(set.getInt("count"))
-                            .activePlaytime(set.getLong("active_playtime"))
-                            .activityIndex(new ActivityIndex(set.getDouble("activity_index"), date))
-                            .ping(new Ping(0L, null,
-                                    set.getInt(PingTable.MIN_PING),
-                                    set.getInt(PingTable.MAX_PING),
-                                    set.getDouble(PingTable.AVG_PING)));
-                    if (set.getString("banned") != null) {
-                        player.banned();
-                    }
-                    players.add(player.build());
-                }
-                return players;
-            }
-        });
+    /**
+     * Count how many players there are in the table, ignoring the limit and offset of the page.
+     *
+     * @return Query for the number of players that match the name filter.
+     */
+    public Query<Integer> countPlayers() {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                page.toNameFilterSql(WHERE);
+        return db -> db.queryOptional(sql, set -> set.getInt("c"), page.getNameFilterParameters())
+                .orElse(0);
     }
-}
\ No newline at end of file
+}
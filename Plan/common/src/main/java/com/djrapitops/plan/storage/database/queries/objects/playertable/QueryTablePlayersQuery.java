@@ -49,6 +49,7 @@ public class QueryTablePlayersQuery implements Query<List<TablePlayer>> {
     private final long afterDate;
     private final long beforeDate;
     private final long activeMsThreshold;
+    private final TablePlayersPage page;
 
     /**
      * Create a new query.
@@ -60,11 +61,26 @@ public class QueryTablePlayersQuery implements Query<List<TablePlayer>> {
      * @param activeMsThreshold Playtime threshold for Activity Index calculation
      */
     public QueryTablePlayersQuery(Collection<Integer> userIds, List<ServerUUID> serverUUIDs, long afterDate, long beforeDate, long activeMsThreshold) {
+        this(userIds, serverUUIDs, afterDate, beforeDate, activeMsThreshold, TablePlayersPage.mostRecentPlayers(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Create a new query for a page of players.
+     *
+     * @param userIds           User ids of the players in the query
+     * @param serverUUIDs       View data for these Server UUIDs
+     * @param afterDate         View data after this epoch ms
+     * @param beforeDate        View data before this epoch ms
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param page              Which players to return
+     */
+    public QueryTablePlayersQuery(Collection<Integer> userIds, List<ServerUUID> serverUUIDs, long afterDate, long beforeDate, long activeMsThreshold, TablePlayersPage page) {
         this.userIds = userIds;
         this.serverUUIDs = serverUUIDs;
         this.afterDate = afterDate;
         this.beforeDate = beforeDate;
         this.activeMsThreshold = activeMsThreshold;
+        this.page = page;
     }
 
     @Override
@@ -130,7 +146,8 @@ public class QueryTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + NetworkActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + "u." + UsersTable.ID + userIdsInSet +
-                ORDER_BY + "ses.last_seen DESC";
+                page.toNameFilterSql(AND) +
+                page.toOrderAndLimitSql();
 
         return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
             @Override
@@ -139,6 +156,8 @@ public class QueryTablePlayersQuery implements Query<List<TablePlayer>> {
                 statement.setLong(2, afterDate);
                 statement.setLong(3, beforeDate);
                 NetworkActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 4, activeMsThreshold, beforeDate);
+                int index = page.setNameFilterParameter(statement, 12);
+                page.setLimitParameters(statement, index);
             }
 
             @Override
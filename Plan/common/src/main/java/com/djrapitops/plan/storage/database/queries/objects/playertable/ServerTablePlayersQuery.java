@@ -32,6 +32,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -45,7 +46,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
     private final ServerUUID serverUUID;
     private final long date;
     private final long activeMsThreshold;
-    private final int xMostRecentPlayers;
+    private final TablePlayersPage page;
 
     /**
      * Create a new query.
@@ -56,14 +57,84 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
      * @param xMostRecentPlayers Limit query size
      */
     public ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, int xMostRecentPlayers) {
+        this(serverUUID, date, activeMsThreshold, TablePlayersPage.mostRecentPlayers(xMostRecentPlayers));
+    }
+
+    /**
+     * Create a new query for a page of players.
+     *
+     * @param serverUUID        UUID of the Plan server.
+     * @param date              Date used for Activity Index calculation
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param page              Which players to return
+     */
+    public ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, TablePlayersPage page) {
         this.serverUUID = serverUUID;
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
-        this.xMostRecentPlayers = xMostRecentPlayers;
+        this.page = page;
     }
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        List<TablePlayer> players = new ArrayList<>();
+        forEachPlayer(players::add).executeQuery(db);
+        return players;
+    }
+
+    /**
+     * Create a query that gives each player to the consumer as the row is read.
+     * <p>
+     * Rows that have already been consumed are not held on to, so large tables can be written out as they are read.
+     *
+     * @param consumer Consumer for each player.
+     * @return Query that returns the number of players read.
+     */
+    public Query<Integer> forEachPlayer(Consumer<TablePlayer> consumer) {
+        return db -> db.query(new QueryStatement<>(selectPlayersSql(), 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString()); // Session query
+                ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, serverUUID, date);
+                statement.setString(13, serverUUID.toString()); // Session query
+                statement.setString(14, serverUUID.toString()); // Ping query
+                int index = page.setNameFilterParameter(statement, 15);
+                page.setLimitParameters(statement, index);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                int count = 0;
+                while (set.next()) {
+                    consumer.accept(extractPlayer(set));
+                    count++;
+                }
+                return count;
+            }
+        });
+    }
+
+    private TablePlayer extractPlayer(ResultSet set) throws SQLException {
+        TablePlayer.Builder player = TablePlayer.builder()
+                .uuid(UUID.fromString(set.getString(UsersTable.USER_UUID)))
+                .name(set.getString(UsersTable.USER_NAME))
+                .geolocation(set.getString(GeoInfoTable.GEOLOCATION))
+                .registered(set.getLong(UsersTable.REGISTERED))
+                .lastSeen(set.getLong("last_seen"))
+                .sessionCount(set.getInt("count"))
+                .activePlaytime(set.getLong("active_playtime"))
+                .activityIndex(new ActivityIndex(set.getDouble("activity_index"), date))
+                .ping(new Ping(0L, serverUUID,
+                        set.getInt(PingTable.MIN_PING),
+                        set.getInt(PingTable.MAX_PING),
+                        set.getDouble(PingTable.AVG_PING)));
+        if (set.getBoolean(UserInfoTable.BANNED)) {
+            player.banned();
+        }
+        return player.build();
+    }
+
+    private String selectPlayersSql() {
         String selectLatestGeolocations = SELECT +
                 "a." + GeoInfoTable.USER_ID + ',' +
                 "a." + GeoInfoTable.GEOLOCATION +
@@ -91,7 +162,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 WHERE + "p." + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
                 GROUP_BY + "p." + PingTable.USER_ID;
 
-        String selectBaseUsers = SELECT +
+        return SELECT +
                 "u." + UsersTable.USER_UUID + ',' +
                 "u." + UsersTable.USER_NAME + ',' +
                 "u." + UsersTable.REGISTERED + ',' +
@@ -111,42 +182,22 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
-                ORDER_BY + "ses.last_seen DESC LIMIT ?";
-
-        return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString()); // Session query
-                ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, serverUUID, date);
-                statement.setString(13, serverUUID.toString()); // Session query
-                statement.setString(14, serverUUID.toString()); // Ping query
-                statement.setInt(15, xMostRecentPlayers);
-            }
+                page.toNameFilterSql(AND) +
+                page.toOrderAndLimitSql();
+    }
 
-            @Override
-            public List<TablePlayer> processResults(ResultSet set) throws SQLException {
-                List<TablePlayer> players = new ArrayList<>();
-                while (set.next()) {
-                    TablePlayer.Builder player = TablePlayer.builder()
-                            .uuid(UUID.fromString(set.getString(UsersTable.USER_UUID)))
-                            .name(set.getString(UsersTable.USER_NAME))
-                            .geolocation(set.getString(GeoInfoTable.GEOLOCATION))
-                            .registered(set.getLong(UsersTable.REGISTERED))
-                            .lastSeen(set.getLong("last_seen"))
-                            .sessionCount(set.getInt("count"))
-                            .activePlaytime(set.getLong("active_playtime"))
-                            .activityIndex(new ActivityIndex(set.getDouble("activity_index"), date))
-                            .ping(new Ping(0L, serverUUID,
-                                    set.getInt(PingTable.MIN_PING),
-                                    set.getInt(PingTable.MAX_PING),
-                                    set.getDouble(PingTable.AVG_PING)));
-                    if (set.getBoolean(UserInfoTable.BANNED)) {
-                        player.banned();
-                    }
-                    players.add(player.build());
-                }
-                return players;
-            }
-        });
+    /**
+     * Count how many players there are in the table, ignoring the limit and offset of the page.
+     *
+     * @return Query for the number of players that match the name filter.
+     */
+    public Query<Integer> countPlayers() {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " on u." + UsersTable.ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                page.toNameFilterSql(AND);
+        return db -> db.queryOptional(sql, set -> set.getInt("c"), serverUUID, page.getNameFilterParameters())
+                .orElse(0);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.ORDER_BY;
+
+/**
+ * Ordering of the rows returned by players table queries.
+ * <p>
+ * Columns are named after the fields of players table json so that they can be given as request parameters.
+ *
+ * @author AuroraLS3
+ */
+public class TablePlayerSort {
+
+    private final Column column;
+    private final boolean descending;
+
+    public TablePlayerSort(Column column, boolean descending) {
+        this.column = column;
+        this.descending = descending;
+    }
+
+    /**
+     * Default ordering of the players table, most recently seen players first.
+     *
+     * @return TablePlayerSort.
+     */
+    public static TablePlayerSort lastSeenFirst() {
+        return new TablePlayerSort(Column.LAST_SEEN, true);
+    }
+
+    public Column getColumn() {
+        return column;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Get ORDER BY clause for the players table queries.
+     * <p>
+     * User id is used as a tiebreaker so that pages do not overlap when the sorted values are equal.
+     *
+     * @return SQL, starting with ORDER BY.
+     */
+    public String toOrderBySql() {
+        String direction = descending ? " DESC" : " ASC";
+        return ORDER_BY + column.sql + direction + ",u." + UsersTable.ID + direction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TablePlayerSort that = (TablePlayerSort) o;
+        return descending == that.descending && column == that.column;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(column, descending);
+    }
+
+    @Override
+    public String toString() {
+        return "TablePlayerSort{" +
+                "column=" + column +
+                ", descending=" + descending +
+                '}';
+    }
+
+    public enum Column {
+        PLAYER_NAME("playerName", "u." + UsersTable.USER_NAME),
+        ACTIVITY_INDEX("activityIndex", "act.activity_index"),
+        PLAYTIME_ACTIVE("playtimeActive", "ses.active_playtime"),
+        SESSION_COUNT("sessionCount", "ses.count"),
+        LAST_SEEN("lastSeen", "ses.last_seen"),
+        REGISTERED("registered", "u." + UsersTable.REGISTERED),
+        COUNTRY("country", "geo." + GeoInfoTable.GEOLOCATION),
+        PING_AVERAGE("pingAverage", "pi." + PingTable.AVG_PING),
+        PING_MAX("pingMax", "pi." + PingTable.MAX_PING),
+        PING_MIN("pingMin", "pi." + PingTable.MIN_PING);
+
+        private final String fieldName;
+        private final String sql;
+
+        Column(String fieldName, String sql) {
+            this.fieldName = fieldName;
+            this.sql = sql;
+        }
+
+        /**
+         * Find a column by the json field name or enum name.
+         *
+         * @param name Name of the column, case-insensitive.
+         * @return The column if it exists.
+         */
+        public static Optional<Column> fromName(String name) {
+            if (name == null) return Optional.empty();
+            for (Column column : values()) {
+                if (column.fieldName.equalsIgnoreCase(name) || column.name().equals(name.toUpperCase(Locale.ROOT))) {
+                    return Optional.of(column);
+                }
+            }
+            return Optional.empty();
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Which rows of a players table to fetch: ordering, name filter, limit and offset.
+ * <p>
+ * Ordering and limiting happens in SQL so that only one page of players is read from the database.
+ *
+ * @author AuroraLS3
+ */
+public class TablePlayersPage {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private final int limit;
+    private final int offset;
+    private final TablePlayerSort sort;
+    @Untrusted
+    private final String nameFilter;
+
+    /**
+     * Create a new page.
+     *
+     * @param limit      How many players to fetch.
+     * @param offset     How many players to skip.
+     * @param sort       Ordering of the players.
+     * @param nameFilter Text that the name of the player should contain, case-insensitive, null for all players.
+     */
+    public TablePlayersPage(int limit, int offset, TablePlayerSort sort, @Untrusted String nameFilter) {
+        this.limit = limit;
+        this.offset = offset;
+        this.sort = sort;
+        this.nameFilter = nameFilter == null || nameFilter.isBlank() ? null : nameFilter.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Page of the most recently seen players.
+     *
+     * @param xMostRecentPlayers How many players to fetch.
+     * @return TablePlayersPage.
+     */
+    public static TablePlayersPage mostRecentPlayers(int xMostRecentPlayers) {
+        return new TablePlayersPage(xMostRecentPlayers, 0, TablePlayerSort.lastSeenFirst(), null);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public TablePlayerSort getSort() {
+        return sort;
+    }
+
+    public Optional<String> getNameFilter() {
+        return Optional.ofNullable(nameFilter);
+    }
+
+    /**
+     * Get the condition for filtering by name.
+     *
+     * @param keyword {@link com.djrapitops.plan.storage.database.sql.building.Sql#WHERE} or {@link com.djrapitops.plan.storage.database.sql.building.Sql#AND} depending on the query.
+     * @return SQL starting with the keyword, or empty string if there is no filter. Parameters are set with {@link #setNameFilterParameter(PreparedStatement, int)}
+     */
+    public String toNameFilterSql(String keyword) {
+        if (nameFilter == null) return "";
+        return keyword + "LOWER(u." + UsersTable.USER_NAME + ") LIKE ? ESCAPE '" + LIKE_ESCAPE + "'";
+    }
+
+    /**
+     * Set the parameter of {@link #toNameFilterSql(String)}.
+     *
+     * @param statement Statement to set the parameter to.
+     * @param index     Index of the parameter.
+     * @return Index of the next parameter.
+     * @throws SQLException If setting the parameter fails.
+     */
+    public int setNameFilterParameter(PreparedStatement statement, int index) throws SQLException {
+        if (nameFilter == null) return index;
+        statement.setString(index, '%' + escapeLike(nameFilter) + '%');
+        return index + 1;
+    }
+
+    /**
+     * Get the parameters of {@link #toNameFilterSql(String)} for queries that take parameters as an array.
+     *
+     * @return Array with the parameter, or empty array if there is no filter.
+     */
+    public Object[] getNameFilterParameters() {
+        if (nameFilter == null) return new Object[0];
+        return new Object[]{'%' + escapeLike(nameFilter) + '%'};
+    }
+
+    private static String escapeLike(@Untrusted String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 4);
+        for (char c : text.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Get the ordering and limit of the page.
+     *
+     * @return SQL starting with ORDER BY. Parameters are set with {@link #setLimitParameters(PreparedStatement, int)}
+     */
+    public String toOrderAndLimitSql() {
+        return sort.toOrderBySql() + " LIMIT ? OFFSET ?";
+    }
+
+    /**
+     * Set the parameters of {@link #toOrderAndLimitSql()}.
+     *
+     * @param statement Statement to set the parameters to.
+     * @param index     Index of the first parameter.
+     * @throws SQLException If setting the parameters fails.
+     */
+    public void setLimitParameters(PreparedStatement statement, int index) throws SQLException {
+        statement.setInt(index, limit);
+        statement.setInt(index + 1, offset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TablePlayersPage that = (TablePlayersPage) o;
+        return limit == that.limit && offset == that.offset && Objects.equals(sort, that.sort) && Objects.equals(nameFilter, that.nameFilter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, offset, sort, nameFilter);
+    }
+
+    @Override
+    public String toString() {
+        return "TablePlayersPage{" +
+                "limit=" + limit +
+                ", offset=" + offset +
+                ", sort=" + sort +
+                ", nameFilter='" + nameFilter + '\'' +
+                '}';
+    }
+}
@@ -61,4 +61,27 @@ public class SQLiteSchemaQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    public static Query<Boolean> doesIndexExist(String indexName) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + "sqlite_master" + WHERE + "type='index'" + AND + "name=?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, indexName);
+            }
+        };
+    }
+
+    public static Query<Boolean> doesConstraintExist(String tableName, String constraintName) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + "sqlite_master" + WHERE + "type='table'" + AND + "tbl_name=?" + AND + "sql LIKE ?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, tableName);
+                statement.setString(2, "%CONSTRAINT " + constraintName + " %");
+            }
+        };
+    }
+}
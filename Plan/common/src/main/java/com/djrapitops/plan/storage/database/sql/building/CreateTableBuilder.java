@@ -116,6 +116,20 @@ public class CreateTableBuilder {
         return this;
     }
 
+    public CreateTableBuilder uniqueConstraint(String constraintName, String... columns) {
+        finalizeColumn();
+        if (constraintCount > 0) {
+            keyConstraints.append(',');
+        }
+        keyConstraints.append("CONSTRAINT ")
+                .append(constraintName)
+                .append(" UNIQUE (")
+                .append(String.join(",", columns))
+                .append(')');
+        constraintCount++;
+        return this;
+    }
+
     private void primaryKey(String column) {
         finalizeColumn();
         if (constraintCount > 0) {
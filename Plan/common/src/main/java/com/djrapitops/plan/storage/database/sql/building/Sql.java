@@ -108,6 +108,11 @@ public abstract class Sql {
 
     public abstract String dateToHour(String sql);
 
+    /**
+     * @return Start of an insert statement that skips rows that would violate a unique constraint.
+     */
+    public abstract String insertIgnoreInto();
+
     // https://dev.mysql.com/doc/refman/5.7/en/date-and-time-functions.html
     public static class MySQL extends Sql {
 
@@ -140,6 +145,11 @@ public abstract class Sql {
         public String dateToHour(String sql) {
             return "HOUR(" + sql + ") % 24";
         }
+
+        @Override
+        public String insertIgnoreInto() {
+            return "INSERT IGNORE INTO ";
+        }
     }
 
     // https://sqlite.org/lang_datefunc.html
@@ -174,5 +184,10 @@ public abstract class Sql {
         public String dateToHour(String sql) {
             return "strftime('%H'," + sql + ')';
         }
+
+        @Override
+        public String insertIgnoreInto() {
+            return "INSERT OR IGNORE INTO ";
+        }
     }
 }
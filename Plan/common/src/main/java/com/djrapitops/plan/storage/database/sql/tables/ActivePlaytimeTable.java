@@ -0,0 +1,133 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.ActivePlaytimeTablePatch;
+import com.djrapitops.plan.storage.database.transactions.patches.ActivePlaytimeUniqueIndexPatch;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
+
+/**
+ * Table information about 'plan_active_playtime'.
+ * <p>
+ * Contains active playtime of each player on each server per day, calculated from sessions as they are stored.
+ * Used for calculating activity index without going through all sessions.
+ * <p>
+ * Patches related to this table:
+ * {@link ActivePlaytimeTablePatch}
+ * {@link ActivePlaytimeUniqueIndexPatch}
+ *
+ * @author AuroraLS3
+ */
+public class ActivePlaytimeTable {
+
+    public static final String TABLE_NAME = "plan_active_playtime";
+
+    public static final String ID = "id";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
+    public static final String DATE = "date"; // Start of the day, epoch ms
+    public static final String ACTIVE_PLAYTIME = "active_playtime";
+
+    public static final String UNIQUE_INDEX = "plan_active_playtime_unique_index";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            DATE + ',' +
+            ACTIVE_PLAYTIME +
+            ") VALUES (" + UsersTable.SELECT_USER_ID + ',' + ServerTable.SELECT_SERVER_ID + ", ?, ?)";
+
+    public static final String INSERT_WITH_IDS_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            DATE + ',' +
+            ACTIVE_PLAYTIME +
+            ") VALUES (?, ?, ?, ?)";
+
+    public static final String UPDATE_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            ACTIVE_PLAYTIME + '=' + ACTIVE_PLAYTIME + "+?" +
+            WHERE + USER_ID + '=' + UsersTable.SELECT_USER_ID +
+            AND + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+            AND + DATE + "=?";
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+
+    private ActivePlaytimeTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(ACTIVE_PLAYTIME, Sql.LONG).notNull()
+                .foreignKey(USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .uniqueConstraint(UNIQUE_INDEX, USER_ID, SERVER_ID, DATE)
+                .toString();
+    }
+
+    /**
+     * Get the value of {@link #DATE} for the day the given time is on.
+     *
+     * @param time Epoch ms
+     * @return Epoch ms of the start of the day (UTC).
+     */
+    public static long getDay(long time) {
+        return Math.floorDiv(time, DAY_MS) * DAY_MS;
+    }
+
+    /**
+     * Divide active playtime of a session to the days the session was on.
+     * <p>
+     * Active playtime is divided in proportion to how much of the session was on each day.
+     *
+     * @param perDay  Map to add the playtime to, day ({@link #getDay(long)}) - active playtime
+     * @param start   Start of the session, epoch ms
+     * @param end     End of the session, epoch ms
+     * @param afkTime Time the player was AFK during the session, ms
+     */
+    public static void addActivePlaytimePerDay(Map<Long, Long> perDay, long start, long end, long afkTime) {
+        long length = end - start;
+        long activePlaytime = length - afkTime;
+        if (length <= 0 || activePlaytime <= 0) return;
+
+        long remaining = activePlaytime;
+        for (long day = getDay(start); day < end; day += DAY_MS) {
+            long nextDay = day + DAY_MS;
+            long playtimeOnDay;
+            if (nextDay >= end) {
+                playtimeOnDay = remaining; // Rounding leftovers go to the last day
+            } else {
+                long timeOnDay = Math.min(end, nextDay) - Math.max(start, day);
+                playtimeOnDay = (long) (activePlaytime * ((double) timeOnDay / length));
+            }
+            remaining -= playtimeOnDay;
+            if (playtimeOnDay > 0) perDay.merge(day, playtimeOnDay, Long::sum);
+        }
+    }
+}
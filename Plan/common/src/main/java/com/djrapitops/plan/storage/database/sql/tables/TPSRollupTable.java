@@ -0,0 +1,226 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table information about 'plan_tps_hourly' and 'plan_tps_daily'.
+ * <p>
+ * Both tables hold the same columns, aggregated from {@link TPSTable} rows
+ * that fall within an hour or a day (UTC) starting from the row date.
+ * Sums and counts of non-negative values are stored so that averages can be
+ * combined across several rows.
+ *
+ * @author AuroraLS3
+ */
+public class TPSRollupTable {
+
+    public static final String HOURLY_TABLE_NAME = "plan_tps_hourly";
+    public static final String DAILY_TABLE_NAME = "plan_tps_daily";
+
+    public static final long HOUR = TimeUnit.HOURS.toMillis(1L);
+    public static final long DAY = TimeUnit.DAYS.toMillis(1L);
+
+    public static final String ID = "id";
+    public static final String SERVER_ID = "server_id";
+    public static final String DATE = "date";
+    public static final String MIN_TPS = "min_tps";
+    public static final String MAX_PLAYERS_ONLINE = "max_players_online";
+    public static final String MAX_CPU_USAGE = "max_cpu_usage";
+    public static final String MAX_RAM_USAGE = "max_ram_usage";
+    public static final String MAX_ENTITIES = "max_entities";
+    public static final String MAX_CHUNKS = "max_chunks_loaded";
+    public static final String MAX_FREE_DISK = "max_free_disk_space";
+    public static final String TPS_SUM = "tps_sum";
+    public static final String TPS_COUNT = "tps_count";
+    public static final String CPU_SUM = "cpu_usage_sum";
+    public static final String CPU_COUNT = "cpu_usage_count";
+    public static final String RAM_SUM = "ram_usage_sum";
+    public static final String RAM_COUNT = "ram_usage_count";
+
+    private TPSRollupTable() {
+        /* Static information class */
+    }
+
+    /**
+     * Get the length of the period a table aggregates.
+     *
+     * @param tableName {@link #HOURLY_TABLE_NAME} or {@link #DAILY_TABLE_NAME}
+     * @return Length of the period in ms.
+     */
+    public static long getPeriod(String tableName) {
+        return DAILY_TABLE_NAME.equals(tableName) ? DAY : HOUR;
+    }
+
+    /**
+     * Get the start of the period a date falls in.
+     *
+     * @param date   Epoch ms
+     * @param period Length of the period in ms
+     * @return Epoch ms of the start of the period.
+     */
+    public static long getPeriodStart(long date, long period) {
+        return Math.floorDiv(date, period) * period;
+    }
+
+    /**
+     * Select the rollup table that can answer a query in the given resolution.
+     *
+     * @param resolution Resolution of the data in ms.
+     * @return Name of the coarsest table whose period divides the resolution, or {@link TPSTable#TABLE_NAME} if neither does.
+     */
+    public static String selectTableForResolution(long resolution) {
+        if (resolution >= DAY && resolution % DAY == 0) return DAILY_TABLE_NAME;
+        if (resolution >= HOUR && resolution % HOUR == 0) return HOURLY_TABLE_NAME;
+        return TPSTable.TABLE_NAME;
+    }
+
+    /**
+     * Select the rollup table that should be used for aggregating values over a range.
+     *
+     * @param after  Epoch ms, start of the range
+     * @param before Epoch ms, end of the range
+     * @return Name of the rollup table, or {@link TPSTable#TABLE_NAME} if the range is too short to benefit from one.
+     */
+    public static String selectTableForRange(long after, long before) {
+        long range = before - after;
+        if (range >= 30 * DAY) return DAILY_TABLE_NAME;
+        if (range >= DAY) return HOURLY_TABLE_NAME;
+        return TPSTable.TABLE_NAME;
+    }
+
+    public static String insertStatement(String tableName) {
+        return "INSERT INTO " + tableName + " ("
+                + SERVER_ID + ','
+                + DATE + ','
+                + MIN_TPS + ','
+                + MAX_PLAYERS_ONLINE + ','
+                + MAX_CPU_USAGE + ','
+                + MAX_RAM_USAGE + ','
+                + MAX_ENTITIES + ','
+                + MAX_CHUNKS + ','
+                + MAX_FREE_DISK + ','
+                + TPS_SUM + ','
+                + TPS_COUNT + ','
+                + CPU_SUM + ','
+                + CPU_COUNT + ','
+                + RAM_SUM + ','
+                + RAM_COUNT
+                + ") VALUES ("
+                + ServerTable.SELECT_SERVER_ID + ','
+                + "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    public static String updateStatement(String tableName) {
+        return "UPDATE " + tableName + " SET "
+                + MIN_TPS + "=CASE WHEN " + MIN_TPS + ">? THEN ? ELSE " + MIN_TPS + " END,"
+                + MAX_PLAYERS_ONLINE + "=CASE WHEN " + MAX_PLAYERS_ONLINE + "<? THEN ? ELSE " + MAX_PLAYERS_ONLINE + " END,"
+                + MAX_CPU_USAGE + "=CASE WHEN " + MAX_CPU_USAGE + "<? THEN ? ELSE " + MAX_CPU_USAGE + " END,"
+                + MAX_RAM_USAGE + "=CASE WHEN " + MAX_RAM_USAGE + "<? THEN ? ELSE " + MAX_RAM_USAGE + " END,"
+                + MAX_ENTITIES + "=CASE WHEN " + MAX_ENTITIES + "<? THEN ? ELSE " + MAX_ENTITIES + " END,"
+                + MAX_CHUNKS + "=CASE WHEN " + MAX_CHUNKS + "<? THEN ? ELSE " + MAX_CHUNKS + " END,"
+                + MAX_FREE_DISK + "=CASE WHEN " + MAX_FREE_DISK + "<? THEN ? ELSE " + MAX_FREE_DISK + " END,"
+                + TPS_SUM + '=' + TPS_SUM + "+?,"
+                + TPS_COUNT + '=' + TPS_COUNT + "+?,"
+                + CPU_SUM + '=' + CPU_SUM + "+?,"
+                + CPU_COUNT + '=' + CPU_COUNT + "+?,"
+                + RAM_SUM + '=' + RAM_SUM + "+?,"
+                + RAM_COUNT + '=' + RAM_COUNT + "+?"
+                + " WHERE " + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID
+                + " AND " + DATE + "=?";
+    }
+
+    /**
+     * Create SQL that aggregates all rows of {@link TPSTable} into a rollup table.
+     *
+     * @param tableName {@link #HOURLY_TABLE_NAME} or {@link #DAILY_TABLE_NAME}
+     * @return INSERT INTO ... SELECT statement without parameters.
+     */
+    public static String insertFromTPSTableStatement(String tableName) {
+        long period = getPeriod(tableName);
+        String periodStart = Sql.floor(TPSTable.DATE + '/' + period) + '*' + period;
+        return "INSERT INTO " + tableName + " ("
+                + SERVER_ID + ','
+                + DATE + ','
+                + MIN_TPS + ','
+                + MAX_PLAYERS_ONLINE + ','
+                + MAX_CPU_USAGE + ','
+                + MAX_RAM_USAGE + ','
+                + MAX_ENTITIES + ','
+                + MAX_CHUNKS + ','
+                + MAX_FREE_DISK + ','
+                + TPS_SUM + ','
+                + TPS_COUNT + ','
+                + CPU_SUM + ','
+                + CPU_COUNT + ','
+                + RAM_SUM + ','
+                + RAM_COUNT
+                + ") SELECT "
+                + TPSTable.SERVER_ID + ','
+                + periodStart + ','
+                + Sql.min(TPSTable.TPS) + ','
+                + Sql.max(TPSTable.PLAYERS_ONLINE) + ','
+                + Sql.max(TPSTable.CPU_USAGE) + ','
+                + Sql.max(TPSTable.RAM_USAGE) + ','
+                + Sql.max(TPSTable.ENTITIES) + ','
+                + Sql.max(TPSTable.CHUNKS) + ','
+                + Sql.max(TPSTable.FREE_DISK) + ','
+                + sumOfNonNegative(TPSTable.TPS) + ','
+                + countOfNonNegative(TPSTable.TPS) + ','
+                + sumOfNonNegative(TPSTable.CPU_USAGE) + ','
+                + countOfNonNegative(TPSTable.CPU_USAGE) + ','
+                + sumOfNonNegative(TPSTable.RAM_USAGE) + ','
+                + countOfNonNegative(TPSTable.RAM_USAGE)
+                + " FROM " + TPSTable.TABLE_NAME
+                + " GROUP BY " + TPSTable.SERVER_ID + ',' + periodStart;
+    }
+
+    private static String sumOfNonNegative(String column) {
+        return "SUM(CASE WHEN " + column + ">=0 THEN " + column + " ELSE 0 END)";
+    }
+
+    private static String countOfNonNegative(String column) {
+        return "SUM(CASE WHEN " + column + ">=0 THEN 1 ELSE 0 END)";
+    }
+
+    public static String createTableSQL(String tableName, DBType dbType) {
+        return CreateTableBuilder.create(tableName, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(MIN_TPS, Sql.DOUBLE).notNull()
+                .column(MAX_PLAYERS_ONLINE, Sql.INT).notNull()
+                .column(MAX_CPU_USAGE, Sql.DOUBLE).notNull()
+                .column(MAX_RAM_USAGE, Sql.LONG).notNull()
+                .column(MAX_ENTITIES, Sql.INT).notNull()
+                .column(MAX_CHUNKS, Sql.INT).notNull()
+                .column(MAX_FREE_DISK, Sql.LONG).notNull()
+                .column(TPS_SUM, Sql.DOUBLE).notNull()
+                .column(TPS_COUNT, Sql.INT).notNull()
+                .column(CPU_SUM, Sql.DOUBLE).notNull()
+                .column(CPU_COUNT, Sql.INT).notNull()
+                .column(RAM_SUM, Sql.DOUBLE).notNull()
+                .column(RAM_COUNT, Sql.INT).notNull()
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+}
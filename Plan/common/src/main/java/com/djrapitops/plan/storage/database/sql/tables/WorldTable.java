@@ -22,6 +22,7 @@ import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
 import com.djrapitops.plan.storage.database.transactions.patches.WorldsOptimizationPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.WorldsServerIDPatch;
+import com.djrapitops.plan.storage.database.transactions.patches.WorldsUniqueIndexPatch;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -32,6 +33,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  * {@link Version10Patch}
  * {@link WorldsServerIDPatch}
  * {@link WorldsOptimizationPatch}
+ * {@link WorldsUniqueIndexPatch}
  *
  * @author AuroraLS3
  */
@@ -43,11 +45,26 @@ public class WorldTable {
     public static final String SERVER_UUID = "server_uuid";
     public static final String NAME = "world_name";
 
+    public static final String UNIQUE_INDEX = "plan_worlds_unique_index";
+
     public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
             + NAME + ','
             + SERVER_UUID
             + ") VALUES (?, ?)";
 
+    /**
+     * Create an insert statement that does nothing if the world is already stored.
+     *
+     * @param sql Sql dialect of the database.
+     * @return Statement with the same parameters as {@link #INSERT_STATEMENT}.
+     */
+    public static String insertIfAbsentStatement(Sql sql) {
+        return sql.insertIgnoreInto() + TABLE_NAME + " ("
+                + NAME + ','
+                + SERVER_UUID
+                + ") VALUES (?, ?)";
+    }
+
     public static final String SELECT_WORLD_ID_STATEMENT = '(' +
             SELECT + TABLE_NAME + '.' + ID + FROM + TABLE_NAME +
             WHERE + NAME + "=?" +
@@ -63,6 +80,7 @@ public class WorldTable {
                 .column(ID, Sql.INT).primaryKey()
                 .column(NAME, Sql.varchar(100)).notNull()
                 .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .uniqueConstraint(UNIQUE_INDEX, NAME, SERVER_UUID)
                 .toString();
     }
 }
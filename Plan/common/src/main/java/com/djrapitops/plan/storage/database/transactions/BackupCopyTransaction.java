@@ -21,23 +21,52 @@ import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 
+import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Sessions, TPS and ping data are copied in chunks of rows to keep memory use bounded on large databases.
  *
  * @author AuroraLS3
  */
 public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
+    public static final int DEFAULT_CHUNK_SIZE = 10000;
+
     private final Database sourceDB;
     private final Database destinationDB;
+    private final int chunkSize;
+    private final BiConsumer<Long, Long> progressListener;
+
+    private long rowsToCopyInChunks;
+    private long copiedInChunks;
+    private long reportedStep;
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, DEFAULT_CHUNK_SIZE, (copied, total) -> {});
+    }
+
+    /**
+     * Create the transaction.
+     *
+     * @param sourceDB         Database to copy from.
+     * @param destinationDB    Database to copy to.
+     * @param chunkSize        Number of rows of large tables to keep in memory at a time.
+     * @param progressListener Called with (copied rows, total rows) of large tables every 5% of progress.
+     */
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, int chunkSize, BiConsumer<Long, Long> progressListener) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.chunkSize = chunkSize;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -50,6 +79,12 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         // Clear the database.
         super.performOperations();
 
+        rowsToCopyInChunks = sourceDB.query(LargeFetchQueries.fetchRowCount(SessionsTable.TABLE_NAME))
+                + sourceDB.query(LargeFetchQueries.fetchRowCount(TPSTable.TABLE_NAME))
+                + sourceDB.query(LargeFetchQueries.fetchRowCount(PingTable.TABLE_NAME));
+        copiedInChunks = 0;
+        reportedStep = 0;
+
         copyPlanServerInformation();
         copyCommonUserInformation();
         copyWorldNames();
@@ -74,8 +109,30 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         execute(executableCreator.apply(sourceDB.query(dataQuery)));
     }
 
+    private <T> void copyInChunks(String tableName, Function<T, Executable> executableCreator, IdRangeQuery<T> dataQuery) {
+        int afterId = 0;
+        Optional<Integer> chunkEnd = sourceDB.query(LargeFetchQueries.fetchChunkEndId(tableName, afterId, chunkSize));
+        while (chunkEnd.isPresent()) {
+            int toId = chunkEnd.get();
+            copy(executableCreator, dataQuery.create(afterId, toId));
+            afterId = toId;
+            reportProgress();
+            chunkEnd = sourceDB.query(LargeFetchQueries.fetchChunkEndId(tableName, afterId, chunkSize));
+        }
+    }
+
+    private void reportProgress() {
+        // Every chunk has chunkSize rows, except the last one of a table.
+        copiedInChunks = Math.min(copiedInChunks + chunkSize, rowsToCopyInChunks);
+        long step = rowsToCopyInChunks > 0 ? copiedInChunks * 20 / rowsToCopyInChunks : 20;
+        if (step > reportedStep) {
+            reportedStep = step;
+            progressListener.accept(copiedInChunks, rowsToCopyInChunks);
+        }
+    }
+
     private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
+        copyInChunks(PingTable.TABLE_NAME, LargeStoreQueries::storeAllPingData, PingQueries::fetchPingDataInIdRange);
     }
 
     private void copyGeoInformation() {
@@ -97,7 +154,8 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
     }
 
     private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
+        copyInChunks(TPSTable.TABLE_NAME, LargeStoreQueries::storeAllTPSData, LargeFetchQueries::fetchTPSDataInIdRange);
+        execute(LargeStoreQueries.storeTPSRollupsFromTPSData());
     }
 
     private void copyPerServerUserInformation() {
@@ -113,6 +171,11 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
     }
 
     private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+        copyInChunks(SessionsTable.TABLE_NAME, LargeStoreQueries::storeAllSessionsWithKillAndWorldDataWithoutActivePlaytime, SessionQueries::fetchSessionsInIdRange);
+        execute(LargeStoreQueries.storeActivePlaytimeFromAllSessions());
+    }
+
+    private interface IdRangeQuery<T> {
+        Query<T> create(int afterId, int toId);
     }
-}
\ No newline at end of file
+}
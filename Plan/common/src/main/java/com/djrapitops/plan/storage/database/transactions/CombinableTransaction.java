@@ -0,0 +1,29 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+/**
+ * Marker for {@link Transaction}s that can be committed together with other combinable transactions.
+ * <p>
+ * Combinable transactions should be small, must not commit mid-transaction and must be safe to execute again
+ * on their own if the combined commit fails.
+ *
+ * @author AuroraLS3
+ * @see GroupCommitTransaction
+ */
+public interface CombinableTransaction {
+}
@@ -0,0 +1,77 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import com.djrapitops.plan.storage.database.SQLDB;
+
+import java.util.List;
+
+/**
+ * Transaction that executes multiple {@link CombinableTransaction}s in a single database transaction with one commit.
+ * <p>
+ * If one of the transactions fails the operations of the whole group are rolled back, so that the transactions
+ * can be executed again one by one. Transactions of the group are marked successful only after the commit.
+ *
+ * @author AuroraLS3
+ */
+public class GroupCommitTransaction extends Transaction {
+
+    private final List<Transaction> transactions;
+    private boolean rolledBack;
+
+    public GroupCommitTransaction(List<Transaction> transactions) {
+        this.transactions = transactions;
+        this.rolledBack = false;
+    }
+
+    @Override
+    public void executeTransaction(SQLDB db) {
+        super.executeTransaction(db);
+        if (wasSuccessful()) {
+            // Operations of all transactions were committed together.
+            for (Transaction transaction : transactions) {
+                transaction.success = true;
+            }
+        }
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Transaction transaction : transactions) {
+            try {
+                executeOther(transaction);
+            } catch (RuntimeException failed) {
+                // Without a save point the whole connection is rolled back, it only contains operations of this group.
+                rolledBack = rollback() || rollbackConnection();
+                throw failed;
+            }
+        }
+    }
+
+    /**
+     * Check if the group failed and was rolled back, so that none of the transactions were stored.
+     *
+     * @return true if transactions of this group can be executed again.
+     */
+    public boolean wasRolledBack() {
+        return rolledBack;
+    }
+
+    public int size() {
+        return transactions.size();
+    }
+}
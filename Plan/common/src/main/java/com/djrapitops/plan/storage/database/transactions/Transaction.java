@@ -148,6 +148,36 @@ public abstract class Transaction {
         return rollbackStatusMsg;
     }
 
+    /**
+     * Rolls back the operations performed so far in this transaction.
+     *
+     * @return true if the rollback succeeded, false if it failed or is not supported.
+     */
+    protected boolean rollback() {
+        if (!SUPPORTS_SAVE_POINTS.get() || connection == null || savepoint == null) return false;
+        try {
+            connection.rollback(savepoint);
+            return true;
+        } catch (SQLException rollbackFail) {
+            return false;
+        }
+    }
+
+    /**
+     * Rolls back all uncommitted operations of the connection, for when rolling back to the save point is not possible.
+     *
+     * @return true if the rollback succeeded.
+     */
+    protected boolean rollbackConnection() {
+        if (connection == null) return false;
+        try {
+            connection.rollback();
+            return true;
+        } catch (SQLException rollbackFail) {
+            return false;
+        }
+    }
+
     protected void commitMidTransaction() {
         try {
             connection.commit();
@@ -260,6 +290,19 @@ public abstract class Transaction {
         transaction.db = null;
     }
 
+    /**
+     * Key used for choosing which transaction thread executes this transaction.
+     * <p>
+     * Transactions with the same key are executed in the order they were submitted in.
+     * Transactions without a key are executed in order with the transactions of every thread,
+     * so transactions that affect multiple players or servers should not have a key.
+     *
+     * @return Key (like player or server UUID), or null if the transaction can not be executed in parallel.
+     */
+    public Object getPartitionKey() {
+        return null;
+    }
+
     protected Database.State getDBState() {
         return db.getState();
     }
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.commands;
 
+import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
@@ -52,6 +53,9 @@ public class CombineUserTransaction extends ChangeUserUUIDTransaction {
         execute(updateUserId(PingTable.TABLE_NAME, PingTable.USER_ID, oldId, newId));
         execute(updateUserId(SessionsTable.TABLE_NAME, SessionsTable.USER_ID, oldId, newId));
         execute(updateUserId(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID, oldId, newId));
+        // Both users might have playtime on the same day, so it is calculated again from the combined sessions.
+        execute(DELETE_FROM + ActivePlaytimeTable.TABLE_NAME + WHERE + ActivePlaytimeTable.USER_ID + " IN (" + oldId + ',' + newId + ')');
+        execute(LargeStoreQueries.storeActivePlaytimeFromSessions(newId, newId));
 
         execute(updateUserInfo(newId, oldId));
         execute(DELETE_FROM + UserInfoTable.TABLE_NAME + WHERE + UserInfoTable.USER_ID + "=" + oldId);
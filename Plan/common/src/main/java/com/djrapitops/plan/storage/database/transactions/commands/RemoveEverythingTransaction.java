@@ -42,12 +42,15 @@ public class RemoveEverythingTransaction extends Patch {
         clearTable(KillsTable.TABLE_NAME);
         clearTable(WorldTimesTable.TABLE_NAME);
         clearTable(SessionsTable.TABLE_NAME);
+        clearTable(ActivePlaytimeTable.TABLE_NAME);
         clearTable(JoinAddressTable.TABLE_NAME);
         clearTable(WorldTable.TABLE_NAME);
         clearTable(PingTable.TABLE_NAME);
         clearTable(UserInfoTable.TABLE_NAME);
         clearTable(UsersTable.TABLE_NAME);
         clearTable(TPSTable.TABLE_NAME);
+        clearTable(TPSRollupTable.HOURLY_TABLE_NAME);
+        clearTable(TPSRollupTable.DAILY_TABLE_NAME);
         clearTable(WebGroupToPermissionTable.TABLE_NAME);
         clearTable(WebPermissionTable.TABLE_NAME);
         clearTable(WebGroupTable.TABLE_NAME);
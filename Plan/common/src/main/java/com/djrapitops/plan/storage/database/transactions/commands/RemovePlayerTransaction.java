@@ -48,6 +48,11 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         return playerUUID != null;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         query(PlayerFetchQueries.playerUserName(playerUUID)).ifPresent(this::deleteWebUser);
@@ -57,6 +62,7 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         deleteFromKillsTable();
         deleteFromUserIdTable(WorldTimesTable.TABLE_NAME);
         deleteFromUserIdTable(SessionsTable.TABLE_NAME);
+        deleteFromUserIdTable(ActivePlaytimeTable.TABLE_NAME);
         deleteFromUserIdTable(PingTable.TABLE_NAME);
         deleteFromUserIdTable(UserInfoTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
@@ -21,6 +21,7 @@ import com.djrapitops.plan.storage.database.sql.building.Update;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -35,7 +36,7 @@ import java.util.function.BooleanSupplier;
  *
  * @author AuroraLS3
  */
-public class BanStatusTransaction extends Transaction {
+public class BanStatusTransaction extends Transaction implements CombinableTransaction {
 
     private final UUID playerUUID;
     private final ServerUUID serverUUID;
@@ -51,6 +52,11 @@ public class BanStatusTransaction extends Transaction {
         this.banStatus = banStatus;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateBanStatus());
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
@@ -31,7 +32,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
  *
  * @author AuroraLS3
  */
-public class KickStoreTransaction extends ThrowawayTransaction {
+public class KickStoreTransaction extends ThrowawayTransaction implements CombinableTransaction {
 
     private final UUID playerUUID;
 
@@ -39,6 +40,11 @@ public class KickStoreTransaction extends ThrowawayTransaction {
         this.playerUUID = playerUUID;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET "
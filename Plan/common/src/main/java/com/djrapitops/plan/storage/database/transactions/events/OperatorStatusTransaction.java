@@ -21,6 +21,7 @@ import com.djrapitops.plan.storage.database.sql.building.Update;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
@@ -34,7 +35,7 @@ import java.util.UUID;
  *
  * @author AuroraLS3
  */
-public class OperatorStatusTransaction extends ThrowawayTransaction {
+public class OperatorStatusTransaction extends ThrowawayTransaction implements CombinableTransaction {
 
     private final UUID playerUUID;
     private final ServerUUID serverUUID;
@@ -46,6 +47,11 @@ public class OperatorStatusTransaction extends ThrowawayTransaction {
         this.operatorStatus = operatorStatus;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateOperatorStatus());
@@ -40,11 +40,31 @@ public class PingStoreTransaction extends Transaction {
     private final UUID playerUUID;
     private final ServerUUID serverUUID;
     private final List<DateObj<Integer>> pingList;
+    private final Ping aggregatedPing;
 
     public PingStoreTransaction(UUID playerUUID, ServerUUID serverUUID, List<DateObj<Integer>> pingList) {
         this.playerUUID = playerUUID;
         this.serverUUID = serverUUID;
         this.pingList = pingList;
+        this.aggregatedPing = null;
+    }
+
+    /**
+     * Store ping that has already been aggregated, eg. with {@link com.djrapitops.plan.gathering.timed.PingHistory}.
+     *
+     * @param playerUUID UUID of the player.
+     * @param ping       Aggregated ping of the player on the server of the ping.
+     */
+    public PingStoreTransaction(UUID playerUUID, Ping ping) {
+        this.playerUUID = playerUUID;
+        this.serverUUID = ping.getServerUUID();
+        this.pingList = null;
+        this.aggregatedPing = ping;
+    }
+
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
     }
 
     @Override
@@ -90,6 +110,8 @@ public class PingStoreTransaction extends Transaction {
     }
 
     private Ping calculateAggregatePing() {
+        if (aggregatedPing != null) return aggregatedPing;
+
         long lastDate = pingList.get(pingList.size() - 1).getDate();
 
         int minValue = getMinValue();
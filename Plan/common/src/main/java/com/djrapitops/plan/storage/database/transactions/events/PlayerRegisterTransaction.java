@@ -20,6 +20,7 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.util.Optional;
@@ -31,7 +32,7 @@ import java.util.function.LongSupplier;
  *
  * @author AuroraLS3
  */
-public class PlayerRegisterTransaction extends Transaction {
+public class PlayerRegisterTransaction extends Transaction implements CombinableTransaction {
 
     protected final UUID playerUUID;
     protected final LongSupplier registered;
@@ -50,6 +51,11 @@ public class PlayerRegisterTransaction extends Transaction {
         return playerUUID != null && playerName != null;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(playerUUID)))) {
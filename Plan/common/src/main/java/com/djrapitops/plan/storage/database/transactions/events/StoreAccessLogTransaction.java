@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.delivery.webserver.http.AccessLogEntry;
+import com.djrapitops.plan.storage.database.sql.tables.AccessLogTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Transaction for storing a batch of access log entries.
+ *
+ * @author AuroraLS3
+ * @see com.djrapitops.plan.delivery.webserver.http.AccessLogger
+ */
+public class StoreAccessLogTransaction extends Transaction {
+
+    private final List<AccessLogEntry> entries;
+
+    public StoreAccessLogTransaction(List<AccessLogEntry> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public Object getPartitionKey() {
+        return AccessLogTable.TABLE_NAME;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !entries.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        execute(new ExecBatchStatement(AccessLogTable.INSERT_NO_USER) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (AccessLogEntry entry : entries) {
+                    statement.setLong(1, entry.getTime());
+                    statement.setString(2, entry.getFromIp());
+                    statement.setString(3, entry.getRequestMethod());
+                    statement.setString(4, entry.getRequestURI());
+                    statement.setInt(5, entry.getResponseCode());
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+}
@@ -20,6 +20,7 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.net.InetAddress;
@@ -31,7 +32,7 @@ import java.util.function.UnaryOperator;
  *
  * @author AuroraLS3
  */
-public class StoreGeoInfoTransaction extends Transaction {
+public class StoreGeoInfoTransaction extends Transaction implements CombinableTransaction {
 
     private final UUID playerUUID;
     private String ip;
@@ -70,6 +71,11 @@ public class StoreGeoInfoTransaction extends Transaction {
         return new GeoInfo(country, time);
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         if (geoInfo == null) geoInfo = createGeoInfo();
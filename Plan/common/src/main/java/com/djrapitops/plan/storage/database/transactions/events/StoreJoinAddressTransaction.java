@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.container.CachingSupplier;
 import com.djrapitops.plan.storage.database.queries.HasMoreThanZeroQueryStatement;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.sql.tables.JoinAddressTable;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.utilities.dev.Untrusted;
@@ -32,7 +33,7 @@ import java.util.function.Supplier;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
-public class StoreJoinAddressTransaction extends Transaction {
+public class StoreJoinAddressTransaction extends Transaction implements CombinableTransaction {
 
     @Untrusted
     private final Supplier<String> joinAddress;
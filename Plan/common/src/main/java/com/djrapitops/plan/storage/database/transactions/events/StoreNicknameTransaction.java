@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.util.UUID;
@@ -28,7 +29,7 @@ import java.util.function.BiPredicate;
  *
  * @author AuroraLS3
  */
-public class StoreNicknameTransaction extends ThrowawayTransaction {
+public class StoreNicknameTransaction extends ThrowawayTransaction implements CombinableTransaction {
 
     private final UUID playerUUID;
     private final Nickname nickname;
@@ -45,6 +46,11 @@ public class StoreNicknameTransaction extends ThrowawayTransaction {
         return !isNicknameCachedCheck.test(playerUUID, nickname.getName());
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storePlayerNickname(playerUUID, nickname));
@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
@@ -39,6 +40,11 @@ public class StoreSessionTransaction extends Transaction {
         this.session = session;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return session.getPlayerUUID();
+    }
+
     @Override
     protected void performOperations() {
         if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(session.getPlayerUUID())))) {
@@ -57,9 +63,21 @@ public class StoreSessionTransaction extends Transaction {
 
     private void storeSession() {
         storeJoinAddressIfPresent();
+        storeWorldNames();
         execute(DataStoreQueries.storeSession(session));
     }
 
+    private void storeWorldNames() {
+        // World names are stored on a different transaction thread, so they might not be stored yet.
+        session.getExtraData(WorldTimes.class)
+                .map(worldTimes -> worldTimes.getWorldTimes().keySet())
+                .ifPresent(worlds -> {
+                    for (String world : worlds) {
+                        executeOther(new StoreWorldNameTransaction(session.getServerUUID(), world));
+                    }
+                });
+    }
+
     private void storeJoinAddressIfPresent() {
         session.getExtraData(JoinAddress.class)
                 .map(JoinAddress::getAddress)
@@ -20,6 +20,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.HasMoreThanZeroQueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
+import com.djrapitops.plan.storage.database.transactions.CombinableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import org.apache.commons.lang3.StringUtils;
 
@@ -33,7 +34,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  *
  * @author AuroraLS3
  */
-public class StoreWorldNameTransaction extends Transaction {
+public class StoreWorldNameTransaction extends Transaction implements CombinableTransaction {
 
     private final ServerUUID serverUUID;
     private final String worldName;
@@ -43,6 +44,11 @@ public class StoreWorldNameTransaction extends Transaction {
         this.worldName = worldName;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return serverUUID;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return doesWorldNameNotExist();
@@ -64,6 +70,7 @@ public class StoreWorldNameTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
-        execute(DataStoreQueries.insertWorldName(serverUUID, worldName));
+        // Insert is skipped if the world was stored by a session on another thread after the check.
+        execute(DataStoreQueries.insertWorldName(dbType.getSql(), serverUUID, worldName));
     }
 }
\ No newline at end of file
@@ -54,6 +54,11 @@ public class TPSStoreTransaction extends Transaction {
         TPSStoreTransaction.lastStorageCheck = lastStorageCheck;
     }
 
+    @Override
+    public Object getPartitionKey() {
+        return serverUUID;
+    }
+
     @Override
     protected void performOperations() {
         long now = System.currentTimeMillis();
@@ -63,6 +68,7 @@ public class TPSStoreTransaction extends Transaction {
         }
 
         execute(DataStoreQueries.storeTPS(serverUUID, tps));
+        execute(DataStoreQueries.storeTPSRollups(serverUUID, tps));
     }
 
     private void performDuplicateServerUUIDServerCheck(long now) {
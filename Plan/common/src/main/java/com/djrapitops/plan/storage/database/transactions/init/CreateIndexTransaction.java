@@ -34,6 +34,15 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(UsersTable.TABLE_NAME, "plan_users_uuid_index",
                 UsersTable.USER_UUID
         );
+        // Players table sorting and filtering by name
+        createIndex(UsersTable.TABLE_NAME, "plan_users_name_index",
+                UsersTable.USER_NAME
+        );
+        // Players table of a server
+        createIndex(UserInfoTable.TABLE_NAME, "plan_user_info_server_index",
+                UserInfoTable.SERVER_ID,
+                UserInfoTable.USER_ID
+        );
 
         // replaced by foreign keys
         dropIndex(UserInfoTable.TABLE_NAME, "plan_user_info_uuid_index");
@@ -43,6 +52,12 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(SessionsTable.TABLE_NAME, "plan_sessions_date_index",
                 SessionsTable.SESSION_START
         );
+        // Last seen of players on players table of a server
+        createIndex(SessionsTable.TABLE_NAME, "plan_sessions_server_user_index",
+                SessionsTable.SERVER_ID,
+                SessionsTable.USER_ID,
+                SessionsTable.SESSION_END
+        );
         // Replaced by foreign keys
         dropIndex(WorldTimesTable.TABLE_NAME, "plan_world_times_uuid_index");
 
@@ -60,12 +75,28 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(PingTable.TABLE_NAME, "plan_ping_date_index",
                 PingTable.DATE
         );
+        createIndex(PingTable.TABLE_NAME, "plan_ping_server_user_index",
+                PingTable.SERVER_ID,
+                PingTable.USER_ID
+        );
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
+        createIndex(TPSRollupTable.HOURLY_TABLE_NAME, "plan_tps_hourly_server_date_index",
+                TPSRollupTable.SERVER_ID,
+                TPSRollupTable.DATE
+        );
+        createIndex(TPSRollupTable.DAILY_TABLE_NAME, "plan_tps_daily_server_date_index",
+                TPSRollupTable.SERVER_ID,
+                TPSRollupTable.DATE
+        );
 
         createIndex(SessionsTable.TABLE_NAME, "plan_session_join_address_index",
                 SessionsTable.JOIN_ADDRESS_ID);
+
+        createIndex(ActivePlaytimeTable.TABLE_NAME, "plan_active_playtime_date_index",
+                ActivePlaytimeTable.DATE
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
@@ -46,8 +46,11 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(KillsTable.createTableSQL(dbType));
         execute(PingTable.createTableSQL(dbType));
         execute(TPSTable.createTableSQL(dbType));
+        execute(TPSRollupTable.createTableSQL(TPSRollupTable.HOURLY_TABLE_NAME, dbType));
+        execute(TPSRollupTable.createTableSQL(TPSRollupTable.DAILY_TABLE_NAME, dbType));
         execute(WorldTable.createTableSQL(dbType));
         execute(WorldTimesTable.createTableSQL(dbType));
+        execute(ActivePlaytimeTable.createTableSQL(dbType));
         execute(SettingsTable.createTableSQL(dbType));
         execute(CookieTable.createTableSQL(dbType));
         execute(AccessLogTable.createTableSql(dbType));
@@ -21,6 +21,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSRollupTable;
 import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
@@ -58,6 +59,8 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
         Optional<Integer> allTimePeak = query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).map(DateObj::getValue);
 
         execute(cleanTPSTable(allTimePeak.orElse(-1)));
+        execute(cleanTPSRollupTable(TPSRollupTable.HOURLY_TABLE_NAME, allTimePeak.orElse(-1)));
+        execute(cleanTPSRollupTable(TPSRollupTable.DAILY_TABLE_NAME, allTimePeak.orElse(-1)));
         execute(cleanPingTable());
     }
 
@@ -77,6 +80,23 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
         };
     }
 
+    private Executable cleanTPSRollupTable(String tableName, int allTimePlayerPeak) {
+        String sql = DELETE_FROM + tableName +
+                WHERE + TPSRollupTable.DATE + "<?" +
+                AND + TPSRollupTable.MAX_PLAYERS_ONLINE + "!=?" +
+                AND + TPSRollupTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID;
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                // Only periods that ended before the removal date are removed
+                statement.setLong(1, System.currentTimeMillis() - deleteTPSOlderThanMs - TPSRollupTable.getPeriod(tableName));
+                statement.setInt(2, allTimePlayerPeak);
+                statement.setString(3, serverUUID.toString());
+            }
+        };
+    }
+
     private Executable cleanPingTable() {
         String sql = DELETE_FROM + PingTable.TABLE_NAME +
                 WHERE + '(' + PingTable.DATE + "<?" +
@@ -0,0 +1,53 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.queries.HasMoreThanZeroQueryStatement;
+import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+
+import java.sql.PreparedStatement;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Patch that fills {@link ActivePlaytimeTable} from sessions that were stored before the table existed.
+ *
+ * @author AuroraLS3
+ */
+public class ActivePlaytimeTablePatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasRows(ActivePlaytimeTable.TABLE_NAME) || !hasRows(SessionsTable.TABLE_NAME);
+    }
+
+    private boolean hasRows(String tableName) {
+        return query(new HasMoreThanZeroQueryStatement(SELECT + "COUNT(1) as c" + FROM + tableName, "c") {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                /* Nothing to prepare */
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        execute(LargeStoreQueries.storeActivePlaytimeFromAllSessions());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Patch that adds a unique index on user, server and day of {@link ActivePlaytimeTable}.
+ * <p>
+ * Rows stored for the same day are combined before the index is created.
+ *
+ * @author AuroraLS3
+ */
+public class ActivePlaytimeUniqueIndexPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasUniqueConstraint(ActivePlaytimeTable.TABLE_NAME, ActivePlaytimeTable.UNIQUE_INDEX);
+    }
+
+    @Override
+    protected void applyPatch() {
+        List<DuplicateDay> duplicates = query(fetchDuplicateDays());
+        if (!duplicates.isEmpty()) {
+            combineDuplicateDays(duplicates);
+        }
+
+        execute("CREATE UNIQUE INDEX " + ActivePlaytimeTable.UNIQUE_INDEX +
+                " ON " + ActivePlaytimeTable.TABLE_NAME + " (" +
+                ActivePlaytimeTable.USER_ID + ',' +
+                ActivePlaytimeTable.SERVER_ID + ',' +
+                ActivePlaytimeTable.DATE + ')');
+    }
+
+    private QueryAllStatement<List<DuplicateDay>> fetchDuplicateDays() {
+        String sql = SELECT + "MIN(" + ActivePlaytimeTable.ID + ") as kept_id," +
+                ActivePlaytimeTable.USER_ID + ',' +
+                ActivePlaytimeTable.SERVER_ID + ',' +
+                ActivePlaytimeTable.DATE + ',' +
+                "SUM(" + ActivePlaytimeTable.ACTIVE_PLAYTIME + ") as total" +
+                FROM + ActivePlaytimeTable.TABLE_NAME +
+                GROUP_BY + ActivePlaytimeTable.USER_ID + ',' + ActivePlaytimeTable.SERVER_ID + ',' + ActivePlaytimeTable.DATE +
+                " HAVING COUNT(1)>1";
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public List<DuplicateDay> processResults(ResultSet set) throws SQLException {
+                List<DuplicateDay> duplicates = new ArrayList<>();
+                while (set.next()) {
+                    duplicates.add(new DuplicateDay(
+                            set.getInt("kept_id"),
+                            set.getInt(ActivePlaytimeTable.USER_ID),
+                            set.getInt(ActivePlaytimeTable.SERVER_ID),
+                            set.getLong(ActivePlaytimeTable.DATE),
+                            set.getLong("total")
+                    ));
+                }
+                return duplicates;
+            }
+        };
+    }
+
+    private void combineDuplicateDays(List<DuplicateDay> duplicates) {
+        String updateKept = "UPDATE " + ActivePlaytimeTable.TABLE_NAME +
+                " SET " + ActivePlaytimeTable.ACTIVE_PLAYTIME + "=?" +
+                WHERE + ActivePlaytimeTable.ID + "=?";
+        execute(new ExecBatchStatement(updateKept) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (DuplicateDay duplicate : duplicates) {
+                    statement.setLong(1, duplicate.total);
+                    statement.setInt(2, duplicate.keptId);
+                    statement.addBatch();
+                }
+            }
+        });
+
+        String deleteOthers = DELETE_FROM + ActivePlaytimeTable.TABLE_NAME +
+                WHERE + ActivePlaytimeTable.USER_ID + "=?" +
+                AND + ActivePlaytimeTable.SERVER_ID + "=?" +
+                AND + ActivePlaytimeTable.DATE + "=?" +
+                AND + ActivePlaytimeTable.ID + "!=?";
+        execute(new ExecBatchStatement(deleteOthers) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (DuplicateDay duplicate : duplicates) {
+                    statement.setInt(1, duplicate.userId);
+                    statement.setInt(2, duplicate.serverId);
+                    statement.setLong(3, duplicate.date);
+                    statement.setInt(4, duplicate.keptId);
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+
+    private static class DuplicateDay {
+        private final int keptId;
+        private final int userId;
+        private final int serverId;
+        private final long date;
+        private final long total;
+
+        DuplicateDay(int keptId, int userId, int serverId, long date, long total) {
+            this.keptId = keptId;
+            this.userId = userId;
+            this.serverId = serverId;
+            this.date = date;
+            this.total = total;
+        }
+    }
+}
@@ -83,6 +83,38 @@ public abstract class Patch extends OperationCriticalTransaction {
         }
     }
 
+    protected boolean hasIndex(String tableName, String indexName) {
+        switch (dbType) {
+            case MYSQL:
+                return query(MySQLSchemaQueries.doesIndexExist(indexName, tableName));
+            case SQLITE:
+                return query(SQLiteSchemaQueries.doesIndexExist(indexName));
+            default:
+                throw new IllegalStateException("Unsupported Database Type: " + dbType.getName());
+        }
+    }
+
+    /**
+     * Check if a unique index or a unique table constraint with the name exists.
+     * <p>
+     * SQLite does not store names of table constraints as index names.
+     *
+     * @param tableName      Table the constraint is on
+     * @param constraintName Name of the index or the constraint
+     * @return true if either exists
+     */
+    protected boolean hasUniqueConstraint(String tableName, String constraintName) {
+        switch (dbType) {
+            case MYSQL:
+                return query(MySQLSchemaQueries.doesIndexExist(constraintName, tableName));
+            case SQLITE:
+                return query(SQLiteSchemaQueries.doesIndexExist(constraintName))
+                        || query(SQLiteSchemaQueries.doesConstraintExist(tableName, constraintName));
+            default:
+                throw new IllegalStateException("Unsupported Database Type: " + dbType.getName());
+        }
+    }
+
     protected void addColumn(String tableName, String columnInfo) {
         execute(ALTER_TABLE + tableName + " ADD " + (dbType.supportsMySQLQueries() ? "" : "COLUMN ") + columnInfo);
     }
@@ -0,0 +1,132 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
+import com.djrapitops.plan.storage.database.sql.tables.WorldTimesTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Patch that adds a unique index on name and server of {@link WorldTable}.
+ * <p>
+ * World times of duplicate worlds are moved to the first stored world before the duplicates are removed.
+ *
+ * @author AuroraLS3
+ */
+public class WorldsUniqueIndexPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasUniqueConstraint(WorldTable.TABLE_NAME, WorldTable.UNIQUE_INDEX);
+    }
+
+    @Override
+    protected void applyPatch() {
+        List<DuplicateWorld> duplicates = query(fetchDuplicateWorlds());
+        if (!duplicates.isEmpty()) {
+            removeDuplicateWorlds(duplicates);
+        }
+
+        execute("CREATE UNIQUE INDEX " + WorldTable.UNIQUE_INDEX +
+                " ON " + WorldTable.TABLE_NAME + " (" +
+                WorldTable.NAME + ',' +
+                WorldTable.SERVER_UUID + ')');
+    }
+
+    private QueryAllStatement<List<DuplicateWorld>> fetchDuplicateWorlds() {
+        String sql = SELECT + "MIN(" + WorldTable.ID + ") as kept_id," +
+                "MIN(" + WorldTable.NAME + ") as name," +
+                WorldTable.SERVER_UUID +
+                FROM + WorldTable.TABLE_NAME +
+                GROUP_BY + WorldTable.NAME + ',' + WorldTable.SERVER_UUID +
+                " HAVING COUNT(1)>1";
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public List<DuplicateWorld> processResults(ResultSet set) throws SQLException {
+                List<DuplicateWorld> duplicates = new ArrayList<>();
+                while (set.next()) {
+                    duplicates.add(new DuplicateWorld(
+                            set.getInt("kept_id"),
+                            set.getString("name"),
+                            set.getString(WorldTable.SERVER_UUID)
+                    ));
+                }
+                return duplicates;
+            }
+        };
+    }
+
+    private void removeDuplicateWorlds(List<DuplicateWorld> duplicates) {
+        String duplicateIds = SELECT + WorldTable.ID + FROM + WorldTable.TABLE_NAME +
+                WHERE + WorldTable.NAME + "=?" +
+                AND + WorldTable.SERVER_UUID + "=?" +
+                AND + WorldTable.ID + "!=?";
+
+        String moveWorldTimes = "UPDATE " + WorldTimesTable.TABLE_NAME +
+                " SET " + WorldTimesTable.WORLD_ID + "=?" +
+                WHERE + WorldTimesTable.WORLD_ID + " IN (" + duplicateIds + ')';
+        execute(new ExecBatchStatement(moveWorldTimes) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (DuplicateWorld duplicate : duplicates) {
+                    statement.setInt(1, duplicate.keptId);
+                    statement.setString(2, duplicate.name);
+                    statement.setString(3, duplicate.serverUUID);
+                    statement.setInt(4, duplicate.keptId);
+                    statement.addBatch();
+                }
+            }
+        });
+
+        String deleteOthers = DELETE_FROM + WorldTable.TABLE_NAME +
+                WHERE + WorldTable.NAME + "=?" +
+                AND + WorldTable.SERVER_UUID + "=?" +
+                AND + WorldTable.ID + "!=?";
+        execute(new ExecBatchStatement(deleteOthers) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (DuplicateWorld duplicate : duplicates) {
+                    statement.setString(1, duplicate.name);
+                    statement.setString(2, duplicate.serverUUID);
+                    statement.setInt(3, duplicate.keptId);
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+
+    private static class DuplicateWorld {
+        private final int keptId;
+        private final String name;
+        private final String serverUUID;
+
+        DuplicateWorld(int keptId, String name, String serverUUID) {
+            this.keptId = keptId;
+            this.name = name;
+            this.serverUUID = serverUUID;
+        }
+    }
+}
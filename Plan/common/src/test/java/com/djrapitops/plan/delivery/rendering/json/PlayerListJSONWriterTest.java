@@ -0,0 +1,74 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto;
+import com.djrapitops.plan.delivery.domain.datatransfer.TablePlayerDto;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerListJSONWriterTest {
+
+    @Test
+    void writtenJsonMatchesPlayerListDto() {
+        List<TablePlayer> players = Arrays.asList(
+                TablePlayer.builder()
+                        .uuid(UUID.randomUUID())
+                        .name("<Test\\Player>")
+                        .geolocation("Finland")
+                        .registered(5L)
+                        .lastSeen(10L)
+                        .sessionCount(3)
+                        .activePlaytime(1000L)
+                        .activityIndex(new ActivityIndex(2.5, 0L))
+                        .ping(new Ping(0L, null, 1, 5, 2.5))
+                        .banned()
+                        .build(),
+                TablePlayer.builder()
+                        .uuid(UUID.randomUUID())
+                        .build()
+        );
+
+        List<TablePlayerDto> rows = players.stream()
+                .map(player -> TablePlayerDto.builder()
+                        .withUuid(player.getPlayerUUID())
+                        .withName(player.getName().orElseGet(() -> player.getPlayerUUID().toString()))
+                        .withActivityIndex(player.getCurrentActivityIndex().map(ActivityIndex::getValue).orElse(0.0))
+                        .withSessionCount((long) player.getSessionCount().orElse(0))
+                        .withPlaytimeActive(player.getActivePlaytime().orElse(null))
+                        .withLastSeen(player.getLastSeen().orElse(null))
+                        .withRegistered(player.getRegistered().orElse(null))
+                        .withCountry(player.getGeolocation().orElse(null))
+                        .withExtensionValues(Collections.emptyMap())
+                        .withPing(player.getPing())
+                        .build()
+                ).collect(Collectors.toList());
+        String expected = new Gson().toJson(new PlayerListDto(rows, Collections.emptyList()));
+
+        String result = new PlayerListJSONWriter(Collections.emptyMap()).write(players::forEach);
+
+        assertEquals(expected, result);
+    }
+}
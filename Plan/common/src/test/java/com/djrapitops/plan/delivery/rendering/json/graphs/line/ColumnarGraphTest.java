@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs.line;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link ColumnarGraph}.
+ *
+ * @author AuroraLS3
+ */
+class ColumnarGraphTest {
+
+    @Test
+    void datesAreDeltaEncodedAgainstMostCommonStep() {
+        List<Point> points = Arrays.asList(
+                new Point(1000, 1.0),
+                new Point(2000, 2.5),
+                new Point(3000, null),
+                new Point(3500, 4.0),
+                new Point(4500, 5.0)
+        );
+
+        ColumnarGraph graph = ColumnarGraph.fromPoints("playersOnline", points);
+
+        assertEquals(1000L, graph.getStart());
+        assertEquals(1000L, graph.getStep());
+        assertArrayEquals(new long[]{0, 0, 0, -500, 0}, graph.getDateDeltas());
+        assertArrayEquals(new long[]{1000, 2000, 3000, 3500, 4500}, graph.getDates());
+        assertArrayEquals(new Number[]{1L, 2.5, null, 4L, 5L}, graph.getSeries().get("playersOnline"));
+    }
+
+    @Test
+    void rowsAreSplitIntoSeries() {
+        String[] keys = {"date", "playersOnline", "tps"};
+        List<Number[]> rows = Arrays.asList(
+                new Number[]{60000L, 3, 19.5},
+                new Number[]{120000L},
+                new Number[]{180000L, 4, 20.0}
+        );
+
+        ColumnarGraph graph = ColumnarGraph.fromRows(keys, rows);
+
+        assertArrayEquals(new long[]{60000, 120000, 180000}, graph.getDates());
+        assertArrayEquals(new Number[]{3, null, 4}, graph.getSeries().get("playersOnline"));
+        assertArrayEquals(new Number[]{19.5, null, 20L}, graph.getSeries().get("tps"));
+    }
+}
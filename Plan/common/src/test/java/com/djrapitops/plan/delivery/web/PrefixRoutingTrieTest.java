@@ -0,0 +1,75 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PrefixRoutingTrieTest {
+
+    private PrefixRoutingTrie<String> underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new PrefixRoutingTrie<>();
+        underTest.put("/player", "player");
+        underTest.put("/players", "players");
+        underTest.put("/auth/login", "login");
+        underTest.put("/auth/logout", "logout");
+        underTest.put("/docs", "docs");
+        underTest.put("/docs/swagger.json", "swagger");
+    }
+
+    @Test
+    void longestPrefixIsFound() {
+        assertEquals("players", underTest.findLongest("/players/table"));
+        assertEquals("player", underTest.findLongest("/player/Notch"));
+        assertEquals("swagger", underTest.findLongest("/docs/swagger.json"));
+        assertEquals("docs", underTest.findLongest("/docs/swagger"));
+    }
+
+    @Test
+    void splitLabelsAreMatched() {
+        assertEquals("login", underTest.findLongest("/auth/login"));
+        assertEquals("logout", underTest.findLongest("/auth/logout?x=1"));
+        assertNull(underTest.findLongest("/auth/log"));
+    }
+
+    @Test
+    void unknownTargetIsNotFound() {
+        assertNull(underTest.findLongest("/pla"));
+        assertEquals(Collections.emptyList(), underTest.findAll("/"));
+    }
+
+    @Test
+    void allPrefixesAreFoundLongestFirst() {
+        assertEquals(Arrays.asList("players", "player"), underTest.findAll("/players"));
+    }
+
+    @Test
+    void samePrefixKeepsRegistrationOrder() {
+        underTest.put("/player", "second");
+        assertEquals(Arrays.asList("player", "second"), underTest.findAll("/player/Notch"));
+        assertEquals("player", underTest.findLongest("/player/Notch"));
+    }
+}
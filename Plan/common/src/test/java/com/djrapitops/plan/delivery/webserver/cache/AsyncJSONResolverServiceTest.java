@@ -0,0 +1,154 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import utilities.TestPluginLogger;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class AsyncJSONResolverServiceTest {
+
+    private ExecutorService executor;
+    private JSONStorage jsonStorage;
+    private PlanConfig config;
+    private AsyncJSONResolverService underTest;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        executor = Executors.newFixedThreadPool(4);
+
+        PlanFiles files = Mockito.mock(PlanFiles.class);
+        when(files.getJSONStorageDirectory()).thenReturn(tempDir);
+        jsonStorage = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+
+        config = Mockito.mock(PlanConfig.class);
+        when(config.get(WebserverSettings.REDUCED_REFRESH_BARRIER)).thenReturn(TimeUnit.SECONDS.toMillis(15L));
+        when(config.get(WebserverSettings.SERVE_STALE_JSON_FOR)).thenReturn(TimeUnit.SECONDS.toMillis(30L));
+        when(config.getNode(anyString())).thenReturn(Optional.empty());
+
+        Processing processing = Mockito.mock(Processing.class);
+        when(processing.submitNonCritical(any(Callable.class))).thenAnswer(invocation -> {
+            Callable<?> task = invocation.getArgument(0);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+        });
+
+        underTest = new AsyncJSONResolverService(config, Mockito.mock(Formatters.class), processing, jsonStorage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsCreateJSONOnce() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch requestsMade = new CountDownLatch(1);
+        ExecutorService requests = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JSONStorage.StoredJSON>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(requests.submit(() -> underTest.resolve(Optional.empty(), DataID.PLAYERS, () -> {
+                    created.incrementAndGet();
+                    requestsMade.await();
+                    return "{\"data\":1}";
+                })));
+            }
+            Thread.sleep(200);
+            requestsMade.countDown();
+
+            JSONStorage.StoredJSON expected = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<JSONStorage.StoredJSON> result : results) {
+                assertEquals(expected, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, created.get());
+        } finally {
+            requests.shutdownNow();
+        }
+    }
+
+    @Test
+    void staleJSONIsServedWhileItIsUpdated() throws Exception {
+        long staleTimestamp = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(20L);
+        JSONStorage.StoredJSON stale = jsonStorage.storeJson("PLAYERS", "{\"data\":0}", staleTimestamp);
+
+        CountDownLatch updated = new CountDownLatch(1);
+        JSONStorage.StoredJSON result = underTest.resolve(Optional.empty(), DataID.PLAYERS, () -> {
+            updated.countDown();
+            return "{\"data\":1}";
+        });
+
+        assertEquals(stale, result);
+        assertTrue(updated.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void tooOldJSONIsNotServed() {
+        long oldTimestamp = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1L);
+        jsonStorage.storeJson("PLAYERS", "{\"data\":0}", oldTimestamp);
+
+        JSONStorage.StoredJSON result = underTest.resolve(Optional.empty(), DataID.PLAYERS, () -> "{\"data\":1}");
+
+        assertTrue(result.timestamp > oldTimestamp);
+    }
+
+    @Test
+    void staleWindowIsReadFromConfigOncePerDataID() {
+        long first = underTest.getStaleWhileRevalidateWindow(DataID.PLAYERS);
+        long second = underTest.getStaleWhileRevalidateWindow(DataID.PLAYERS);
+
+        assertEquals(TimeUnit.SECONDS.toMillis(30L), first);
+        assertEquals(first, second);
+        Mockito.verify(config, Mockito.times(1)).getNode(anyString());
+    }
+
+    @Test
+    void staleWindowOfColumnarGraphIsReadFromSettingOfOriginalGraph() {
+        underTest.getStaleWhileRevalidateWindow(DataID.GRAPH_OPTIMIZED_PERFORMANCE_COLUMNAR);
+        underTest.getStaleWhileRevalidateWindow(DataID.GRAPH_ONLINE_COLUMNAR);
+
+        Mockito.verify(config).getNode("Webserver.Cache.Serve_stale_json_for.GRAPH_OPTIMIZED_PERFORMANCE");
+        Mockito.verify(config).getNode("Webserver.Cache.Serve_stale_json_for.GRAPH_ONLINE");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class CompressedContentCacheTest {
+
+    private CompressedContentCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(WebserverSettings.MEMORY_CACHE_SIZE)).thenReturn(1);
+        underTest = new CompressedContentCache(config);
+    }
+
+    @Test
+    void precompressedContentIsFound() throws IOException {
+        byte[] content = "{\"value\":\"Test\"}".getBytes(StandardCharsets.UTF_8);
+        underTest.precompress(content);
+
+        Optional<byte[]> gzipped = underTest.getGzipped(content);
+        assertTrue(gzipped.isPresent());
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.get()))) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void contentIsFoundByIdentity() {
+        byte[] content = "{\"value\":\"Test\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] equalContent = "{\"value\":\"Test\"}".getBytes(StandardCharsets.UTF_8);
+        underTest.precompress(content);
+
+        assertFalse(underTest.getGzipped(equalContent).isPresent());
+    }
+}
@@ -25,6 +25,7 @@ import utilities.TestPluginLogger;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
@@ -170,4 +171,32 @@ class JSONStorageTest {
         JSONStorage.StoredJSON stored = UNDER_TEST.storeJson(DataID.SESSIONS_OVERVIEW.name(), Collections.singletonList("data"), timestamp);
         assertFalse(UNDER_TEST.fetchJsonMadeBefore(DataID.SESSIONS.name(), timestamp + TimeUnit.DAYS.toMillis(1L)).isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void doesNotFetchIdentifierWithSamePrefix() {
+        long timestamp = System.currentTimeMillis();
+        UNDER_TEST.storeJson(DataID.PLAYERS.name() + "-server", Collections.singletonList("data"), timestamp);
+        assertFalse(UNDER_TEST.fetchJSON(DataID.PLAYERS.name()).isPresent());
+    }
+
+    @Test
+    void filesStoredBeforeStartAreFetched() throws IOException {
+        long timestamp = System.currentTimeMillis();
+        Files.write(tempDir.resolve("Identifier-" + timestamp + ".json"), "data".getBytes(StandardCharsets.UTF_8));
+
+        JSONStorage.StoredJSON found = UNDER_TEST.fetchJsonMadeAfter("Identifier", timestamp - 1).orElseThrow(AssertionError::new);
+        assertEquals(new JSONStorage.StoredJSON("data", timestamp), found);
+    }
+
+    @Test
+    void olderFilesAreInvalidated() {
+        long timestamp = System.currentTimeMillis();
+        UNDER_TEST.storeJson("Identifier", Collections.singletonList("data"), timestamp - 1);
+        JSONStorage.StoredJSON stored = UNDER_TEST.storeJson("Identifier", Collections.singletonList("data"), timestamp);
+        UNDER_TEST.invalidateOlder("Identifier", timestamp);
+
+        assertFalse(UNDER_TEST.fetchExactJson("Identifier", timestamp - 1).isPresent());
+        assertEquals(stored, UNDER_TEST.fetchJSON("Identifier").orElseThrow(AssertionError::new));
+        assertEquals(1, tempDir.toFile().listFiles().length);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.rendering.json.PlayerJSONCreator;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import utilities.TestPluginLogger;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class PrecomputedPlayerJSONTest {
+
+    private static final UUID PLAYER_UUID = UUID.randomUUID();
+
+    private PlanConfig config;
+    private Database database;
+    private JSONStorage jsonStorage;
+    private PrecomputedPlayerJSON underTest;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        PlanFiles files = Mockito.mock(PlanFiles.class);
+        when(files.getJSONStorageDirectory()).thenReturn(tempDir);
+        jsonStorage = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+
+        config = Mockito.mock(PlanConfig.class);
+        when(config.isTrue(WebserverSettings.PRECOMPUTE_PLAYER_JSON)).thenReturn(true);
+        when(config.getTimeZone()).thenReturn(TimeZone.getTimeZone("UTC"));
+
+        database = Mockito.mock(Database.class);
+        DBSystem dbSystem = Mockito.mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+
+        PlayerJSONCreator jsonCreator = Mockito.mock(PlayerJSONCreator.class);
+        when(jsonCreator.createJSONAsMap(eq(PLAYER_UUID), any())).thenReturn(Map.of("info", "precomputed"));
+
+        underTest = new PrecomputedPlayerJSON(config, dbSystem, jsonStorage, jsonCreator);
+    }
+
+    private void setLastSeen(long lastSeen) {
+        when(database.query(any(Query.class))).thenReturn(Optional.of(lastSeen));
+    }
+
+    private void setPlayerRemoved() {
+        when(database.query(any(Query.class))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void storedJSONIsServedWhenNoSessionEndedAfterIt() {
+        setLastSeen(System.currentTimeMillis() - 1000L);
+        underTest.update(PLAYER_UUID);
+
+        Optional<JSONStorage.StoredJSON> found = underTest.getUpToDate(PLAYER_UUID, permission -> true);
+        assertTrue(found.isPresent());
+        assertEquals("{\"info\":\"precomputed\"}", found.get().json);
+    }
+
+    @Test
+    void storedJSONIsNotServedAfterNewerSession() {
+        underTest.update(PLAYER_UUID);
+        setLastSeen(System.currentTimeMillis() + 1000L);
+
+        assertFalse(underTest.getUpToDate(PLAYER_UUID, permission -> true).isPresent());
+    }
+
+    @Test
+    void storedJSONIsNotServedWithoutAllPermissions() {
+        setLastSeen(0L);
+        underTest.update(PLAYER_UUID);
+
+        assertFalse(underTest.getUpToDate(PLAYER_UUID, permission -> permission != WebPermission.PAGE_PLAYER_PLUGINS).isPresent());
+    }
+
+    @Test
+    void storedJSONIsNotServedWhenDisabled() {
+        setLastSeen(0L);
+        underTest.update(PLAYER_UUID);
+        when(config.isTrue(WebserverSettings.PRECOMPUTE_PLAYER_JSON)).thenReturn(false);
+
+        assertFalse(underTest.getUpToDate(PLAYER_UUID, permission -> true).isPresent());
+    }
+
+    @Test
+    void updateReplacesPreviousJSON() throws InterruptedException {
+        underTest.update(PLAYER_UUID);
+        Thread.sleep(5L);
+        underTest.update(PLAYER_UUID);
+
+        String identifier = PrecomputedPlayerJSON.getIdentifier(PLAYER_UUID);
+        long latest = jsonStorage.getTimestamp(identifier).orElseThrow(AssertionError::new);
+        assertFalse(jsonStorage.fetchJsonMadeBefore(identifier, latest).isPresent());
+    }
+
+    @Test
+    void storedJSONIsNotServedAfterPlayerIsRemoved() {
+        underTest.update(PLAYER_UUID);
+        setPlayerRemoved();
+
+        assertFalse(underTest.getUpToDate(PLAYER_UUID, permission -> true).isPresent());
+        assertFalse(jsonStorage.fetchJSON(PrecomputedPlayerJSON.getIdentifier(PLAYER_UUID)).isPresent());
+    }
+
+    @Test
+    void storedJSONIsNotServedAfterOtherPlayerDataChanges() {
+        setLastSeen(0L);
+        underTest.update(PLAYER_UUID);
+        underTest.playerDataChanged(PLAYER_UUID);
+
+        assertFalse(underTest.getUpToDate(PLAYER_UUID, permission -> true).isPresent());
+        assertFalse(jsonStorage.fetchJSON(PrecomputedPlayerJSON.getIdentifier(PLAYER_UUID)).isPresent());
+    }
+
+    @Test
+    void jsonCreatedWhileOtherPlayerDataChangedIsNotServed() {
+        setLastSeen(0L);
+        long creationStarted = System.currentTimeMillis();
+        underTest.playerDataChanged(PLAYER_UUID);
+        jsonStorage.storeJson(PrecomputedPlayerJSON.getIdentifier(PLAYER_UUID), Map.of("info", "precomputed"), creationStarted);
+
+        assertFalse(underTest.getUpToDate(PLAYER_UUID, permission -> true).isPresent());
+    }
+
+    @Test
+    void jsonCreatedAfterOtherPlayerDataChangedIsServed() throws InterruptedException {
+        setLastSeen(0L);
+        underTest.playerDataChanged(PLAYER_UUID);
+        Thread.sleep(5L);
+        underTest.update(PLAYER_UUID);
+
+        assertTrue(underTest.getUpToDate(PLAYER_UUID, permission -> true).isPresent());
+    }
+
+    @Test
+    void storedJSONIsNotServedOnTheNextDay() {
+        long twoDaysAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2L);
+        setLastSeen(twoDaysAgo - 1000L);
+        jsonStorage.storeJson(PrecomputedPlayerJSON.getIdentifier(PLAYER_UUID), Map.of("info", "precomputed"), twoDaysAgo);
+
+        assertFalse(underTest.getUpToDate(PLAYER_UUID, permission -> true).isPresent());
+    }
+
+    @Test
+    void removeAllRemovesStoredJSONOfEveryPlayer() {
+        UUID otherPlayerUUID = UUID.randomUUID();
+        underTest.update(PLAYER_UUID);
+        jsonStorage.storeJson(PrecomputedPlayerJSON.getIdentifier(otherPlayerUUID), Map.of("info", "precomputed"));
+        jsonStorage.storeJson(DataID.PLAYERS.name(), Map.of("info", "players"));
+
+        underTest.removeAll();
+
+        assertFalse(jsonStorage.fetchJSON(PrecomputedPlayerJSON.getIdentifier(PLAYER_UUID)).isPresent());
+        assertFalse(jsonStorage.fetchJSON(PrecomputedPlayerJSON.getIdentifier(otherPlayerUUID)).isPresent());
+        assertTrue(jsonStorage.fetchJSON(DataID.PLAYERS.name()).isPresent());
+    }
+}
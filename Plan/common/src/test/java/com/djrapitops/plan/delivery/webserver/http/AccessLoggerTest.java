@@ -0,0 +1,134 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.events.StoreAccessLogTransaction;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.server.PluginLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AccessLogger}.
+ *
+ * @author AuroraLS3
+ */
+class AccessLoggerTest {
+
+    private Database database;
+    private WebserverConfiguration webserverConfiguration;
+    private AccessLogger underTest;
+
+    @BeforeEach
+    void setUp() {
+        database = Mockito.mock(Database.class);
+        when(database.getState()).thenReturn(Database.State.OPEN);
+        doReturn(CompletableFuture.completedFuture(null)).when(database).executeTransaction(any());
+        DBSystem dbSystem = Mockito.mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+
+        webserverConfiguration = Mockito.mock(WebserverConfiguration.class);
+        when(webserverConfiguration.getStaticAssetAccessLogSampling()).thenReturn(1);
+
+        underTest = new AccessLogger(webserverConfiguration, dbSystem, Mockito.mock(PluginLogger.class), Mockito.mock(ErrorLogger.class));
+    }
+
+    private void logRequest(String uri, int code) {
+        InternalRequest internalRequest = Mockito.mock(InternalRequest.class);
+        when(internalRequest.getMethod()).thenReturn("GET");
+        when(internalRequest.getRequestedURIString()).thenReturn(uri);
+        when(internalRequest.getTimestamp()).thenReturn(System.currentTimeMillis());
+        Response response = Response.builder().setStatus(code).setContent(new byte[0]).build();
+
+        underTest.log(internalRequest, null, response);
+    }
+
+    @Test
+    void requestsAreStoredInBatches() {
+        for (int i = 0; i < AccessLogger.BATCH_SIZE - 1; i++) {
+            logRequest("/v1/network/overview", 200);
+        }
+        verify(database, never()).executeTransaction(any());
+
+        logRequest("/v1/network/overview", 200);
+        verify(database, times(1)).executeTransaction(any(StoreAccessLogTransaction.class));
+        assertEquals(0, underTest.getBufferedCount());
+    }
+
+    @Test
+    void fullBatchIsStoredAfterRequestsThatArrivedDuringFlush() {
+        AtomicBoolean loggedDuringFlush = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            if (loggedDuringFlush.compareAndSet(false, true)) {
+                for (int i = 0; i < AccessLogger.BATCH_SIZE; i++) {
+                    logRequest("/v1/network/overview", 200);
+                }
+            }
+            return CompletableFuture.completedFuture(null);
+        }).when(database).executeTransaction(any());
+
+        for (int i = 0; i < AccessLogger.BATCH_SIZE; i++) {
+            logRequest("/v1/network/overview", 200);
+        }
+        assertEquals(AccessLogger.BATCH_SIZE, underTest.getBufferedCount());
+
+        logRequest("/v1/network/overview", 200);
+        verify(database, times(2)).executeTransaction(any(StoreAccessLogTransaction.class));
+        assertEquals(0, underTest.getBufferedCount());
+    }
+
+    @Test
+    void flushStoresBufferedRequests() {
+        logRequest("/v1/network/overview", 200);
+        underTest.flush();
+
+        verify(database, times(1)).executeTransaction(any(StoreAccessLogTransaction.class));
+        assertEquals(0, underTest.getBufferedCount());
+    }
+
+    @Test
+    void successfulStaticAssetRequestsAreSampled() {
+        when(webserverConfiguration.getStaticAssetAccessLogSampling()).thenReturn(10);
+        for (int i = 0; i < 20; i++) {
+            logRequest("/static/js/main.js", 200);
+        }
+        logRequest("/static/js/missing.js", 404);
+
+        assertEquals(3, underTest.getBufferedCount());
+    }
+
+    @Test
+    void staticAssetRequestsAreNotStoredWithZeroSampling() {
+        when(webserverConfiguration.getStaticAssetAccessLogSampling()).thenReturn(0);
+        logRequest("/static/css/main.css", 200);
+        logRequest("/v1/network/overview", 200);
+
+        assertEquals(1, underTest.getBufferedCount());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.Group;
+import com.djrapitops.plan.extension.NotReadyException;
+import com.djrapitops.plan.extension.annotation.PluginInfo;
+import com.djrapitops.plan.identification.ServerUUID;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodWrapperTest {
+
+    private static final ServerUUID SERVER_UUID = ServerUUID.randomUUID();
+    private static final UUID PLAYER_UUID = UUID.randomUUID();
+
+    private final Extension extension = new Extension();
+
+    private static <T> MethodWrapper<T> wrap(String methodName, Class<T> returnType, Class<?>... parameterTypes) throws NoSuchMethodException {
+        Method method = Extension.class.getMethod(methodName, parameterTypes);
+        method.setAccessible(true);
+        return new MethodWrapper<>(method, returnType);
+    }
+
+    @Test
+    void serverMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap("serverValue", Long.class);
+        assertEquals(5L, wrapper.callMethod(extension, Parameters.server(SERVER_UUID)));
+    }
+
+    @Test
+    void playerUUIDMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<String> wrapper = wrap("playerUUIDValue", String.class, UUID.class);
+        assertEquals(PLAYER_UUID.toString(), wrapper.callMethod(extension, Parameters.player(SERVER_UUID, PLAYER_UUID, "Name")));
+    }
+
+    @Test
+    void playerNameMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<Boolean> wrapper = wrap("playerNameValue", Boolean.class, String.class);
+        assertTrue(wrapper.callMethod(extension, Parameters.player(SERVER_UUID, PLAYER_UUID, "Name")));
+    }
+
+    @Test
+    void groupMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<String> wrapper = wrap("groupValue", String.class, Group.class);
+        assertEquals("Group", wrapper.callMethod(extension, Parameters.group(SERVER_UUID, "Group")));
+    }
+
+    @Test
+    void notReadyMethodReturnsNull() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap("notReady", Long.class);
+        assertNull(wrapper.callMethod(extension, Parameters.server(SERVER_UUID)));
+    }
+
+    @Test
+    void failingMethodThrowsMethodCallException() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap("fails", Long.class);
+        Parameters parameters = Parameters.server(SERVER_UUID);
+        DataExtensionMethodCallException thrown = assertThrows(DataExtensionMethodCallException.class, () -> wrapper.callMethod(extension, parameters));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    @Test
+    void wrongParametersThrowMethodCallException() throws NoSuchMethodException {
+        MethodWrapper<Boolean> wrapper = wrap("playerNameValue", Boolean.class, String.class);
+        Parameters parameters = Parameters.server(SERVER_UUID);
+        assertThrows(DataExtensionMethodCallException.class, () -> wrapper.callMethod(extension, parameters));
+    }
+
+    @Test
+    void disabledMethodIsNotCalled() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = wrap("fails", Long.class);
+        wrapper.disable();
+        assertNull(wrapper.callMethod(extension, Parameters.server(SERVER_UUID)));
+    }
+
+    @PluginInfo(name = "Extension")
+    static class Extension implements DataExtension {
+        public long serverValue() {
+            return 5L;
+        }
+
+        public String playerUUIDValue(UUID playerUUID) {
+            return playerUUID.toString();
+        }
+
+        public boolean playerNameValue(String playerName) {
+            return "Name".equals(playerName);
+        }
+
+        public String groupValue(Group group) {
+            return group.getGroupName();
+        }
+
+        public long notReady() {
+            throw new NotReadyException();
+        }
+
+        public long fails() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+}
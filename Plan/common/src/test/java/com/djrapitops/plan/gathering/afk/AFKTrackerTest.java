@@ -98,6 +98,19 @@ class AFKTrackerTest {
         assertEquals(afkThreshold * 2, afkTime);
     }
 
+    @Test
+    void afkCommandEffectIsClearedByNextAction() {
+        underTest.usedAfkCommand(playerUUID, 0L);
+        underTest.performedAction(playerUUID, 0L);
+        long afkTime = underTest.loggedOut(playerUUID, afkThreshold * 2);
+        assertEquals(afkThreshold * 2, afkTime);
+    }
+
+    @Test
+    void actionsWithoutSessionAreIgnored() {
+        assertEquals(0L, underTest.performedAction(TestConstants.PLAYER_TWO_UUID, afkThreshold * 2));
+    }
+
     @Test
     void someoneIsAFKForAwhileWithAfkCommandButHasIgnorePermission() {
         underTest.hasIgnorePermission(playerUUID);
@@ -85,9 +85,9 @@ class GeolocationTest {
 
     @AfterEach
     void tearDownCache(PlanSystem system, PlanFiles files) throws IOException {
-        Files.deleteIfExists(files.getFileFromPluginFolder("GeoLite2-Country.mmdb").toPath());
         underTest.disable();
         system.disable();
+        Files.deleteIfExists(files.getFileFromPluginFolder("GeoLite2-Country.mmdb").toPath());
     }
 
     @Test
@@ -117,4 +117,14 @@ class GeolocationTest {
             assertEquals(expIp, countryThirdCall);
         }
     }
+
+    @Test
+    void countriesAreFetchedInBatch() {
+        Map<String, String> result = underTest.getCountries(TEST_DATA.keySet());
+
+        assertEquals(TEST_DATA, result);
+        for (String ip : TEST_DATA.keySet()) {
+            assertTrue(underTest.isCached(ip));
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PingHistory}.
+ *
+ * @author AuroraLS3
+ */
+class PingHistoryTest {
+
+    @Test
+    void aggregatesSamplesIntoPing() {
+        PingHistory history = new PingHistory();
+        history.add(1000L, 50);
+        history.add(2000L, 10);
+        history.add(3000L, 30);
+        history.add(4000L, 0); // Out of range, only counted in median
+
+        Ping ping = history.toPing(TestConstants.SERVER_UUID);
+        assertEquals(4000L, ping.getDate());
+        assertEquals(10, ping.getMin());
+        assertEquals(50, ping.getMax());
+        assertEquals(20.0, ping.getAverage());
+    }
+
+    @Test
+    void oldestSamplesAreOverwrittenWhenFull() {
+        PingHistory history = new PingHistory(3);
+        for (int i = 1; i <= 5; i++) {
+            history.add(i, i * 10);
+        }
+
+        assertTrue(history.isFull());
+        assertEquals(3, history.size());
+        assertEquals(30, history.getMin());
+        assertEquals(50, history.getMax());
+    }
+
+    @Test
+    void percentileUsesNearestRank() {
+        PingHistory history = new PingHistory(20);
+        for (int i = 1; i <= 20; i++) {
+            history.add(i, i);
+        }
+
+        assertEquals(19, history.getPercentile(95));
+        assertEquals(10, history.getPercentile(50));
+        assertEquals(20, history.getPercentile(100));
+    }
+
+    @Test
+    void emptyHistoryHasNoValues() {
+        PingHistory history = new PingHistory();
+        history.add(1L, 10);
+        history.clear();
+
+        assertTrue(history.isEmpty());
+        assertEquals(-1, history.getMin());
+        assertEquals(-1, history.getMax());
+        assertEquals(-1, history.getPercentile(95));
+    }
+}
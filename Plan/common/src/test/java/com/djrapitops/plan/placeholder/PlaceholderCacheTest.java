@@ -0,0 +1,69 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PlaceholderCacheTest {
+
+    private final PlaceholderCache underTest = new PlaceholderCache();
+
+    @Test
+    void playerContainerIsLoadedOnce() {
+        UUID playerUUID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        PlayerContainer first = underTest.getPlayerContainer(playerUUID, uuid -> {
+            loads.incrementAndGet();
+            return new PlayerContainer();
+        });
+        PlayerContainer second = underTest.getPlayerContainer(playerUUID, uuid -> {
+            loads.incrementAndGet();
+            return new PlayerContainer();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void valuesAreLoadedAgainAfterInvalidation() {
+        UUID playerUUID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        underTest.getPlayerContainer(playerUUID, uuid -> {
+            loads.incrementAndGet();
+            return new PlayerContainer();
+        });
+        underTest.getStaticValue("players_total:", key -> loads.incrementAndGet());
+        underTest.invalidate(playerUUID);
+        underTest.getPlayerContainer(playerUUID, uuid -> {
+            loads.incrementAndGet();
+            return new PlayerContainer();
+        });
+        underTest.getStaticValue("players_total:", key -> loads.incrementAndGet());
+
+        assertEquals(4, loads.get());
+    }
+}
@@ -21,6 +21,7 @@ import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
@@ -30,6 +31,7 @@ import com.djrapitops.plan.settings.config.Config;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.FormatSettings;
 import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
@@ -42,6 +44,7 @@ import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.JoinAddressTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.GroupCommitTransaction;
 import com.djrapitops.plan.storage.database.transactions.StoreConfigTransaction;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -417,4 +420,39 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         Set<UserInfo> result = db().query(UserInfoQueries.fetchUserInformationOfUser(playerUUID));
         assertEquals(expected, result);
     }
+
+    @Test
+    default void groupCommitIsRolledBackWhenMemberFails() {
+        StoreWorldNameTransaction first = new StoreWorldNameTransaction(serverUUID(), "GroupWorld1");
+        Transaction failing = new Transaction() {
+            @Override
+            protected void performOperations() {
+                throw new DBOpException("Test failure");
+            }
+        };
+        StoreWorldNameTransaction last = new StoreWorldNameTransaction(serverUUID(), "GroupWorld2");
+        GroupCommitTransaction group = new GroupCommitTransaction(List.of(first, failing, last));
+
+        assertThrows(DBOpException.class, () -> group.executeTransaction((SQLDB) db()));
+        assertTrue(group.wasRolledBack());
+        assertFalse(first.wasSuccessful());
+
+        Collection<String> worldNames = db().query(LargeFetchQueries.fetchAllWorldNames())
+                .getOrDefault(serverUUID(), Collections.emptyList());
+        assertFalse(worldNames.contains("GroupWorld1"), () -> "Operations before the failure were not rolled back: " + worldNames);
+    }
+
+    @Test
+    default void groupCommitMarksMembersSuccessful() {
+        StoreWorldNameTransaction first = new StoreWorldNameTransaction(serverUUID(), "GroupWorld1");
+        StoreWorldNameTransaction second = new StoreWorldNameTransaction(serverUUID(), "GroupWorld2");
+        GroupCommitTransaction group = new GroupCommitTransaction(List.of(first, second));
+
+        group.executeTransaction((SQLDB) db());
+        assertTrue(first.wasSuccessful());
+        assertTrue(second.wasSuccessful());
+
+        Collection<String> worldNames = db().query(LargeFetchQueries.fetchAllWorldNames()).get(serverUUID());
+        assertTrue(worldNames.containsAll(List.of("GroupWorld1", "GroupWorld2")), () -> "Missing world names: " + worldNames);
+    }
 }
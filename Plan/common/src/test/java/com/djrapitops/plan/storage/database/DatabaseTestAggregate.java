@@ -23,6 +23,8 @@ import com.djrapitops.plan.storage.database.queries.analysis.TopListQueriesTest;
 import com.djrapitops.plan.storage.database.queries.objects.PluginMetadataQueriesTest;
 import com.djrapitops.plan.storage.database.transactions.commands.ChangeUserUUIDTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.commands.CombineUserTransactionTest;
+import com.djrapitops.plan.storage.database.transactions.patches.ActivePlaytimeUniqueIndexPatchTest;
+import com.djrapitops.plan.storage.database.transactions.patches.WorldsUniqueIndexPatchTest;
 import com.djrapitops.plan.storage.database.transactions.patches.AfterBadJoinAddressDataCorrectionPatchTest;
 import com.djrapitops.plan.storage.database.transactions.patches.BadJoinAddressDataCorrectionPatchTest;
 
@@ -46,6 +48,8 @@ public interface DatabaseTestAggregate extends
         ExtensionQueryResultTableDataQueryTest,
         BadJoinAddressDataCorrectionPatchTest,
         AfterBadJoinAddressDataCorrectionPatchTest,
+        ActivePlaytimeUniqueIndexPatchTest,
+        WorldsUniqueIndexPatchTest,
         PlayerRetentionQueriesTest,
         PluginMetadataQueriesTest {
     /* Collects all query tests together so its easier to implement database tests */
@@ -16,13 +16,17 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
@@ -38,9 +42,7 @@ import utilities.TestConstants;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -266,4 +268,60 @@ public interface ActivityIndexQueriesTest extends DatabaseTestPreparer {
         Integer result = db().query(ActivityIndexQueries.fetchRegularPlayerCount(System.currentTimeMillis(), serverUUID(), playtimeThreshold));
         assertEquals(expected, result);
     }
-}
\ No newline at end of file
+
+    @RepeatedTest(3)
+    default void activityIndexGroupingsOnMultipleDatesMatchSingleDateQueries() {
+        storeSessions(session -> true);
+        long now = System.currentTimeMillis();
+        long playtimeThreshold = TimeUnit.HOURS.toMillis(5L);
+        List<Long> dates = new ArrayList<>();
+        for (long time = now; time >= now - TimeUnit.DAYS.toMillis(56L); time -= TimeUnit.DAYS.toMillis(7L)) {
+            dates.add(time);
+        }
+
+        DateMap<Map<String, Integer>> serverGroupings = db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, serverUUID(), playtimeThreshold));
+        DateMap<Map<String, Integer>> networkGroupings = db().query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, playtimeThreshold));
+        for (Long date : dates) {
+            assertEquals(db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(date, serverUUID(), playtimeThreshold)), serverGroupings.get(date));
+            assertEquals(db().query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(date, playtimeThreshold)), networkGroupings.get(date));
+        }
+    }
+
+    @RepeatedTest(3)
+    default void activityIndexGroupingsOfPlayersOnMultipleDatesMatchSingleDateQueries() {
+        storeSessions(session -> true);
+        long now = System.currentTimeMillis();
+        long playtimeThreshold = TimeUnit.HOURS.toMillis(5L);
+        List<Long> dates = new ArrayList<>();
+        for (long time = now; time >= now - TimeUnit.DAYS.toMillis(56L); time -= TimeUnit.DAYS.toMillis(7L)) {
+            dates.add(time);
+        }
+        Set<Integer> userIds = db().query(UserIdentifierQueries.fetchAllUserIds());
+        List<ServerUUID> serverUUIDs = List.of(serverUUID());
+
+        DateMap<Map<String, Integer>> groupings = db().query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, playtimeThreshold, userIds, serverUUIDs));
+        for (Long date : dates) {
+            assertEquals(db().query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(date, playtimeThreshold, userIds, serverUUIDs)), groupings.get(date));
+        }
+    }
+
+    @RepeatedTest(3)
+    default void activityIndexGroupingsOnDatesNotAWeekApartMatchSingleDateQueries() {
+        storeSessions(session -> true);
+        long now = System.currentTimeMillis();
+        long playtimeThreshold = TimeUnit.HOURS.toMillis(5L);
+        List<Long> dates = new ArrayList<>();
+        for (long time = now; time >= now - TimeUnit.DAYS.toMillis(30L); time -= TimeUnit.DAYS.toMillis(3L) + TimeUnit.HOURS.toMillis(5L)) {
+            dates.add(time);
+        }
+        Set<Integer> userIds = db().query(UserIdentifierQueries.fetchAllUserIds());
+        List<ServerUUID> serverUUIDs = List.of(serverUUID());
+
+        DateMap<Map<String, Integer>> serverGroupings = db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, serverUUID(), playtimeThreshold));
+        DateMap<Map<String, Integer>> playerGroupings = db().query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, playtimeThreshold, userIds, serverUUIDs));
+        for (Long date : dates) {
+            assertEquals(db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(date, serverUUID(), playtimeThreshold)), serverGroupings.get(date));
+            assertEquals(db().query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(date, playtimeThreshold, userIds, serverUUIDs)), playerGroupings.get(date));
+        }
+    }
+}
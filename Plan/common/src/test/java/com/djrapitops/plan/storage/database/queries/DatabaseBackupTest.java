@@ -39,10 +39,11 @@ import utilities.TestConstants;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public interface DatabaseBackupTest extends DatabaseTestPreparer {
 
@@ -111,6 +112,35 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
         }
     }
 
+    @Test
+    default void backupCopiesLargeTablesInChunks() throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "backup-", ".db").toFile();
+        tempFile.deleteOnExit();
+        SQLiteDB backup = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        try {
+            backup.init();
+
+            saveDataForBackup();
+            for (int i = 0; i < 5; i++) {
+                db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+            }
+
+            List<Long> progress = new ArrayList<>();
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup, 2, (copied, total) -> {
+                progress.add(copied);
+                assertTrue(copied <= total);
+            }));
+
+            assertQueryResultIsEqual(db(), backup, SessionQueries.fetchAllSessions());
+            assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllTPSData());
+            assertQueryResultIsEqual(db(), backup, PingQueries.fetchAllPingData());
+            assertFalse(progress.isEmpty());
+        } finally {
+            backup.close();
+        }
+    }
+
     default <T> void assertQueryResultIsEqual(Database one, Database two, Query<T> query) {
         assertEquals(one.query(query), two.query(query));
     }
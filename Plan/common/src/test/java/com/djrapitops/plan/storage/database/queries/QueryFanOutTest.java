@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.storage.database.Database;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link QueryFanOut}.
+ *
+ * @author AuroraLS3
+ */
+class QueryFanOutTest {
+
+    private Database database;
+    private QueryFanOut underTest;
+
+    @BeforeEach
+    void setUp() {
+        database = Mockito.mock(Database.class);
+        when(database.query(any())).thenAnswer(invocation -> invocation.<Query<?>>getArgument(0).executeQuery(null));
+        underTest = new QueryFanOut(database);
+    }
+
+    private void executeAsyncQueriesImmediately() {
+        when(database.queryAsync(any())).thenAnswer(invocation -> {
+            Query<?> query = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(query.executeQuery(null));
+        });
+    }
+
+    private AtomicReference<Query<?>> holdAsyncQueries() {
+        AtomicReference<Query<?>> queued = new AtomicReference<>();
+        when(database.queryAsync(any())).thenAnswer(invocation -> {
+            queued.set(invocation.getArgument(0));
+            return new CompletableFuture<>();
+        });
+        return queued;
+    }
+
+    @Test
+    void resultOfAsyncQueryIsReturned() {
+        executeAsyncQueriesImmediately();
+
+        Supplier<String> result = underTest.submit(db -> "result");
+
+        assertEquals("result", result.get());
+        verify(database, never()).query(any());
+    }
+
+    @Test
+    void queryThatHasNotStartedIsExecutedOnCallingThread() {
+        AtomicReference<Query<?>> queued = holdAsyncQueries();
+        AtomicInteger executions = new AtomicInteger();
+
+        Supplier<Integer> result = underTest.submit(db -> executions.incrementAndGet());
+
+        assertEquals(1, result.get());
+        // Thread pool reaching the query later does not execute it again.
+        queued.get().executeQuery(null);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void exceptionOfAsyncQueryIsUnwrapped() {
+        executeAsyncQueriesImmediately();
+
+        Supplier<Object> result = underTest.submit(db -> {
+            throw new IllegalStateException("Test failure");
+        });
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, result::get);
+        assertEquals("Test failure", thrown.getMessage());
+    }
+
+    @Test
+    void exceptionOfQueryOnCallingThreadIsThrown() {
+        holdAsyncQueries();
+
+        Supplier<Object> result = underTest.submit(db -> {
+            throw new IllegalStateException("Test failure");
+        });
+
+        assertThrows(IllegalStateException.class, result::get);
+    }
+
+    @Test
+    void errorOfAsyncQueryIsNotUnwrapped() {
+        executeAsyncQueriesImmediately();
+
+        Supplier<Object> result = underTest.submit(db -> {
+            throw new AssertionError("Test failure");
+        });
+
+        CompletionException thrown = assertThrows(CompletionException.class, result::get);
+        assertInstanceOf(AssertionError.class, thrown.getCause());
+    }
+}
@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.identification.Server;
@@ -28,7 +29,10 @@ import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.TablePlayerSort;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.TablePlayersPage;
 import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
@@ -428,6 +432,93 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, got);
     }
 
+    @Test
+    default void asyncPlayerContainerHasSameDataAsBlockingContainer() throws Exception {
+        prepareForSessionSave();
+        RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID)
+                .forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+
+        PlayerContainer expected = db().query(new PlayerContainerQuery(playerUUID));
+        PlayerContainer loaded = new PlayerContainerQuery(playerUUID)
+                .executeAsync(db(), List.of(PlayerKeys.NAME, PlayerKeys.SESSIONS, PlayerKeys.PLAYER_KILLS, PlayerKeys.GEO_INFO))
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(expected.getValue(PlayerKeys.NAME), loaded.getValue(PlayerKeys.NAME));
+        assertEquals(expected.getValue(PlayerKeys.SESSIONS), loaded.getValue(PlayerKeys.SESSIONS));
+        assertEquals(expected.getValue(PlayerKeys.PLAYER_KILLS), loaded.getValue(PlayerKeys.PLAYER_KILLS));
+        assertEquals(expected.getValue(PlayerKeys.GEO_INFO), loaded.getValue(PlayerKeys.GEO_INFO));
+        assertEquals(expected.getValue(PlayerKeys.NICKNAMES), loaded.getValue(PlayerKeys.NICKNAMES));
+    }
+
+    @Test
+    default void sessionCountPerDayOfWeekAndHourMatchesSessionStarts() {
+        prepareForSessionSave();
+        List<FinishedSession> sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        sessions.forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+
+        int[][] expected = new int[7][24];
+        for (FinishedSession session : sessions) {
+            Calendar start = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            start.setTimeInMillis(session.getStart());
+            int dayOfWeek = (start.get(Calendar.DAY_OF_WEEK) + 5) % 7; // Monday is 0
+            expected[dayOfWeek][start.get(Calendar.HOUR_OF_DAY)]++;
+        }
+
+        int[][] result = db().query(SessionQueries.sessionCountPerDayOfWeekAndHour(0L, Long.MAX_VALUE, 0L, serverUUID()));
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    default void serverPlayersTablePagesDoNotOverlap() {
+        prepareForSessionSave();
+        TablePlayerSort sort = new TablePlayerSort(TablePlayerSort.Column.PLAYER_NAME, false);
+        long time = System.currentTimeMillis();
+
+        List<TablePlayer> firstPage = db().query(new ServerTablePlayersQuery(serverUUID(), time, 0L, new TablePlayersPage(1, 0, sort, null)));
+        List<TablePlayer> secondPage = db().query(new ServerTablePlayersQuery(serverUUID(), time, 0L, new TablePlayersPage(1, 1, sort, null)));
+
+        assertEquals(1, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertEquals(TestConstants.PLAYER_ONE_NAME, firstPage.get(0).getName().orElse(null));
+        assertEquals(TestConstants.PLAYER_TWO_NAME, secondPage.get(0).getName().orElse(null));
+    }
+
+    @Test
+    default void serverPlayersTableIsFilteredByName() {
+        prepareForSessionSave();
+        TablePlayersPage page = new TablePlayersPage(10, 0, TablePlayerSort.lastSeenFirst(), "PLAYER_T");
+        ServerTablePlayersQuery query = new ServerTablePlayersQuery(serverUUID(), System.currentTimeMillis(), 0L, page);
+
+        List<TablePlayer> found = db().query(query);
+
+        assertEquals(1, found.size());
+        assertEquals(TestConstants.PLAYER_TWO_NAME, found.get(0).getName().orElse(null));
+        assertEquals(1, db().query(query.countPlayers()));
+    }
+
+    @Test
+    default void playersTableNameFilterEscapesWildcards() {
+        prepareForSessionSave();
+        TablePlayersPage page = new TablePlayersPage(10, 0, TablePlayerSort.lastSeenFirst(), "%");
+        NetworkTablePlayersQuery query = new NetworkTablePlayersQuery(System.currentTimeMillis(), 0L, page);
+
+        assertEquals(Collections.emptyList(), db().query(query));
+        assertEquals(0, db().query(query.countPlayers()));
+    }
+
+    @Test
+    default void networkPlayersTableStreamsSameRowsAsList() {
+        prepareForSessionSave();
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        NetworkTablePlayersQuery query = new NetworkTablePlayersQuery(System.currentTimeMillis(), 0L, 10);
+
+        List<TablePlayer> streamed = new ArrayList<>();
+        int count = db().query(query.forEachPlayer(streamed::add));
+
+        assertEquals(2, count);
+        assertEquals(db().query(query), streamed);
+    }
+
     @RepeatedTest(value = 3, name = "Players table and player page Activity Index calculations match {currentRepetition}/{totalRepetitions}")
     default void playersTableAndPlayerPageActivityIndexMatches() {
         prepareForSessionSave();
@@ -485,4 +576,15 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         Map<String, Long> results = db().query(SessionQueries.playtimePerServer(Long.MIN_VALUE, Long.MAX_VALUE));
         assertEquals(expected, results);
     }
+
+    @Test
+    default void lastSeenOfRegisteredPlayerIsEmptyForRemovedPlayer() {
+        prepareForSessionSave();
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        db().executeTransaction(new StoreSessionTransaction(session));
+
+        assertEquals(Optional.of(session.getEnd()), db().query(SessionQueries.lastSeenOfRegisteredPlayer(playerUUID)));
+        assertEquals(Optional.of(0L), db().query(SessionQueries.lastSeenOfRegisteredPlayer(player2UUID)));
+        assertEquals(Optional.empty(), db().query(SessionQueries.lastSeenOfRegisteredPlayer(UUID.randomUUID())));
+    }
 }
@@ -31,11 +31,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import utilities.RandomData;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -139,4 +141,83 @@ public interface TPSQueriesTest extends DatabaseTestPreparer {
         assertTrue(result.isPresent());
         assertEquals(stored2.getDate(), result.get());
     }
+
+    @Test
+    default void averagesOverLongRangesMatchRawData() {
+        long start = TimeUnit.DAYS.toMillis(100L) + TimeUnit.MINUTES.toMillis(17L);
+        List<TPS> tpsData = new ArrayList<>();
+        for (int i = 0; i < 3 * 24 * 60; i += 7) {
+            long date = start + TimeUnit.MINUTES.toMillis(i);
+            tpsData.add(TPSBuilder.get().date(date)
+                    .tps(i % 50 == 0 ? -1 : i % 20)
+                    .usedCPU(i % 100)
+                    .usedMemory(i * 1000L)
+                    .toTPS());
+        }
+        for (TPS tps : tpsData) {
+            db().executeTransaction(new TPSStoreTransaction(serverUUID(), tps));
+        }
+
+        long after = start + TimeUnit.HOURS.toMillis(5L) + 1234L;
+        long before = start + TimeUnit.HOURS.toMillis(60L) + 5678L;
+        double expectedTPS = tpsData.stream()
+                .filter(tps -> tps.getDate() > after && tps.getDate() < before && tps.getTicksPerSecond() >= 0)
+                .mapToDouble(TPS::getTicksPerSecond)
+                .average().orElse(0.0);
+        double expectedCPU = tpsData.stream()
+                .filter(tps -> tps.getDate() > after && tps.getDate() < before)
+                .mapToDouble(TPS::getCPUUsage)
+                .average().orElse(0.0);
+        long expectedRAM = (long) tpsData.stream()
+                .filter(tps -> tps.getDate() > after && tps.getDate() < before)
+                .mapToLong(TPS::getUsedMemory)
+                .average().orElse(0.0);
+
+        assertEquals(expectedTPS, db().query(TPSQueries.averageTPS(after, before, serverUUID())), 0.0001);
+        assertEquals(expectedCPU, db().query(TPSQueries.averageCPU(after, before, serverUUID())), 0.0001);
+        assertEquals(expectedRAM, db().query(TPSQueries.averageRAM(after, before, serverUUID())), 1.0);
+    }
+
+    @Test
+    default void hourlyResolutionIsReadFromRollups() {
+        long start = TimeUnit.DAYS.toMillis(100L);
+        List<TPS> tpsData = new ArrayList<>();
+        for (int i = 0; i < 5 * 60; i += 3) {
+            tpsData.add(TPSBuilder.get().date(start + TimeUnit.MINUTES.toMillis(i))
+                    .tps(20.0 - i % 13)
+                    .playersOnline(i % 17)
+                    .toTPS());
+        }
+        for (TPS tps : tpsData) {
+            db().executeTransaction(new TPSStoreTransaction(serverUUID(), tps));
+        }
+
+        long hour = TimeUnit.HOURS.toMillis(1L);
+        List<TPS> result = db().query(TPSQueries.fetchTPSDataOfServerInResolution(start, start + 5 * hour, hour, serverUUID()));
+        assertEquals(5, result.size());
+        for (TPS hourly : result) {
+            List<TPS> ofHour = tpsData.stream()
+                    .filter(tps -> tps.getDate() >= hourly.getDate() && tps.getDate() < hourly.getDate() + hour)
+                    .collect(Collectors.toList());
+            assertEquals(ofHour.stream().mapToDouble(TPS::getTicksPerSecond).min().orElse(-1), hourly.getTicksPerSecond());
+            assertEquals(ofHour.stream().mapToInt(TPS::getPlayers).max().orElse(-1), hourly.getPlayers());
+        }
+    }
+
+    @Test
+    default void hourlyResolutionDoesNotIncludeHourThatStartedBeforeRange() {
+        long start = TimeUnit.DAYS.toMillis(100L);
+        for (int i = 0; i < 3 * 60; i += 3) {
+            db().executeTransaction(new TPSStoreTransaction(serverUUID(), TPSBuilder.get()
+                    .date(start + TimeUnit.MINUTES.toMillis(i))
+                    .tps(20.0)
+                    .playersOnline(i)
+                    .toTPS()));
+        }
+
+        long hour = TimeUnit.HOURS.toMillis(1L);
+        List<TPS> result = db().query(TPSQueries.fetchTPSDataOfServerInResolution(start + hour / 2, start + 3 * hour, hour, serverUUID()));
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(hourly -> hourly.getDate() >= start + hour));
+    }
 }
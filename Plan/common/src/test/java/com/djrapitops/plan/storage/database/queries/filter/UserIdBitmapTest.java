@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserIdBitmapTest {
+
+    @Test
+    void duplicatesAreIgnored() {
+        UserIdBitmap bitmap = UserIdBitmap.of(5, 1, 5, 3, 1);
+        assertEquals(3, bitmap.getCardinality());
+        assertEquals(Set.of(1, 3, 5), bitmap.toSet());
+    }
+
+    @Test
+    void sparseSetsAreIntersected() {
+        UserIdBitmap first = UserIdBitmap.of(1, 2, 3, 70000, 140000);
+        UserIdBitmap second = UserIdBitmap.of(2, 3, 4, 140000);
+        assertEquals(Set.of(2, 3, 140000), first.and(second).toSet());
+    }
+
+    @Test
+    void denseSetsAreIntersected() {
+        Set<Integer> even = range(0, 20000).stream().filter(i -> i % 2 == 0).collect(Collectors.toSet());
+        Set<Integer> thirds = range(0, 20000).stream().filter(i -> i % 3 == 0).collect(Collectors.toSet());
+
+        Set<Integer> expected = new HashSet<>(even);
+        expected.retainAll(thirds);
+
+        UserIdBitmap result = UserIdBitmap.of(even).and(UserIdBitmap.of(thirds));
+        assertEquals(expected, result.toSet());
+        assertEquals(expected.size(), result.getCardinality());
+    }
+
+    @Test
+    void denseAndSparseSetsAreIntersected() {
+        UserIdBitmap dense = UserIdBitmap.of(range(0, 10000));
+        UserIdBitmap sparse = UserIdBitmap.of(-1, 5, 9999, 10000, 65536);
+        assertEquals(Set.of(5, 9999), dense.and(sparse).toSet());
+        assertEquals(Set.of(5, 9999), sparse.and(dense).toSet());
+    }
+
+    @Test
+    void disjointSetsResultInEmptyBitmap() {
+        UserIdBitmap result = UserIdBitmap.of(range(0, 5000)).and(UserIdBitmap.of(range(5000, 10000)));
+        assertTrue(result.isEmpty());
+        assertEquals(UserIdBitmap.empty(), result);
+    }
+
+    @Test
+    void containsMatchesSource() {
+        UserIdBitmap bitmap = UserIdBitmap.of(range(100, 6000));
+        assertTrue(bitmap.contains(100));
+        assertTrue(bitmap.contains(5999));
+        assertFalse(bitmap.contains(99));
+        assertFalse(bitmap.contains(6000));
+    }
+
+    private static Set<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toSet());
+    }
+}
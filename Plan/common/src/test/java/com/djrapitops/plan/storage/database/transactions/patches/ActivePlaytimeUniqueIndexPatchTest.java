@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface ActivePlaytimeUniqueIndexPatchTest extends DatabaseTestPreparer {
+
+    @Test
+    default void duplicateDaysAreCombinedBeforeUniqueIndexIsCreated() {
+        Database db = db();
+        db.executeTransaction(new StoreServerPlayerTransaction(playerUUID, 0L, TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db.executeTransaction(new Patch() {
+            @Override
+            public boolean hasBeenApplied() {
+                return false;
+            }
+
+            @Override
+            public void applyPatch() {
+                // The table is created again without the unique constraint, since the constraint can't be dropped on SQLite.
+                dropTable(ActivePlaytimeTable.TABLE_NAME);
+                execute(CreateTableBuilder.create(ActivePlaytimeTable.TABLE_NAME, dbType)
+                        .column(ActivePlaytimeTable.ID, Sql.INT).primaryKey()
+                        .column(ActivePlaytimeTable.USER_ID, Sql.INT).notNull()
+                        .column(ActivePlaytimeTable.SERVER_ID, Sql.INT).notNull()
+                        .column(ActivePlaytimeTable.DATE, Sql.LONG).notNull()
+                        .column(ActivePlaytimeTable.ACTIVE_PLAYTIME, Sql.LONG).notNull()
+                        .foreignKey(ActivePlaytimeTable.USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                        .foreignKey(ActivePlaytimeTable.SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                        .toString());
+            }
+        });
+        long day = ActivePlaytimeTable.getDay(System.currentTimeMillis());
+        long dayBefore = day - TimeUnit.DAYS.toMillis(1L);
+        insertActivePlaytime(day, 1000L);
+        insertActivePlaytime(day, 500L);
+        insertActivePlaytime(dayBefore, 200L);
+
+        ActivePlaytimeUniqueIndexPatch patch = new ActivePlaytimeUniqueIndexPatch();
+        db.executeTransaction(patch);
+        assertTrue(patch.wasApplied());
+
+        Map<Long, Long> expected = Map.of(day, 1500L, dayBefore, 200L);
+        Map<Long, Long> result = db.query(new QueryAllStatement<>(SELECT + ActivePlaytimeTable.DATE + ',' + ActivePlaytimeTable.ACTIVE_PLAYTIME +
+                FROM + ActivePlaytimeTable.TABLE_NAME) {
+            @Override
+            public Map<Long, Long> processResults(ResultSet set) throws SQLException {
+                Map<Long, Long> playtimePerDay = new HashMap<>();
+                while (set.next()) {
+                    // put instead of merge so that remaining duplicates fail the test
+                    Long previous = playtimePerDay.put(set.getLong(ActivePlaytimeTable.DATE), set.getLong(ActivePlaytimeTable.ACTIVE_PLAYTIME));
+                    assertNull(previous, "Duplicate day remained");
+                }
+                return playtimePerDay;
+            }
+        });
+        assertEquals(expected, result);
+    }
+
+    private void insertActivePlaytime(long day, long activePlaytime) {
+        execute(new ExecStatement(ActivePlaytimeTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setString(2, serverUUID().toString());
+                statement.setLong(3, day);
+                statement.setLong(4, activePlaytime);
+            }
+        });
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
+import com.djrapitops.plan.storage.database.sql.tables.WorldTimesTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface WorldsUniqueIndexPatchTest extends DatabaseTestPreparer {
+
+    @Test
+    default void duplicateWorldsAreRemovedBeforeUniqueIndexIsCreated() {
+        Database db = db();
+        db.executeTransaction(new Patch() {
+            @Override
+            public boolean hasBeenApplied() {
+                return false;
+            }
+
+            @Override
+            public void applyPatch() {
+                if (dbType == DBType.MYSQL) {
+                    execute("DROP INDEX " + WorldTable.UNIQUE_INDEX + " ON " + WorldTable.TABLE_NAME);
+                } else {
+                    // SQLite can't drop table constraints, so the empty tables are created again without it.
+                    dropTable(WorldTimesTable.TABLE_NAME);
+                    dropTable(WorldTable.TABLE_NAME);
+                    execute(CreateTableBuilder.create(WorldTable.TABLE_NAME, dbType)
+                            .column(WorldTable.ID, Sql.INT).primaryKey()
+                            .column(WorldTable.NAME, Sql.varchar(100)).notNull()
+                            .column(WorldTable.SERVER_UUID, Sql.varchar(36)).notNull()
+                            .toString());
+                    execute(WorldTimesTable.createTableSQL(dbType));
+                }
+            }
+        });
+        executeTransactions(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        executeTransactions(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        executeTransactions(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+
+        execute(new ExecStatement(WorldTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, worlds[0]);
+                statement.setString(2, serverUUID().toString());
+            }
+        });
+        execute(new ExecStatement("UPDATE " + WorldTimesTable.TABLE_NAME + " SET " + WorldTimesTable.WORLD_ID +
+                "=(" + SELECT + "MAX(" + WorldTable.ID + ")" + FROM + WorldTable.TABLE_NAME + ")") {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                /* Nothing to prepare */
+            }
+        });
+
+        WorldsUniqueIndexPatch patch = new WorldsUniqueIndexPatch();
+        db.executeTransaction(patch);
+        assertTrue(patch.wasApplied());
+
+        Map<String, Integer> expected = Map.of(worlds[0], 1, worlds[1], 1);
+        Map<String, Integer> result = db.query(new QueryAllStatement<>(SELECT + WorldTable.NAME + ",COUNT(1) as c" +
+                FROM + WorldTable.TABLE_NAME +
+                GROUP_BY + WorldTable.NAME) {
+            @Override
+            public Map<String, Integer> processResults(ResultSet set) throws SQLException {
+                Map<String, Integer> countPerWorld = new HashMap<>();
+                while (set.next()) {
+                    countPerWorld.put(set.getString(WorldTable.NAME), set.getInt("c"));
+                }
+                return countPerWorld;
+            }
+        });
+        assertEquals(expected, result);
+
+        int worldTimesWithoutWorld = db.query(new QueryStatement<>(SELECT + "COUNT(1) as c" +
+                FROM + WorldTimesTable.TABLE_NAME +
+                WHERE + WorldTimesTable.WORLD_ID + " NOT IN (" + SELECT + WorldTable.ID + FROM + WorldTable.TABLE_NAME + ")") {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                /* Nothing to prepare */
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : -1;
+            }
+        });
+        assertEquals(0, worldTimesWithoutWorld);
+    }
+}
@@ -67,13 +67,14 @@ public class FabricAFKListener implements FabricListener {
             UUID uuid = player.getUuid();
             long time = System.currentTimeMillis();
 
-            boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> checkPermission(player, com.djrapitops.plan.settings.Permissions.IGNORE_AFK.getPermission()));
+            Boolean ignored = ignorePermissionInfo.get(uuid);
+            if (ignored == null) {
+                ignored = checkPermission(player, com.djrapitops.plan.settings.Permissions.IGNORE_AFK.getPermission());
+                ignorePermissionInfo.put(uuid, ignored);
+            }
             if (ignored) {
                 afkTracker.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
                 return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
             afkTracker.performedAction(uuid, time);
@@ -24,7 +24,7 @@
 package net.playeranalytics.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.timed.PingHistory;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -53,7 +53,7 @@ import java.util.concurrent.TimeUnit;
 public class FabricPingCounter extends TaskSystem.Task implements FabricListener {
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingHistory> playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -98,12 +98,12 @@ public class FabricPingCounter extends TaskSystem.Task implements FabricListener
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingHistory>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingHistory> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingHistory history = entry.getValue();
             ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
             if (player != null) {
                 int ping = getPing(player);
@@ -111,10 +111,10 @@ public class FabricPingCounter extends TaskSystem.Task implements FabricListener
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
+                history.add(time, ping);
+                if (history.isFull()) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, history.toPing(serverInfo.getServerUUID()))
                     );
                     history.clear();
                 }
@@ -137,7 +137,7 @@ public class FabricPingCounter extends TaskSystem.Task implements FabricListener
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.put(uuid, new PingHistory());
     }
 
     public void removePlayer(ServerPlayerEntity player) {
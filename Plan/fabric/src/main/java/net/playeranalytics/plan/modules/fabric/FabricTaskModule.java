@@ -21,6 +21,7 @@ import com.djrapitops.plan.delivery.web.ResourceWriteTask;
 import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieExpiryCleanupTask;
 import com.djrapitops.plan.delivery.webserver.cache.JSONFileStorage;
 import com.djrapitops.plan.delivery.webserver.configuration.AddressAllowList;
+import com.djrapitops.plan.delivery.webserver.http.AccessLogger;
 import com.djrapitops.plan.extension.ExtensionServerDataUpdater;
 import com.djrapitops.plan.gathering.ShutdownDataPreservation;
 import com.djrapitops.plan.gathering.ShutdownHook;
@@ -96,6 +97,10 @@ public interface FabricTaskModule {
     @IntoSet
     TaskSystem.Task bindActiveCookieStoreExpiryTask(ActiveCookieExpiryCleanupTask activeCookieExpiryCleanupTask);
 
+    @Binds
+    @IntoSet
+    TaskSystem.Task bindAccessLogFlushTask(AccessLogger.FlushTask accessLogFlushTask);
+
     @Binds
     @IntoSet
     TaskSystem.Task bindAddressAllowListUpdateTask(AddressAllowList addressAllowList);
@@ -30,7 +30,6 @@ import cn.nukkit.event.Listener;
 import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -59,7 +58,7 @@ import java.util.concurrent.TimeUnit;
 public class NukkitPingCounter extends TaskSystem.Task implements Listener {
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingHistory> playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -94,12 +93,12 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingHistory>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingHistory> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingHistory history = entry.getValue();
             Optional<Player> player = Server.getInstance().getPlayer(uuid);
             if (player.isPresent()) {
                 int ping = player.get().getPing();
@@ -107,10 +106,10 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
+                history.add(time, ping);
+                if (history.isFull()) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, history.toPing(serverInfo.getServerUUID()))
                     );
                     history.clear();
                 }
@@ -132,7 +131,7 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.put(uuid, new PingHistory());
     }
 
     public void removePlayer(Player player) {
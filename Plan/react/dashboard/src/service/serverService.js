@@ -1,4 +1,5 @@
 import {doGetRequest, staticSite} from "./backendConfiguration";
+import {expandColumnarGraph} from "../util/graphs";
 
 export const fetchServerIdentity = async (timestamp, identifier) => {
     let url = `/v1/serverIdentity?server=${identifier}`;
@@ -127,9 +128,9 @@ export const fetchPlayersOnlineGraph = async (timestamp, identifier) => {
 }
 
 const fetchPlayersOnlineGraphServer = async (timestamp, identifier) => {
-    let url = `/v1/graph?type=playersOnline&server=${identifier}`;
+    let url = `/v1/graph?type=playersOnline&server=${identifier}&format=columnar`;
     if (staticSite) url = `/data/graph-playersOnline_${identifier}.json`;
-    return doGetRequest(url, timestamp);
+    return doGetColumnarGraphRequest(url, timestamp);
 }
 
 const fetchPlayersOnlineGraphNetwork = async (timestamp) => {
@@ -243,9 +244,14 @@ const fetchGeolocationsNetwork = async (timestamp) => {
 }
 
 export const fetchOptimizedPerformance = async (timestamp, identifier) => {
-    let url = `/v1/graph?type=optimizedPerformance&server=${identifier}`;
+    let url = `/v1/graph?type=optimizedPerformance&server=${identifier}&format=columnar`;
     if (staticSite) url = `/data/graph-optimizedPerformance_${identifier}.json`;
-    return doGetRequest(url, timestamp);
+    return doGetColumnarGraphRequest(url, timestamp);
+}
+
+const doGetColumnarGraphRequest = async (url, timestamp) => {
+    const response = await doGetRequest(url, timestamp);
+    return {...response, data: expandColumnarGraph(response.data)};
 }
 
 export const fetchPingGraph = async (timestamp, identifier) => {
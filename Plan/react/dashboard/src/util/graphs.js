@@ -61,6 +61,35 @@ export const mapPerformanceDataToSeries = performanceData => {
     }))
 };
 
+const decodeColumnarDates = columnar => {
+    const dates = new Array(columnar.dateDeltas.length);
+    let date = columnar.start - columnar.step;
+    for (let i = 0; i < dates.length; i++) {
+        date += columnar.step + columnar.dateDeltas[i];
+        dates[i] = date;
+    }
+    return dates;
+}
+
+// Expands 'format=columnar' graph responses back to the row format the graphs use.
+export const expandColumnarGraph = data => {
+    if (!data || !data.columnar) return data;
+
+    const columnar = data.columnar;
+    const dates = decodeColumnarDates(columnar);
+    const expanded = {...data};
+    delete expanded.columnar;
+    if (data.keys) {
+        const columns = data.keys.slice(1).map(key => columnar.series[key]);
+        expanded.values = dates.map((date, i) => [date, ...columns.map(column => column[i])]);
+    } else {
+        for (const [name, values] of Object.entries(columnar.series)) {
+            expanded[name] = dates.map((date, i) => [date, values[i]]);
+        }
+    }
+    return expanded;
+}
+
 export const yAxisConfigurations = {
     PLAYERS_ONLINE: {
         labels: {
@@ -93,13 +93,14 @@ public class SpongeAFKListener {
         UUID uuid = player.uniqueId();
         long time = System.currentTimeMillis();
 
-        boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
+        Boolean ignored = ignorePermissionInfo.get(uuid);
+        if (ignored == null) {
+            ignored = player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+            ignorePermissionInfo.put(uuid, ignored);
+        }
         if (ignored) {
             afkTracker.hasIgnorePermission(uuid);
-            ignorePermissionInfo.put(uuid, true);
             return;
-        } else {
-            ignorePermissionInfo.put(uuid, false);
         }
 
         afkTracker.performedAction(uuid, time);
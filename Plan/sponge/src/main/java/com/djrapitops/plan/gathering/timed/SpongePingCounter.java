@@ -24,7 +24,6 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -53,7 +52,7 @@ import java.util.concurrent.TimeUnit;
 public class SpongePingCounter extends TaskSystem.Task {
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingHistory> playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -88,12 +87,12 @@ public class SpongePingCounter extends TaskSystem.Task {
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingHistory>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingHistory> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingHistory history = entry.getValue();
             Optional<ServerPlayer> player = Sponge.server().player(uuid);
             if (player.isPresent()) {
                 int ping = getPing(player.get());
@@ -101,10 +100,10 @@ public class SpongePingCounter extends TaskSystem.Task {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
+                history.add(time, ping);
+                if (history.isFull()) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, history.toPing(serverInfo.getServerUUID()))
                     );
                     history.clear();
                 }
@@ -126,7 +125,7 @@ public class SpongePingCounter extends TaskSystem.Task {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.put(uuid, new PingHistory());
     }
 
     public void removePlayer(Player player) {
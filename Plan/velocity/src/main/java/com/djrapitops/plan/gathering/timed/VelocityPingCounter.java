@@ -25,7 +25,6 @@ package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.PlanVelocity;
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -57,7 +56,7 @@ import java.util.concurrent.TimeUnit;
 public class VelocityPingCounter extends TaskSystem.Task {
 
     private final Map<UUID, Long> startRecording;
-    final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    final Map<UUID, PingHistory> playerHistory;
 
     private final Listeners listeners;
     private final PlanVelocity plugin;
@@ -95,12 +94,12 @@ public class VelocityPingCounter extends TaskSystem.Task {
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingHistory>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingHistory> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingHistory history = entry.getValue();
             Player player = plugin.getProxy().getPlayer(uuid).orElse(null);
             if (player != null) {
                 int ping = getPing(player);
@@ -108,10 +107,10 @@ public class VelocityPingCounter extends TaskSystem.Task {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
+                history.add(time, ping);
+                if (history.isFull()) {
                     dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
+                            new PingStoreTransaction(uuid, history.toPing(serverInfo.getServerUUID()))
                     );
                     history.clear();
                 }
@@ -133,7 +132,7 @@ public class VelocityPingCounter extends TaskSystem.Task {
     }
 
     void addPlayer(UUID playerUuid) {
-        playerHistory.put(playerUuid, new ArrayList<>());
+        playerHistory.put(playerUuid, new PingHistory());
     }
 
     public void removePlayer(Player player) {